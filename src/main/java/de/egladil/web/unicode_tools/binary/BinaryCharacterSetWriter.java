@@ -0,0 +1,296 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.egladil.web.unicode_tools.UTF8Codepoint;
+import de.egladil.web.unicode_tools.internal.CodePointsToIntArrayMapper;
+import de.egladil.web.unicode_tools.transliteration.CharacterTransliterationProvider;
+import de.egladil.web.unicode_tools.validation.ValidatableUTF8CharacterSet;
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacterSet;
+
+/**
+ * BinaryCharacterSetWriter serializes a character set into the binary format
+ * that MappedCharacterSet serves its lookups from. All numbers are big endian.
+ * The file consists of<br>
+ * <ul>
+ * <li>a header of 32 bytes: magic, version, the maximum number of code points
+ * of a character, the number of characters, the number of supplementary single
+ * code points, the sizes of the code point pool, the name and the
+ * transliteration pool and the CRC32 of all following bytes,</li>
+ * <li>a bitmap of the valid single code points of the BMP,</li>
+ * <li>the sorted valid single code points of the supplementary planes,</li>
+ * <li>one entry per character sorted by its code points, each holding the
+ * offsets and lengths of its code points and its transliteration,</li>
+ * <li>the code point pool, the name and the transliteration pool as
+ * chars.</li>
+ * </ul>
+ * Besides the MappableCharacterSets of the xml it writes the sets compiled from
+ * them, including overlays and composed sets, as long as they can list their
+ * characters.
+ */
+public final class BinaryCharacterSetWriter {
+
+	private static final Logger LOG = LoggerFactory.getLogger(BinaryCharacterSetWriter.class);
+
+	private BinaryCharacterSetWriter() {
+	}
+
+	/**
+	 * Writes the given character set in the binary format to file. An existing
+	 * file is overwritten.
+	 *
+	 * @param characterSet MappableCharacterSet
+	 * @param file         Path
+	 * @throws IOException if the file can not be written.
+	 */
+	public static void write(MappableCharacterSet characterSet, Path file) throws IOException {
+
+		if (file == null) {
+			throw new IllegalArgumentException("file must not be null");
+		}
+
+		Files.write(file, toBytes(characterSet));
+	}
+
+	/**
+	 * Writes the characters of the given provider with their transliterations in
+	 * the binary format to file. An existing file is overwritten.
+	 *
+	 * @param provider CharacterTransliterationProvider
+	 * @param file     Path
+	 * @throws IOException if the file can not be written.
+	 */
+	public static void write(CharacterTransliterationProvider provider, Path file) throws IOException {
+
+		if (file == null) {
+			throw new IllegalArgumentException("file must not be null");
+		}
+
+		Files.write(file, toBytes(provider));
+	}
+
+	/**
+	 * Writes the valid characters of the given set in the binary format to file.
+	 * An existing file is overwritten.
+	 *
+	 * @param characterSet ValidatableUTF8CharacterSet
+	 * @param file         Path
+	 * @throws IOException if the file can not be written.
+	 */
+	public static void write(ValidatableUTF8CharacterSet characterSet, Path file) throws IOException {
+
+		if (file == null) {
+			throw new IllegalArgumentException("file must not be null");
+		}
+
+		Files.write(file, toBytes(characterSet));
+	}
+
+	/**
+	 * Serializes the given character set into the binary format. Characters whose
+	 * code points can not be parsed are ignored, characters whose transliteration
+	 * can not be parsed are kept as valid characters without transliteration.
+	 *
+	 * @param characterSet MappableCharacterSet
+	 * @return byte[]
+	 */
+	public static byte[] toBytes(MappableCharacterSet characterSet) {
+
+		if (characterSet == null) {
+			throw new IllegalArgumentException("characterSet must not be null");
+		}
+
+		if (characterSet.getItems() == null) {
+			throw new IllegalArgumentException("characterSet.items must not be null");
+		}
+
+		CodePointsToIntArrayMapper codePointMapper = new CodePointsToIntArrayMapper();
+		Map<int[], String> characters = new TreeMap<>(MappedCharacterSet::compareKeys);
+
+		for (MappableCharacter item : characterSet.getItems()) {
+
+			int[] codePoints;
+
+			try {
+				codePoints = codePointMapper.apply(new UTF8Codepoint(item.getCodePoint(), item.getSeparationChar()));
+			} catch (IllegalArgumentException e) {
+				LOG.warn("Ignoring {}: {}", item, e.getMessage());
+				continue;
+			}
+
+			String transliteration = null;
+
+			try {
+				transliteration = new UTF8Codepoint(item.getMapping(), item.getSeparationChar()).utf8();
+			} catch (IllegalArgumentException e) {
+				LOG.warn("{} has no transliteration: {}", item, e.getMessage());
+			}
+			characters.put(codePoints, transliteration);
+		}
+		return toBytes(characterSet.getName(), characters);
+	}
+
+	/**
+	 * Serializes the characters of the given provider with their transliterations
+	 * into the binary format, for instance those of an overlay or a composed
+	 * TransliterableUTF8CharacterSet.
+	 *
+	 * @param provider CharacterTransliterationProvider
+	 * @return byte[]
+	 * @throws IllegalArgumentException if the provider can not list its
+	 *                                  transliterable characters.
+	 */
+	public static byte[] toBytes(CharacterTransliterationProvider provider) {
+
+		if (provider == null) {
+			throw new IllegalArgumentException("provider must not be null");
+		}
+
+		Set<String> transliterableCharacters = provider.transliterableCharacters();
+
+		if (transliterableCharacters == null) {
+			throw new IllegalArgumentException(provider.name() + " can not list its transliterable characters");
+		}
+
+		Map<int[], String> characters = new TreeMap<>(MappedCharacterSet::compareKeys);
+
+		for (String character : transliterableCharacters) {
+			characters.put(character.codePoints().toArray(), provider.printableTransliteratedCharacter(character));
+		}
+		return toBytes(provider.name(), characters);
+	}
+
+	/**
+	 * Serializes the valid characters of the given set into the binary format.
+	 * They have no transliterations.
+	 *
+	 * @param characterSet ValidatableUTF8CharacterSet
+	 * @return byte[]
+	 */
+	public static byte[] toBytes(ValidatableUTF8CharacterSet characterSet) {
+
+		if (characterSet == null) {
+			throw new IllegalArgumentException("characterSet must not be null");
+		}
+
+		Map<int[], String> characters = new TreeMap<>(MappedCharacterSet::compareKeys);
+
+		for (String character : characterSet.validCharacters()) {
+			characters.put(character.codePoints().toArray(), null);
+		}
+		return toBytes(characterSet.name(), characters);
+	}
+
+	/**
+	 * @param characters Map code points sorted by MappedCharacterSet.compareKeys
+	 *                   to their transliteration or null.
+	 */
+	private static byte[] toBytes(String characterSetName, Map<int[], String> characters) {
+
+		BitSet bmpSingles = new BitSet(MappedCharacterSet.BMP_SIZE);
+		List<Integer> supplementarySingles = new ArrayList<>();
+		int codePointPoolSize = 0;
+		int transliterationPoolSize = 0;
+		int maxKeyLength = 0;
+
+		for (Map.Entry<int[], String> character : characters.entrySet()) {
+
+			int[] codePoints = character.getKey();
+
+			if (codePoints.length == 1 && codePoints[0] < MappedCharacterSet.BMP_SIZE) {
+				bmpSingles.set(codePoints[0]);
+			} else if (codePoints.length == 1) {
+				supplementarySingles.add(codePoints[0]);
+			}
+			codePointPoolSize += codePoints.length;
+			transliterationPoolSize += character.getValue() == null ? 0 : character.getValue().length();
+			maxKeyLength = Math.max(maxKeyLength, codePoints.length);
+		}
+
+		String name = characterSetName == null ? "" : characterSetName;
+		int size = MappedCharacterSet.HEADER_SIZE + MappedCharacterSet.BMP_BITMAP_SIZE
+				+ 4 * supplementarySingles.size() + MappedCharacterSet.ENTRY_SIZE * characters.size()
+				+ 4 * codePointPoolSize + 2 * name.length() + 2 * transliterationPoolSize;
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+
+		buffer.putInt(MappedCharacterSet.MAGIC).putShort(MappedCharacterSet.VERSION).putShort((short) maxKeyLength)
+				.putInt(characters.size()).putInt(supplementarySingles.size()).putInt(codePointPoolSize)
+				.putInt(name.length()).putInt(transliterationPoolSize).putInt(0);
+
+		byte[] bitmap = bmpSingles.toByteArray();
+		buffer.put(bitmap).position(buffer.position() + MappedCharacterSet.BMP_BITMAP_SIZE - bitmap.length);
+		supplementarySingles.forEach(buffer::putInt);
+
+		int codePointOffset = 0;
+		int transliterationOffset = 0;
+
+		for (Map.Entry<int[], String> character : characters.entrySet()) {
+
+			String transliteration = character.getValue();
+			buffer.putInt(codePointOffset).putInt(character.getKey().length).putInt(transliterationOffset)
+					.putInt(transliteration == null ? MappedCharacterSet.NO_TRANSLITERATION : transliteration.length());
+			codePointOffset += character.getKey().length;
+			transliterationOffset += transliteration == null ? 0 : transliteration.length();
+		}
+
+		for (int[] codePoints : characters.keySet()) {
+
+			for (int codePoint : codePoints) {
+				buffer.putInt(codePoint);
+			}
+		}
+
+		name.chars().forEach(c -> buffer.putChar((char) c));
+
+		for (String transliteration : characters.values()) {
+
+			if (transliteration != null) {
+				transliteration.chars().forEach(c -> buffer.putChar((char) c));
+			}
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), MappedCharacterSet.HEADER_SIZE, size - MappedCharacterSet.HEADER_SIZE);
+		buffer.putInt(MappedCharacterSet.CRC_OFFSET, (int) crc.getValue());
+		return buffer.array();
+	}
+}
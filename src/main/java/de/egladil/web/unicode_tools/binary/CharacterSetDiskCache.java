@@ -0,0 +1,445 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+import de.egladil.web.unicode_tools.xml.CharacterSetStreamReader;
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacterSet;
+
+/**
+ * CharacterSetDiskCache keeps compiled character sets as files in the format of
+ * BinaryCharacterSetWriter in a local directory, so a set whose source has been
+ * compiled once is memory-mapped on later starts instead of being parsed
+ * again. A file is named by the SHA-256 of the source and the version of the
+ * format, so changed sources and format versions never hit stale files. Files
+ * that can not be mapped, for instance because they are corrupt, are rebuilt
+ * under a fresh name, since a corrupt file may still be mapped and mapped files
+ * can not be replaced on every platform. Files are written to a temporary file
+ * and moved into place, so concurrent processes sharing the directory never
+ * see partly written files. Files of sources no longer used and of older format
+ * versions remain until retain or purge deletes them.
+ */
+public class CharacterSetDiskCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CharacterSetDiskCache.class);
+
+	private static final String FILE_EXTENSION = ".ucs";
+
+	/** the key of a source and the generation of its rebuilds, which the first file has none of. */
+	private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64}-v\\d+)(?:-(\\d{1,9}))?\\.ucs");
+
+	private final Path directory;
+
+	/**
+	 * CharacterSetDiskCache
+	 *
+	 * @param directory Path the directory of the cache files. It is created if
+	 *                  it does not exist.
+	 */
+	public CharacterSetDiskCache(Path directory) {
+
+		if (directory == null) {
+			throw new IllegalArgumentException("directory must not be null");
+		}
+
+		this.directory = directory;
+	}
+
+	/**
+	 * Gets the compiled character set of the given source. The compiler is called
+	 * only if the cache has no valid file for the source.
+	 *
+	 * @param source   byte[] the source the character set is compiled from, for
+	 *                 instance its xml.
+	 * @param compiler Supplier of the MappableCharacterSet of the source.
+	 * @return MappedCharacterSet
+	 * @throws UnicodeToolsException if the cache file can not be written.
+	 */
+	public MappedCharacterSet get(byte[] source, Supplier<? extends MappableCharacterSet> compiler) {
+
+		if (source == null) {
+			throw new IllegalArgumentException("source must not be null");
+		}
+
+		if (compiler == null) {
+			throw new IllegalArgumentException("compiler must not be null");
+		}
+
+		String key = key(source);
+		int generation = newestGeneration(key);
+
+		if (generation >= 0) {
+
+			Path file = cacheFile(key, generation);
+
+			try {
+				return MappedCharacterSet.map(file);
+			} catch (UnicodeToolsException e) {
+				LOG.warn("Rebuilding {}: {}", file, e.getMessage());
+			}
+		}
+
+		Path file = cacheFile(key, generation + 1);
+		write(file, BinaryCharacterSetWriter.toBytes(compiler.get()));
+
+		if (generation >= 0) {
+			delete(cacheFile(key, generation));
+		}
+		return MappedCharacterSet.map(file);
+	}
+
+	/**
+	 * Deletes the files of all sources except the given ones as well as files of
+	 * older format versions and files replaced by a rebuild. Files that can not
+	 * be deleted, for instance because they are still mapped on Windows, are
+	 * left for a later call.
+	 *
+	 * @param sources Collection the sources whose files are kept.
+	 * @return int the number of deleted files.
+	 * @throws UnicodeToolsException if the directory can not be listed.
+	 */
+	public int retain(Collection<byte[]> sources) {
+
+		if (sources == null) {
+			throw new IllegalArgumentException("sources must not be null");
+		}
+
+		Map<String, Integer> retainedGenerations = new HashMap<>();
+
+		for (byte[] source : sources) {
+
+			String key = key(source);
+			retainedGenerations.put(key, newestGeneration(key));
+		}
+
+		int result = 0;
+
+		for (Path file : cacheFiles()) {
+
+			Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+			matcher.matches();
+
+			if (!retainedGenerations.containsKey(matcher.group(1))
+					|| generation(matcher) != retainedGenerations.get(matcher.group(1))) {
+				result += delete(file) ? 1 : 0;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Deletes all files of the cache that are not in use.
+	 *
+	 * @return int the number of deleted files.
+	 * @throws UnicodeToolsException if the directory can not be listed.
+	 */
+	public int purge() {
+		return retain(Collections.emptyList());
+	}
+
+	/**
+	 * Gets the compiled character set of the given xml.
+	 *
+	 * @param xmlFile Path the xml of the character set.
+	 * @return MappedCharacterSet
+	 * @throws UnicodeToolsException if the xml can not be read or the cache file
+	 *                               can not be written.
+	 */
+	public MappedCharacterSet getFromXml(Path xmlFile) {
+
+		if (xmlFile == null) {
+			throw new IllegalArgumentException("xmlFile must not be null");
+		}
+
+		try {
+			return getFromXml(Files.readAllBytes(xmlFile));
+		} catch (IOException e) {
+			throw new UnicodeToolsException("could not read " + xmlFile + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Gets the compiled character set of the given xml.
+	 *
+	 * @param in InputStream the xml of the character set. It is not closed.
+	 * @return MappedCharacterSet
+	 * @throws UnicodeToolsException if the xml can not be read or the cache file
+	 *                               can not be written.
+	 */
+	public MappedCharacterSet getFromXml(InputStream in) {
+
+		if (in == null) {
+			throw new IllegalArgumentException("in must not be null");
+		}
+
+		ByteArrayOutputStream xml = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+
+		try {
+			int read;
+
+			while ((read = in.read(buffer)) != -1) {
+				xml.write(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			throw new UnicodeToolsException("could not read xml: " + e.getMessage(), e);
+		}
+		return getFromXml(xml.toByteArray());
+	}
+
+	private MappedCharacterSet getFromXml(byte[] xml) {
+		return get(xml, () -> readXml(xml));
+	}
+
+	/**
+	 * @return Path the newest cache file of the given source or the file it is
+	 *         written to first.
+	 */
+	Path cacheFile(byte[] source) {
+
+		String key = key(source);
+		return cacheFile(key, Math.max(0, newestGeneration(key)));
+	}
+
+	private Path cacheFile(String key, int generation) {
+		return directory.resolve(generation == 0 ? key + FILE_EXTENSION : key + "-" + generation + FILE_EXTENSION);
+	}
+
+	/**
+	 * @return String the SHA-256 of source in hex and the version of the format.
+	 */
+	private static String key(byte[] source) {
+
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(source);
+			StringBuilder result = new StringBuilder(2 * hash.length + 8);
+
+			for (byte b : hash) {
+				result.append(Character.forDigit((b >>> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return result.append("-v").append(MappedCharacterSet.VERSION).toString();
+
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return int the generation of the newest file of key or -1, if there is
+	 *         none.
+	 */
+	private int newestGeneration(String key) {
+
+		int result = -1;
+
+		for (Path file : cacheFiles()) {
+
+			Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+
+			if (matcher.matches() && key.equals(matcher.group(1))) {
+				result = Math.max(result, generation(matcher));
+			}
+		}
+		return result;
+	}
+
+	private static int generation(Matcher matcher) {
+		return matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+	}
+
+	/**
+	 * @return List the files of the directory named like cache files.
+	 */
+	private List<Path> cacheFiles() {
+
+		List<Path> result = new ArrayList<>();
+
+		if (!Files.isDirectory(directory)) {
+			return result;
+		}
+
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+
+			for (Path file : files) {
+
+				if (FILE_NAME.matcher(file.getFileName().toString()).matches()) {
+					result.add(file);
+				}
+			}
+		} catch (IOException e) {
+			throw new UnicodeToolsException("could not list " + directory + ": " + e.getMessage(), e);
+		}
+		return result;
+	}
+
+	/**
+	 * @return boolean true if file was deleted.
+	 */
+	private static boolean delete(Path file) {
+
+		try {
+			return Files.deleteIfExists(file);
+		} catch (IOException e) {
+			LOG.debug("Could not delete {}: {}", file, e.getMessage());
+			return false;
+		}
+	}
+
+	private void write(Path file, byte[] bytes) {
+
+		try {
+			Files.createDirectories(directory);
+			Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+			try {
+				Files.write(temporaryFile, bytes);
+
+				try {
+					move(temporaryFile, file);
+				} catch (IOException e) {
+
+					// another process has written the same file in the meantime.
+					if (!Files.isRegularFile(file)) {
+						throw e;
+					}
+				}
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (IOException e) {
+			throw new UnicodeToolsException("could not write " + file + ": " + e.getMessage(), e);
+		}
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target);
+		}
+	}
+
+	private static MappableCharacterSet readXml(byte[] xml) {
+
+		List<MappableCharacter> characters = new ArrayList<>();
+
+		try {
+			String name = CharacterSetStreamReader.read(new ByteArrayInputStream(xml),
+					character -> characters.add(new ReadCharacter(character)));
+			return new ReadCharacterSet(name, characters);
+
+		} catch (XMLStreamException e) {
+			throw new UnicodeToolsException("could not read xml: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * The characters of an xml read on a cache miss.
+	 */
+	private static final class ReadCharacterSet implements MappableCharacterSet {
+
+		private final String name;
+
+		private final List<MappableCharacter> characters;
+
+		ReadCharacterSet(String name, List<MappableCharacter> characters) {
+			this.name = name;
+			this.characters = characters;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public List<MappableCharacter> getItems() {
+			return characters;
+		}
+	}
+
+	/**
+	 * A copy of the reused character passed by CharacterSetStreamReader.
+	 */
+	private static final class ReadCharacter implements MappableCharacter {
+
+		private final String codePoint;
+
+		private final String mapping;
+
+		private final char separationChar;
+
+		ReadCharacter(MappableCharacter character) {
+			this.codePoint = character.getCodePoint();
+			this.mapping = character.getMapping();
+			this.separationChar = character.getSeparationChar();
+		}
+
+		@Override
+		public String getCodePoint() {
+			return codePoint;
+		}
+
+		@Override
+		public String getMapping() {
+			return mapping;
+		}
+
+		@Override
+		public char getSeparationChar() {
+			return separationChar;
+		}
+	}
+}
@@ -0,0 +1,494 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import de.egladil.web.unicode_tools.UTF8Codepoint;
+import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+import de.egladil.web.unicode_tools.internal.CodePointsToIntArrayMapper;
+import de.egladil.web.unicode_tools.transliteration.CharacterTransliterationProvider;
+import de.egladil.web.unicode_tools.validation.ValidationProvider;
+
+/**
+ * MappedCharacterSet serves validation and transliteration directly from a
+ * character set in the format of BinaryCharacterSetWriter. When the file is
+ * memory-mapped, nothing but the name is copied onto the heap, so loading it
+ * costs next to nothing and all JVMs mapping the same file share its pages.
+ * Single code points are looked up in a bitmap, characters by a binary search
+ * over the sorted entries. It is thread-safe.
+ */
+public final class MappedCharacterSet implements ValidationProvider, CharacterTransliterationProvider {
+
+	static final int MAGIC = 0x55544353;
+
+	static final short VERSION = 1;
+
+	static final int HEADER_SIZE = 32;
+
+	static final int CRC_OFFSET = 28;
+
+	static final int BMP_SIZE = 0x10000;
+
+	static final int BMP_BITMAP_SIZE = BMP_SIZE / 8;
+
+	static final int ENTRY_SIZE = 16;
+
+	static final int NO_TRANSLITERATION = -1;
+
+	private final ByteBuffer buffer;
+
+	private final String name;
+
+	private final int maxKeyLength;
+
+	private final int entryCount;
+
+	private final int supplementaryCount;
+
+	private final int supplementaryOffset;
+
+	private final int entriesOffset;
+
+	private final int codePointPoolOffset;
+
+	private final int transliterationPoolOffset;
+
+	/**
+	 * Memory-maps the given file.
+	 *
+	 * @param file Path
+	 * @return MappedCharacterSet
+	 * @throws UnicodeToolsException if the file can not be read or is not a valid
+	 *                               character set file.
+	 */
+	public static MappedCharacterSet map(Path file) {
+
+		if (file == null) {
+			throw new IllegalArgumentException("file must not be null");
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			long size = channel.size();
+
+			// map throws IllegalArgumentException beyond Integer.MAX_VALUE, which callers would not expect.
+			if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+				throw new UnicodeToolsException(file + " is not a character set file: it has " + size + " bytes");
+			}
+
+			// the mapping stays valid after the channel is closed.
+			return new MappedCharacterSet(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), file.toString());
+
+		} catch (IOException e) {
+			throw new UnicodeToolsException("could not map " + file + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Serves lookups from the bytes between position and limit of the given
+	 * buffer. The buffer must not be changed afterwards.
+	 *
+	 * @param buffer ByteBuffer
+	 * @return MappedCharacterSet
+	 * @throws UnicodeToolsException if the bytes are not a valid character set
+	 *                               file.
+	 */
+	public static MappedCharacterSet wrap(ByteBuffer buffer) {
+
+		if (buffer == null) {
+			throw new IllegalArgumentException("buffer must not be null");
+		}
+
+		return new MappedCharacterSet(buffer.slice(), "buffer");
+	}
+
+	private MappedCharacterSet(ByteBuffer buffer, String source) {
+
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new UnicodeToolsException(source + " is not a character set file");
+		}
+
+		if (buffer.getShort(4) != VERSION) {
+			throw new UnicodeToolsException(source + " has the unsupported version " + buffer.getShort(4));
+		}
+
+		this.buffer = buffer;
+		this.maxKeyLength = buffer.getShort(6);
+		this.entryCount = buffer.getInt(8);
+		this.supplementaryCount = buffer.getInt(12);
+		int codePointPoolSize = buffer.getInt(16);
+		int nameLength = buffer.getInt(20);
+		int transliterationPoolSize = buffer.getInt(24);
+
+		if (maxKeyLength < 0 || entryCount < 0 || supplementaryCount < 0 || codePointPoolSize < 0 || nameLength < 0
+				|| transliterationPoolSize < 0) {
+			throw new UnicodeToolsException(source + " is corrupt: negative count in header");
+		}
+
+		// computed in long, so crafted counts can not overflow into a matching size.
+		long supplementaryStart = HEADER_SIZE + BMP_BITMAP_SIZE;
+		long entriesStart = supplementaryStart + 4L * supplementaryCount;
+		long codePointPoolStart = entriesStart + (long) ENTRY_SIZE * entryCount;
+		long nameStart = codePointPoolStart + 4L * codePointPoolSize;
+		long transliterationPoolStart = nameStart + 2L * nameLength;
+
+		if (transliterationPoolStart + 2L * transliterationPoolSize != buffer.capacity()) {
+			throw new UnicodeToolsException(source + " is truncated or has trailing bytes");
+		}
+
+		this.supplementaryOffset = (int) supplementaryStart;
+		this.entriesOffset = (int) entriesStart;
+		this.codePointPoolOffset = (int) codePointPoolStart;
+		int nameOffset = (int) nameStart;
+		this.transliterationPoolOffset = (int) transliterationPoolStart;
+
+		ByteBuffer body = buffer.duplicate();
+		body.position(HEADER_SIZE);
+		CRC32 crc = new CRC32();
+		crc.update(body);
+
+		if ((int) crc.getValue() != buffer.getInt(CRC_OFFSET)) {
+			throw new UnicodeToolsException(source + " is corrupt: checksum mismatch");
+		}
+
+		checkEntries(source, codePointPoolSize, transliterationPoolSize);
+
+		char[] nameChars = new char[nameLength];
+
+		for (int i = 0; i < nameLength; i++) {
+			nameChars[i] = buffer.getChar(nameOffset + 2 * i);
+		}
+		this.name = new String(nameChars);
+	}
+
+	/**
+	 * Checks that all entries lie within their pools, so lookups never read
+	 * outside of them, and that maxKeyLength is the length of the longest
+	 * character, so lookups find all of them.
+	 */
+	private void checkEntries(String source, int codePointPoolSize, int transliterationPoolSize) {
+
+		int longestKey = 0;
+
+		for (int entry = 0; entry < entryCount; entry++) {
+
+			int position = entriesOffset + ENTRY_SIZE * entry;
+			int codePointOffset = buffer.getInt(position);
+			int codePointLength = buffer.getInt(position + 4);
+			int transliterationOffset = buffer.getInt(position + 8);
+			int transliterationLength = buffer.getInt(position + 12);
+
+			if (codePointOffset < 0 || codePointLength < 1
+					|| (long) codePointOffset + codePointLength > codePointPoolSize) {
+				throw new UnicodeToolsException(
+						source + " is corrupt: code points of entry " + entry + " are out of the pool");
+			}
+
+			if (transliterationLength != NO_TRANSLITERATION && (transliterationOffset < 0 || transliterationLength < 0
+					|| (long) transliterationOffset + transliterationLength > transliterationPoolSize)) {
+				throw new UnicodeToolsException(
+						source + " is corrupt: transliteration of entry " + entry + " is out of the pool");
+			}
+			longestKey = Math.max(longestKey, codePointLength);
+		}
+
+		if (longestKey != maxKeyLength) {
+			throw new UnicodeToolsException(source + " is corrupt: maxKeyLength " + maxKeyLength
+					+ " does not match the longest character " + longestKey);
+		}
+	}
+
+	/**
+	 * Orders code points of characters the way the entries are sorted.
+	 */
+	static int compareKeys(int[] a, int[] b) {
+
+		for (int i = 0; i < Math.min(a.length, b.length); i++) {
+
+			if (a[i] != b[i]) {
+				return Integer.compare(a[i], b[i]);
+			}
+		}
+		return Integer.compare(a.length, b.length);
+	}
+
+	@Override
+	public boolean isCodePointValid(int codePoint) {
+
+		if (codePoint >= 0 && codePoint < BMP_SIZE) {
+			return (buffer.get(HEADER_SIZE + (codePoint >>> 3)) & (1 << (codePoint & 7))) != 0;
+		}
+
+		int low = 0;
+		int high = supplementaryCount - 1;
+
+		while (low <= high) {
+
+			int middle = (low + high) >>> 1;
+			int value = buffer.getInt(supplementaryOffset + 4 * middle);
+
+			if (value < codePoint) {
+				low = middle + 1;
+			} else if (value > codePoint) {
+				high = middle - 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean isPrintableCharacterValid(String givenPrintableCharacter) {
+
+		if (givenPrintableCharacter == null || givenPrintableCharacter.isEmpty()) {
+			return true;
+		}
+
+		return entry(givenPrintableCharacter) >= 0;
+	}
+
+	@Override
+	public int matchLength(CharSequence text, int index) {
+
+		long match = longestMatch(text, index);
+		return match < 0 ? 0 : (int) (match >>> 32);
+	}
+
+	@Override
+	public boolean isUTF8CodepointValid(UTF8Codepoint codePoint) {
+
+		if (codePoint == null) {
+			return false;
+		}
+
+		int[] codePoints;
+
+		try {
+			codePoints = new CodePointsToIntArrayMapper().apply(codePoint);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		return entry(new String(codePoints, 0, codePoints.length)) >= 0;
+	}
+
+	@Override
+	public String printableTransliteratedCharacter(String givenPrintableCharacter) {
+
+		if (givenPrintableCharacter == null || givenPrintableCharacter.isEmpty()) {
+			return null;
+		}
+
+		int entry = entry(givenPrintableCharacter);
+
+		if (entry < 0 || transliterationLength(entry) == NO_TRANSLITERATION) {
+			return null;
+		}
+
+		StringBuilder result = new StringBuilder(transliterationLength(entry));
+		appendTransliteration(result, entry);
+		return result.toString();
+	}
+
+	/**
+	 * Transliterates the whole text replacing the longest character at each
+	 * position like TransliterableUTF8CharacterSet does.
+	 */
+	@Override
+	public void transliterate(CharSequence text, Appendable out) throws IOException {
+
+		if (text == null) {
+			throw new IllegalArgumentException("text must not be null");
+		}
+
+		if (out == null) {
+			throw new IllegalArgumentException("out must not be null");
+		}
+
+		int index = 0;
+		int copied = 0;
+
+		while (index < text.length()) {
+
+			long match = longestMatch(text, index);
+
+			if (match < 0 || transliterationLength((int) match) == NO_TRANSLITERATION) {
+				index += match < 0 ? Character.charCount(Character.codePointAt(text, index)) : (int) (match >>> 32);
+				continue;
+			}
+
+			out.append(text, copied, index);
+			appendTransliteration(out, (int) match);
+			index += (int) (match >>> 32);
+			copied = index;
+		}
+		out.append(text, copied, text.length());
+	}
+
+	@Override
+	public Set<String> transliterableCharacters() {
+
+		Set<String> result = new HashSet<>();
+
+		for (int entry = 0; entry < entryCount; entry++) {
+
+			if (transliterationLength(entry) != NO_TRANSLITERATION) {
+
+				int offset = codePointPoolOffset + 4 * buffer.getInt(entriesOffset + ENTRY_SIZE * entry);
+				StringBuilder character = new StringBuilder();
+
+				for (int i = 0; i < buffer.getInt(entriesOffset + ENTRY_SIZE * entry + 4); i++) {
+					character.appendCodePoint(buffer.getInt(offset + 4 * i));
+				}
+				result.add(character.toString());
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * @return int the number of distinct characters.
+	 */
+	@Override
+	public int size() {
+		return entryCount;
+	}
+
+	/**
+	 * @return int the entry of the character or -1.
+	 */
+	private int entry(String character) {
+
+		int count = character.codePointCount(0, character.length());
+		return count > maxKeyLength ? -1 : find(character, 0, count);
+	}
+
+	/**
+	 * Finds the longest character the text starts with at index. It does not
+	 * allocate.
+	 *
+	 * @return long -1 or the number of chars in the upper and the entry in the
+	 *         lower 32 bits.
+	 */
+	private long longestMatch(CharSequence text, int index) {
+
+		long result = -1;
+		int position = index;
+
+		for (int count = 1; count <= maxKeyLength && position < text.length(); count++) {
+
+			position += Character.charCount(Character.codePointAt(text, position));
+			int entry = find(text, index, count);
+
+			if (entry >= 0) {
+				result = ((long) (position - index) << 32) | entry;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Binary search for the entry of the count code points of text starting at
+	 * index.
+	 *
+	 * @return int the entry or -1.
+	 */
+	private int find(CharSequence text, int index, int count) {
+
+		int low = 0;
+		int high = entryCount - 1;
+
+		while (low <= high) {
+
+			int middle = (low + high) >>> 1;
+			int comparison = compare(middle, text, index, count);
+
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -1;
+	}
+
+	private int compare(int entry, CharSequence text, int index, int count) {
+
+		int offset = codePointPoolOffset + 4 * buffer.getInt(entriesOffset + ENTRY_SIZE * entry);
+		int length = buffer.getInt(entriesOffset + ENTRY_SIZE * entry + 4);
+		int position = index;
+
+		for (int i = 0; i < Math.min(length, count); i++) {
+
+			int codePoint = Character.codePointAt(text, position);
+			int keyCodePoint = buffer.getInt(offset + 4 * i);
+
+			if (keyCodePoint != codePoint) {
+				return Integer.compare(keyCodePoint, codePoint);
+			}
+			position += Character.charCount(codePoint);
+		}
+		return Integer.compare(length, count);
+	}
+
+	private int transliterationLength(int entry) {
+		return buffer.getInt(entriesOffset + ENTRY_SIZE * entry + 12);
+	}
+
+	private void appendTransliteration(Appendable out, int entry) throws IOException {
+
+		int offset = transliterationPoolOffset + 2 * buffer.getInt(entriesOffset + ENTRY_SIZE * entry + 8);
+
+		for (int i = 0; i < transliterationLength(entry); i++) {
+			out.append(buffer.getChar(offset + 2 * i));
+		}
+	}
+
+	private void appendTransliteration(StringBuilder out, int entry) {
+
+		try {
+			appendTransliteration((Appendable) out, entry);
+		} catch (IOException e) {
+			// StringBuilder does not throw IOExceptions.
+			throw new IllegalStateException(e);
+		}
+	}
+}
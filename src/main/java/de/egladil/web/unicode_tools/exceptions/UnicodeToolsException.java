@@ -37,12 +37,14 @@ public class UnicodeToolsException extends RuntimeException {
 	 * UnicodeToolsException
 	 */
 	public UnicodeToolsException(String message, Throwable cause) {
+		super(message, cause);
 	}
 
 	/**
 	 * UnicodeToolsException
 	 */
 	public UnicodeToolsException(String message) {
+		super(message);
 	}
 
 }
@@ -0,0 +1,271 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.generated;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.apache.commons.lang3.StringUtils;
+
+import de.egladil.web.unicode_tools.UTF8Codepoint;
+import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+import de.egladil.web.unicode_tools.internal.CodePointsToIntArrayMapper;
+import de.egladil.web.unicode_tools.xml.CharacterSetStreamReader;
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
+
+/**
+ * CharacterSetSourceGenerator compiles the xml of character sets into Java
+ * classes extending CompiledCharacterSet. It is run at build time by the maven
+ * profile generate-character-sets for the bundled xml files and can be run the
+ * same way for other ones:<br>
+ * <br>
+ * <code>CharacterSetSourceGenerator outputDirectory packageName xmlFile=ClassName...</code>
+ */
+public final class CharacterSetSourceGenerator {
+
+	/** number of array elements assigned per method to stay far below the 64 KB limit of a method. */
+	private static final int ELEMENTS_PER_METHOD = 256;
+
+	private static final CodePointsToIntArrayMapper CODE_POINT_MAPPER = new CodePointsToIntArrayMapper();
+
+	private static final String LICENSE_HEADER = "//=====================================================\n"
+			+ "// Projekt: unicode-tools\n" + "// MIT License\n" + "//\n"
+			+ "// Copyright (c) 2020 Heike Winkelvo\u00DF\n" + "//\n"
+			+ "// Permission is hereby granted, free of charge, to any person obtaining a copy\n"
+			+ "// of this software and associated documentation files (the \"Software\"), to deal\n"
+			+ "// in the Software without restriction, including without limitation the rights\n"
+			+ "// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell\n"
+			+ "// copies of the Software, and to permit persons to whom the Software is\n"
+			+ "// furnished to do so, subject to the following conditions:\n" + "//\n"
+			+ "// The above copyright notice and this permission notice shall be included in all\n"
+			+ "// copies or substantial portions of the Software.\n" + "//\n"
+			+ "// THE SOFTWARE IS PROVIDED \"AS IS\", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR\n"
+			+ "// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,\n"
+			+ "// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE\n"
+			+ "// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER\n"
+			+ "// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,\n"
+			+ "// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE\n"
+			+ "// SOFTWARE.\n" + "//=====================================================\n";
+
+	private CharacterSetSourceGenerator() {
+	}
+
+	/**
+	 * @param args String[] the output directory, the package name and one
+	 *             xmlFile=ClassName per character set.
+	 */
+	public static void main(String[] args) {
+
+		if (args.length < 3) {
+			throw new IllegalArgumentException(
+					"usage: CharacterSetSourceGenerator outputDirectory packageName xmlFile=ClassName...");
+		}
+
+		Path packageDirectory = Paths.get(args[0], args[1].split("\\."));
+
+		for (int i = 2; i < args.length; i++) {
+
+			int separator = args[i].lastIndexOf('=');
+
+			if (separator <= 0 || separator == args[i].length() - 1) {
+				throw new IllegalArgumentException(args[i] + " is not of the form xmlFile=ClassName");
+			}
+
+			Path xmlFile = Paths.get(args[i].substring(0, separator));
+			String className = args[i].substring(separator + 1);
+
+			try (InputStream in = Files.newInputStream(xmlFile)) {
+
+				String source = generate(args[1], className, xmlFile.getFileName().toString(), in);
+				Files.createDirectories(packageDirectory);
+
+				try (Writer writer = Files.newBufferedWriter(packageDirectory.resolve(className + ".java"),
+						StandardCharsets.UTF_8)) {
+					writer.write(source);
+				}
+			} catch (IOException e) {
+				throw new UnicodeToolsException("could not generate " + className + " from " + xmlFile + ": "
+						+ e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Generates the source of a class extending CompiledCharacterSet that holds
+	 * the characters of the given xml. The class provides its only instance as
+	 * INSTANCE.
+	 *
+	 * @param packageName String
+	 * @param className   String
+	 * @param sourceName  String the name of the xml to be mentioned in the class
+	 *                    comment.
+	 * @param xml         InputStream the xml. It is not closed.
+	 * @return String the Java source.
+	 */
+	public static String generate(String packageName, String className, String sourceName, InputStream xml) {
+
+		if (packageName == null || className == null || xml == null) {
+			throw new IllegalArgumentException("packageName, className and xml must not be null");
+		}
+
+		List<String> codePoints = new ArrayList<>();
+		List<String> transliterations = new ArrayList<>();
+		String name;
+
+		try {
+			name = CharacterSetStreamReader.read(xml, character -> {
+				codePoints.add(intArrayLiteral(CODE_POINT_MAPPER
+						.apply(new UTF8Codepoint(character.getCodePoint(), character.getSeparationChar()))));
+				transliterations.add(literal(transliteration(character)));
+			});
+		} catch (XMLStreamException | IllegalArgumentException e) {
+			throw new UnicodeToolsException("could not read " + sourceName + ": " + e.getMessage(), e);
+		}
+
+		StringBuilder result = new StringBuilder(LICENSE_HEADER);
+		result.append("\npackage ").append(packageName).append(";\n\n");
+
+		if (!CharacterSetSourceGenerator.class.getPackage().getName().equals(packageName)) {
+			result.append("import ").append(CompiledCharacterSet.class.getName()).append(";\n\n");
+		}
+
+		result.append("/**\n * ").append(className).append(" holds the characters of ").append(sourceName)
+				.append(".<br>\n * <br>\n * Generated by CharacterSetSourceGenerator. Do not edit.\n */\n");
+		result.append("public final class ").append(className).append(" extends CompiledCharacterSet {\n\n");
+		result.append("\tpublic static final ").append(className).append(" INSTANCE = new ").append(className)
+				.append("();\n\n");
+		result.append("\tprivate ").append(className).append("() {\n");
+		result.append("\t\tsuper(").append(literal(name)).append(", codePoints(), transliterations());\n\t}\n");
+		appendArray(result, "codePoints", "int[]", codePoints);
+		appendArray(result, "transliterations", "String", transliterations);
+		result.append("}\n");
+		return result.toString();
+	}
+
+	/**
+	 * @return String the transliteration of character or null, if it has none.
+	 */
+	private static String transliteration(MappableCharacter character) {
+
+		if (character.getMapping() == null) {
+			return null;
+		}
+
+		if (StringUtils.isBlank(character.getMapping())) {
+			return "";
+		}
+
+		int[] codePoints = CODE_POINT_MAPPER
+				.apply(new UTF8Codepoint(character.getMapping(), character.getSeparationChar()));
+		return new String(codePoints, 0, codePoints.length);
+	}
+
+	private static void appendArray(StringBuilder result, String methodName, String elementType,
+			List<String> literals) {
+
+		int methods = (literals.size() + ELEMENTS_PER_METHOD - 1) / ELEMENTS_PER_METHOD;
+		String arrayType = elementType + "[]";
+		String newArray = elementType.endsWith("[]")
+				? elementType.substring(0, elementType.length() - 2) + "[" + literals.size() + "][]"
+				: elementType + "[" + literals.size() + "]";
+
+		result.append("\n\tprivate static ").append(arrayType).append(' ').append(methodName).append("() {\n\n");
+		result.append("\t\t").append(arrayType).append(" result = new ").append(newArray).append(";\n");
+
+		for (int m = 0; m < methods; m++) {
+			result.append("\t\t").append(methodName).append(m).append("(result);\n");
+		}
+		result.append("\t\treturn result;\n\t}\n");
+
+		for (int m = 0; m < methods; m++) {
+
+			result.append("\n\tprivate static void ").append(methodName).append(m).append('(').append(arrayType)
+					.append(" result) {\n");
+			int end = Math.min(literals.size(), (m + 1) * ELEMENTS_PER_METHOD);
+
+			for (int i = m * ELEMENTS_PER_METHOD; i < end; i++) {
+				result.append("\t\tresult[").append(i).append("] = ").append(literals.get(i)).append(";\n");
+			}
+			result.append("\t}\n");
+		}
+	}
+
+	/**
+	 * @return String the Java literal of an int array of codePoints in hex.
+	 */
+	static String intArrayLiteral(int[] codePoints) {
+
+		StringBuilder result = new StringBuilder("new int[] { ");
+
+		for (int i = 0; i < codePoints.length; i++) {
+
+			if (i > 0) {
+				result.append(", ");
+			}
+			result.append(String.format("0x%04X", codePoints[i]));
+		}
+		return result.append(" }").toString();
+	}
+
+	/**
+	 * @return String the Java literal of value with all non ASCII chars and control
+	 *         chars escaped.
+	 */
+	static String literal(String value) {
+
+		if (value == null) {
+			return "null";
+		}
+
+		StringBuilder result = new StringBuilder("\"");
+
+		for (int i = 0; i < value.length(); i++) {
+
+			char c = value.charAt(i);
+
+			if (c == '"' || c == '\\') {
+				result.append('\\').append(c);
+			} else if (c >= 0x20 && c < 0x7F) {
+				result.append(c);
+			} else if (c < 0x20) {
+				// unicode escapes of line terminators would end the literal.
+				result.append(String.format("\\%03o", (int) c));
+			} else {
+				result.append(String.format("\\u%04X", (int) c));
+			}
+		}
+		return result.append('"').toString();
+	}
+}
@@ -0,0 +1,172 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.generated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacterSet;
+
+/**
+ * CompiledCharacterSet is the base class of the character sets that
+ * CharacterSetSourceGenerator compiles from xml into Java classes. Their
+ * characters are held in static arrays of already parsed code points and
+ * transliterations, so loading such a set is class initialization only,
+ * without any xml parsing, reflection and parsing of hex code points.
+ */
+public abstract class CompiledCharacterSet implements MappableCharacterSet {
+
+	private final String name;
+
+	private final int[][] codePoints;
+
+	private final String[] transliterations;
+
+	/**
+	 * CompiledCharacterSet
+	 *
+	 * @param name             String
+	 * @param codePoints       int[][] the code points of the characters.
+	 * @param transliterations String[] the transliterations of the characters,
+	 *                         null for a character without a transliteration.
+	 */
+	protected CompiledCharacterSet(String name, int[][] codePoints, String[] transliterations) {
+
+		if (codePoints == null || transliterations == null) {
+			throw new IllegalArgumentException("codePoints and transliterations must not be null");
+		}
+
+		if (codePoints.length != transliterations.length) {
+			throw new IllegalArgumentException("codePoints and transliterations need to be of same size");
+		}
+
+		this.name = name;
+		this.codePoints = codePoints;
+		this.transliterations = transliterations;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * The items are created from the code points and transliterations on each
+	 * call. Sets created by the fromCompiled factory methods do not need them.
+	 */
+	@Override
+	public List<MappableCharacter> getItems() {
+
+		List<MappableCharacter> result = new ArrayList<>(codePoints.length);
+
+		for (int i = 0; i < codePoints.length; i++) {
+
+			String transliteration = transliterations[i];
+			String mapping = transliteration == null ? null : hex(transliteration.codePoints().toArray());
+			result.add(new CompiledCharacter(hex(codePoints[i]), mapping));
+		}
+		return result;
+	}
+
+	/**
+	 * @return int the number of characters.
+	 */
+	public int size() {
+		return codePoints.length;
+	}
+
+	/**
+	 * @param index int
+	 * @return int[] a copy of the code points of the character at index.
+	 */
+	public int[] codePoints(int index) {
+		return codePoints[index].clone();
+	}
+
+	/**
+	 * @param index int
+	 * @return String the character at index.
+	 */
+	public String character(int index) {
+		return new String(codePoints[index], 0, codePoints[index].length);
+	}
+
+	/**
+	 * @param index int
+	 * @return String the transliteration of the character at index or null,
+	 *         if it has none.
+	 */
+	public String transliteration(int index) {
+		return transliterations[index];
+	}
+
+	private static String hex(int[] codePoints) {
+
+		StringBuilder result = new StringBuilder();
+
+		for (int codePoint : codePoints) {
+
+			if (result.length() > 0) {
+				result.append(' ');
+			}
+			result.append(String.format("%04X", codePoint));
+		}
+		return result.toString();
+	}
+
+	private static final class CompiledCharacter implements MappableCharacter {
+
+		private final String codePoint;
+
+		private final String mapping;
+
+		CompiledCharacter(String codePoint, String mapping) {
+			this.codePoint = codePoint;
+			this.mapping = mapping;
+		}
+
+		@Override
+		public String getCodePoint() {
+			return codePoint;
+		}
+
+		@Override
+		public String getMapping() {
+			return mapping;
+		}
+
+		@Override
+		public char getSeparationChar() {
+			return ' ';
+		}
+
+		@Override
+		public String toString() {
+			return "character [codepoint=" + codePoint + ", mapping=" + mapping + "]";
+		}
+	}
+}
@@ -0,0 +1,1526 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.generated;
+
+/**
+ * DefaultTransliterableCharacterSetTable holds the characters of defaultTransliterableCharacterSet.xml.<br>
+ * <br>
+ * Generated by CharacterSetSourceGenerator. Do not edit.
+ */
+public final class DefaultTransliterableCharacterSetTable extends CompiledCharacterSet {
+
+	public static final DefaultTransliterableCharacterSetTable INSTANCE = new DefaultTransliterableCharacterSetTable();
+
+	private DefaultTransliterableCharacterSetTable() {
+		super("EGLADIL_UTF8_CHARSET", codePoints(), transliterations());
+	}
+
+	private static int[][] codePoints() {
+
+		int[][] result = new int[725][];
+		codePoints0(result);
+		codePoints1(result);
+		codePoints2(result);
+		return result;
+	}
+
+	private static void codePoints0(int[][] result) {
+		result[0] = new int[] { 0x0009 };
+		result[1] = new int[] { 0x000A };
+		result[2] = new int[] { 0x000D };
+		result[3] = new int[] { 0x0020 };
+		result[4] = new int[] { 0x0021 };
+		result[5] = new int[] { 0x0022 };
+		result[6] = new int[] { 0x0023 };
+		result[7] = new int[] { 0x0024 };
+		result[8] = new int[] { 0x0025 };
+		result[9] = new int[] { 0x0026 };
+		result[10] = new int[] { 0x0027 };
+		result[11] = new int[] { 0x0028 };
+		result[12] = new int[] { 0x0029 };
+		result[13] = new int[] { 0x002A };
+		result[14] = new int[] { 0x002B };
+		result[15] = new int[] { 0x002C };
+		result[16] = new int[] { 0x002D };
+		result[17] = new int[] { 0x002E };
+		result[18] = new int[] { 0x002F };
+		result[19] = new int[] { 0x0030 };
+		result[20] = new int[] { 0x0031 };
+		result[21] = new int[] { 0x0032 };
+		result[22] = new int[] { 0x0033 };
+		result[23] = new int[] { 0x0034 };
+		result[24] = new int[] { 0x0035 };
+		result[25] = new int[] { 0x0036 };
+		result[26] = new int[] { 0x0037 };
+		result[27] = new int[] { 0x0038 };
+		result[28] = new int[] { 0x0039 };
+		result[29] = new int[] { 0x003A };
+		result[30] = new int[] { 0x003B };
+		result[31] = new int[] { 0x003C };
+		result[32] = new int[] { 0x003D };
+		result[33] = new int[] { 0x003E };
+		result[34] = new int[] { 0x003F };
+		result[35] = new int[] { 0x0040 };
+		result[36] = new int[] { 0x0041 };
+		result[37] = new int[] { 0x0041, 0x030B };
+		result[38] = new int[] { 0x0042 };
+		result[39] = new int[] { 0x0043 };
+		result[40] = new int[] { 0x0043, 0x0300 };
+		result[41] = new int[] { 0x0043, 0x0304 };
+		result[42] = new int[] { 0x0043, 0x0306 };
+		result[43] = new int[] { 0x0043, 0x0308 };
+		result[44] = new int[] { 0x0043, 0x0315 };
+		result[45] = new int[] { 0x0043, 0x0323 };
+		result[46] = new int[] { 0x0043, 0x0326 };
+		result[47] = new int[] { 0x0043, 0x0328, 0x0306 };
+		result[48] = new int[] { 0x0044 };
+		result[49] = new int[] { 0x0044, 0x0302 };
+		result[50] = new int[] { 0x0045 };
+		result[51] = new int[] { 0x0046 };
+		result[52] = new int[] { 0x0046, 0x0300 };
+		result[53] = new int[] { 0x0046, 0x0304 };
+		result[54] = new int[] { 0x0047 };
+		result[55] = new int[] { 0x0047, 0x0300 };
+		result[56] = new int[] { 0x0048 };
+		result[57] = new int[] { 0x0048, 0x0304 };
+		result[58] = new int[] { 0x0048, 0x0326 };
+		result[59] = new int[] { 0x0048, 0x0331 };
+		result[60] = new int[] { 0x0049 };
+		result[61] = new int[] { 0x004A };
+		result[62] = new int[] { 0x004A, 0x0301 };
+		result[63] = new int[] { 0x004A, 0x030C };
+		result[64] = new int[] { 0x004B };
+		result[65] = new int[] { 0x004B, 0x0300 };
+		result[66] = new int[] { 0x004B, 0x0302 };
+		result[67] = new int[] { 0x004B, 0x0304 };
+		result[68] = new int[] { 0x004B, 0x0307 };
+		result[69] = new int[] { 0x004B, 0x0315 };
+		result[70] = new int[] { 0x004B, 0x031B };
+		result[71] = new int[] { 0x004B, 0x0326 };
+		result[72] = new int[] { 0x004B, 0x035F, 0x0048 };
+		result[73] = new int[] { 0x004B, 0x035F, 0x0068 };
+		result[74] = new int[] { 0x004C };
+		result[75] = new int[] { 0x004C, 0x0302 };
+		result[76] = new int[] { 0x004C, 0x0325 };
+		result[77] = new int[] { 0x004C, 0x0325, 0x0304 };
+		result[78] = new int[] { 0x004C, 0x0326 };
+		result[79] = new int[] { 0x004D };
+		result[80] = new int[] { 0x004D, 0x0300 };
+		result[81] = new int[] { 0x004D, 0x0302 };
+		result[82] = new int[] { 0x004D, 0x0306 };
+		result[83] = new int[] { 0x004D, 0x0310 };
+		result[84] = new int[] { 0x004E };
+		result[85] = new int[] { 0x004E, 0x0302 };
+		result[86] = new int[] { 0x004E, 0x0304 };
+		result[87] = new int[] { 0x004E, 0x0306 };
+		result[88] = new int[] { 0x004E, 0x0326 };
+		result[89] = new int[] { 0x004F };
+		result[90] = new int[] { 0x0050 };
+		result[91] = new int[] { 0x0050, 0x0300 };
+		result[92] = new int[] { 0x0050, 0x0304 };
+		result[93] = new int[] { 0x0050, 0x0315 };
+		result[94] = new int[] { 0x0050, 0x0323 };
+		result[95] = new int[] { 0x0051 };
+		result[96] = new int[] { 0x0052 };
+		result[97] = new int[] { 0x0052, 0x0306 };
+		result[98] = new int[] { 0x0052, 0x0325 };
+		result[99] = new int[] { 0x0052, 0x0325, 0x0304 };
+		result[100] = new int[] { 0x0053 };
+		result[101] = new int[] { 0x0053, 0x0300 };
+		result[102] = new int[] { 0x0053, 0x0304 };
+		result[103] = new int[] { 0x0053, 0x031B, 0x0304 };
+		result[104] = new int[] { 0x0053, 0x0331 };
+		result[105] = new int[] { 0x0054 };
+		result[106] = new int[] { 0x0054, 0x0300 };
+		result[107] = new int[] { 0x0054, 0x0304 };
+		result[108] = new int[] { 0x0054, 0x0308 };
+		result[109] = new int[] { 0x0054, 0x0315 };
+		result[110] = new int[] { 0x0054, 0x031B };
+		result[111] = new int[] { 0x0055 };
+		result[112] = new int[] { 0x0055, 0x0307 };
+		result[113] = new int[] { 0x0056 };
+		result[114] = new int[] { 0x0057 };
+		result[115] = new int[] { 0x0058 };
+		result[116] = new int[] { 0x0059 };
+		result[117] = new int[] { 0x005A };
+		result[118] = new int[] { 0x005A, 0x0300 };
+		result[119] = new int[] { 0x005A, 0x0304 };
+		result[120] = new int[] { 0x005A, 0x0306 };
+		result[121] = new int[] { 0x005A, 0x0308 };
+		result[122] = new int[] { 0x005A, 0x0327 };
+		result[123] = new int[] { 0x005B };
+		result[124] = new int[] { 0x005C };
+		result[125] = new int[] { 0x005D };
+		result[126] = new int[] { 0x005E };
+		result[127] = new int[] { 0x005F };
+		result[128] = new int[] { 0x0060 };
+		result[129] = new int[] { 0x0061 };
+		result[130] = new int[] { 0x0061, 0x030B };
+		result[131] = new int[] { 0x0062 };
+		result[132] = new int[] { 0x0063 };
+		result[133] = new int[] { 0x0063, 0x0300 };
+		result[134] = new int[] { 0x0063, 0x0304 };
+		result[135] = new int[] { 0x0063, 0x0306 };
+		result[136] = new int[] { 0x0063, 0x0308 };
+		result[137] = new int[] { 0x0063, 0x0315 };
+		result[138] = new int[] { 0x0063, 0x0323 };
+		result[139] = new int[] { 0x0063, 0x0326 };
+		result[140] = new int[] { 0x0063, 0x0328, 0x0306 };
+		result[141] = new int[] { 0x0064 };
+		result[142] = new int[] { 0x0064, 0x0302 };
+		result[143] = new int[] { 0x0065 };
+		result[144] = new int[] { 0x0066 };
+		result[145] = new int[] { 0x0066, 0x0300 };
+		result[146] = new int[] { 0x0066, 0x0304 };
+		result[147] = new int[] { 0x0067 };
+		result[148] = new int[] { 0x0067, 0x0300 };
+		result[149] = new int[] { 0x0068 };
+		result[150] = new int[] { 0x0068, 0x0304 };
+		result[151] = new int[] { 0x0068, 0x0326 };
+		result[152] = new int[] { 0x0069 };
+		result[153] = new int[] { 0x006A };
+		result[154] = new int[] { 0x006A, 0x0301 };
+		result[155] = new int[] { 0x006B };
+		result[156] = new int[] { 0x006B, 0x0300 };
+		result[157] = new int[] { 0x006B, 0x0302 };
+		result[158] = new int[] { 0x006B, 0x0304 };
+		result[159] = new int[] { 0x006B, 0x0307 };
+		result[160] = new int[] { 0x006B, 0x0315 };
+		result[161] = new int[] { 0x006B, 0x031B };
+		result[162] = new int[] { 0x006B, 0x0326 };
+		result[163] = new int[] { 0x006B, 0x035F, 0x0068 };
+		result[164] = new int[] { 0x006C };
+		result[165] = new int[] { 0x006C, 0x0302 };
+		result[166] = new int[] { 0x006C, 0x0325 };
+		result[167] = new int[] { 0x006C, 0x0325, 0x0304 };
+		result[168] = new int[] { 0x006C, 0x0326 };
+		result[169] = new int[] { 0x006D };
+		result[170] = new int[] { 0x006D, 0x0300 };
+		result[171] = new int[] { 0x006D, 0x0302 };
+		result[172] = new int[] { 0x006D, 0x0306 };
+		result[173] = new int[] { 0x006D, 0x0310 };
+		result[174] = new int[] { 0x006E };
+		result[175] = new int[] { 0x006E, 0x0302 };
+		result[176] = new int[] { 0x006E, 0x0304 };
+		result[177] = new int[] { 0x006E, 0x0306 };
+		result[178] = new int[] { 0x006E, 0x0326 };
+		result[179] = new int[] { 0x006F };
+		result[180] = new int[] { 0x0070 };
+		result[181] = new int[] { 0x0070, 0x0300 };
+		result[182] = new int[] { 0x0070, 0x0304 };
+		result[183] = new int[] { 0x0070, 0x0315 };
+		result[184] = new int[] { 0x0070, 0x0323 };
+		result[185] = new int[] { 0x0071 };
+		result[186] = new int[] { 0x0072 };
+		result[187] = new int[] { 0x0072, 0x0306 };
+		result[188] = new int[] { 0x0072, 0x0325 };
+		result[189] = new int[] { 0x0072, 0x0325, 0x0304 };
+		result[190] = new int[] { 0x0073 };
+		result[191] = new int[] { 0x0073, 0x0300 };
+		result[192] = new int[] { 0x0073, 0x0304 };
+		result[193] = new int[] { 0x0073, 0x031B, 0x0304 };
+		result[194] = new int[] { 0x0073, 0x0331 };
+		result[195] = new int[] { 0x0074 };
+		result[196] = new int[] { 0x0074, 0x0300 };
+		result[197] = new int[] { 0x0074, 0x0304 };
+		result[198] = new int[] { 0x0074, 0x0315 };
+		result[199] = new int[] { 0x0074, 0x031B };
+		result[200] = new int[] { 0x0075 };
+		result[201] = new int[] { 0x0075, 0x0307 };
+		result[202] = new int[] { 0x0076 };
+		result[203] = new int[] { 0x0077 };
+		result[204] = new int[] { 0x0078 };
+		result[205] = new int[] { 0x0079 };
+		result[206] = new int[] { 0x007A };
+		result[207] = new int[] { 0x007A, 0x0300 };
+		result[208] = new int[] { 0x007A, 0x0304 };
+		result[209] = new int[] { 0x007A, 0x0306 };
+		result[210] = new int[] { 0x007A, 0x0308 };
+		result[211] = new int[] { 0x007A, 0x0327 };
+		result[212] = new int[] { 0x007B };
+		result[213] = new int[] { 0x007C };
+		result[214] = new int[] { 0x007D };
+		result[215] = new int[] { 0x007E };
+		result[216] = new int[] { 0x00A1 };
+		result[217] = new int[] { 0x00A2 };
+		result[218] = new int[] { 0x00A3 };
+		result[219] = new int[] { 0x00A4 };
+		result[220] = new int[] { 0x00A5 };
+		result[221] = new int[] { 0x00A6 };
+		result[222] = new int[] { 0x00A7 };
+		result[223] = new int[] { 0x00A8 };
+		result[224] = new int[] { 0x00A9 };
+		result[225] = new int[] { 0x00AA };
+		result[226] = new int[] { 0x00AB };
+		result[227] = new int[] { 0x00AC };
+		result[228] = new int[] { 0x00AE };
+		result[229] = new int[] { 0x00AF };
+		result[230] = new int[] { 0x00B0 };
+		result[231] = new int[] { 0x00B1 };
+		result[232] = new int[] { 0x00B2 };
+		result[233] = new int[] { 0x00B3 };
+		result[234] = new int[] { 0x00B4 };
+		result[235] = new int[] { 0x00B5 };
+		result[236] = new int[] { 0x00B6 };
+		result[237] = new int[] { 0x00B7 };
+		result[238] = new int[] { 0x00B8 };
+		result[239] = new int[] { 0x00B9 };
+		result[240] = new int[] { 0x00BA };
+		result[241] = new int[] { 0x00BB };
+		result[242] = new int[] { 0x00BC };
+		result[243] = new int[] { 0x00BD };
+		result[244] = new int[] { 0x00BE };
+		result[245] = new int[] { 0x00BF };
+		result[246] = new int[] { 0x00C0 };
+		result[247] = new int[] { 0x00C1 };
+		result[248] = new int[] { 0x00C2 };
+		result[249] = new int[] { 0x00C3 };
+		result[250] = new int[] { 0x00C4 };
+		result[251] = new int[] { 0x00C5 };
+		result[252] = new int[] { 0x00C6 };
+		result[253] = new int[] { 0x00C7 };
+		result[254] = new int[] { 0x00C7, 0x0306 };
+		result[255] = new int[] { 0x00C8 };
+	}
+
+	private static void codePoints1(int[][] result) {
+		result[256] = new int[] { 0x00C9 };
+		result[257] = new int[] { 0x00CA };
+		result[258] = new int[] { 0x00CB };
+		result[259] = new int[] { 0x00CC };
+		result[260] = new int[] { 0x00CD };
+		result[261] = new int[] { 0x00CE };
+		result[262] = new int[] { 0x00CF };
+		result[263] = new int[] { 0x00D0 };
+		result[264] = new int[] { 0x00D1 };
+		result[265] = new int[] { 0x00D2 };
+		result[266] = new int[] { 0x00D3 };
+		result[267] = new int[] { 0x00D4 };
+		result[268] = new int[] { 0x00D5 };
+		result[269] = new int[] { 0x00D6 };
+		result[270] = new int[] { 0x00D7 };
+		result[271] = new int[] { 0x00D8 };
+		result[272] = new int[] { 0x00D9 };
+		result[273] = new int[] { 0x00DA };
+		result[274] = new int[] { 0x00DB };
+		result[275] = new int[] { 0x00DB, 0x0304 };
+		result[276] = new int[] { 0x00DC };
+		result[277] = new int[] { 0x00DD };
+		result[278] = new int[] { 0x00DE };
+		result[279] = new int[] { 0x00DF };
+		result[280] = new int[] { 0x00E0 };
+		result[281] = new int[] { 0x00E1 };
+		result[282] = new int[] { 0x00E2 };
+		result[283] = new int[] { 0x00E3 };
+		result[284] = new int[] { 0x00E4 };
+		result[285] = new int[] { 0x00E5 };
+		result[286] = new int[] { 0x00E6 };
+		result[287] = new int[] { 0x00E7 };
+		result[288] = new int[] { 0x00E7, 0x0306 };
+		result[289] = new int[] { 0x00E8 };
+		result[290] = new int[] { 0x00E9 };
+		result[291] = new int[] { 0x00EA };
+		result[292] = new int[] { 0x00EB };
+		result[293] = new int[] { 0x00EC };
+		result[294] = new int[] { 0x00ED };
+		result[295] = new int[] { 0x00EE };
+		result[296] = new int[] { 0x00EF };
+		result[297] = new int[] { 0x00F0 };
+		result[298] = new int[] { 0x00F1 };
+		result[299] = new int[] { 0x00F2 };
+		result[300] = new int[] { 0x00F3 };
+		result[301] = new int[] { 0x00F4 };
+		result[302] = new int[] { 0x00F5 };
+		result[303] = new int[] { 0x00F6 };
+		result[304] = new int[] { 0x00F7 };
+		result[305] = new int[] { 0x00F8 };
+		result[306] = new int[] { 0x00F9 };
+		result[307] = new int[] { 0x00FA };
+		result[308] = new int[] { 0x00FB };
+		result[309] = new int[] { 0x00FB, 0x0304 };
+		result[310] = new int[] { 0x00FC };
+		result[311] = new int[] { 0x00FD };
+		result[312] = new int[] { 0x00FE };
+		result[313] = new int[] { 0x00FF };
+		result[314] = new int[] { 0x00FF, 0x0301 };
+		result[315] = new int[] { 0x0100 };
+		result[316] = new int[] { 0x0101 };
+		result[317] = new int[] { 0x0102 };
+		result[318] = new int[] { 0x0103 };
+		result[319] = new int[] { 0x0104 };
+		result[320] = new int[] { 0x0105 };
+		result[321] = new int[] { 0x0106 };
+		result[322] = new int[] { 0x0107 };
+		result[323] = new int[] { 0x0108 };
+		result[324] = new int[] { 0x0109 };
+		result[325] = new int[] { 0x010A };
+		result[326] = new int[] { 0x010B };
+		result[327] = new int[] { 0x010C };
+		result[328] = new int[] { 0x010C, 0x0315 };
+		result[329] = new int[] { 0x010C, 0x0323 };
+		result[330] = new int[] { 0x010D };
+		result[331] = new int[] { 0x010D, 0x0315 };
+		result[332] = new int[] { 0x010D, 0x0323 };
+		result[333] = new int[] { 0x010E };
+		result[334] = new int[] { 0x010F };
+		result[335] = new int[] { 0x0110 };
+		result[336] = new int[] { 0x0111 };
+		result[337] = new int[] { 0x0112 };
+		result[338] = new int[] { 0x0113 };
+		result[339] = new int[] { 0x0114 };
+		result[340] = new int[] { 0x0115 };
+		result[341] = new int[] { 0x0116 };
+		result[342] = new int[] { 0x0117 };
+		result[343] = new int[] { 0x0118 };
+		result[344] = new int[] { 0x0119 };
+		result[345] = new int[] { 0x011A };
+		result[346] = new int[] { 0x011B };
+		result[347] = new int[] { 0x011C };
+		result[348] = new int[] { 0x011D };
+		result[349] = new int[] { 0x011E };
+		result[350] = new int[] { 0x011F };
+		result[351] = new int[] { 0x0120 };
+		result[352] = new int[] { 0x0121 };
+		result[353] = new int[] { 0x0122 };
+		result[354] = new int[] { 0x0123 };
+		result[355] = new int[] { 0x0124 };
+		result[356] = new int[] { 0x0125 };
+		result[357] = new int[] { 0x0126 };
+		result[358] = new int[] { 0x0127 };
+		result[359] = new int[] { 0x0128 };
+		result[360] = new int[] { 0x0129 };
+		result[361] = new int[] { 0x012A };
+		result[362] = new int[] { 0x012A, 0x0301 };
+		result[363] = new int[] { 0x012B };
+		result[364] = new int[] { 0x012B, 0x0301 };
+		result[365] = new int[] { 0x012C };
+		result[366] = new int[] { 0x012D };
+		result[367] = new int[] { 0x012E };
+		result[368] = new int[] { 0x012F };
+		result[369] = new int[] { 0x0130 };
+		result[370] = new int[] { 0x0131 };
+		result[371] = new int[] { 0x0132 };
+		result[372] = new int[] { 0x0133 };
+		result[373] = new int[] { 0x0134 };
+		result[374] = new int[] { 0x0135 };
+		result[375] = new int[] { 0x0136 };
+		result[376] = new int[] { 0x0137 };
+		result[377] = new int[] { 0x0138 };
+		result[378] = new int[] { 0x0139 };
+		result[379] = new int[] { 0x013A };
+		result[380] = new int[] { 0x013B };
+		result[381] = new int[] { 0x013C };
+		result[382] = new int[] { 0x013D };
+		result[383] = new int[] { 0x013E };
+		result[384] = new int[] { 0x013F };
+		result[385] = new int[] { 0x0140 };
+		result[386] = new int[] { 0x0141 };
+		result[387] = new int[] { 0x0142 };
+		result[388] = new int[] { 0x0143 };
+		result[389] = new int[] { 0x0144 };
+		result[390] = new int[] { 0x0145 };
+		result[391] = new int[] { 0x0146 };
+		result[392] = new int[] { 0x0147 };
+		result[393] = new int[] { 0x0148 };
+		result[394] = new int[] { 0x0149 };
+		result[395] = new int[] { 0x014A };
+		result[396] = new int[] { 0x014B };
+		result[397] = new int[] { 0x014C };
+		result[398] = new int[] { 0x014D };
+		result[399] = new int[] { 0x014E };
+		result[400] = new int[] { 0x014F };
+		result[401] = new int[] { 0x0150 };
+		result[402] = new int[] { 0x0151 };
+		result[403] = new int[] { 0x0152 };
+		result[404] = new int[] { 0x0153 };
+		result[405] = new int[] { 0x0154 };
+		result[406] = new int[] { 0x0155 };
+		result[407] = new int[] { 0x0156 };
+		result[408] = new int[] { 0x0157 };
+		result[409] = new int[] { 0x0158 };
+		result[410] = new int[] { 0x0159 };
+		result[411] = new int[] { 0x015A };
+		result[412] = new int[] { 0x015B };
+		result[413] = new int[] { 0x015C };
+		result[414] = new int[] { 0x015D };
+		result[415] = new int[] { 0x015E };
+		result[416] = new int[] { 0x015F };
+		result[417] = new int[] { 0x0160 };
+		result[418] = new int[] { 0x0161 };
+		result[419] = new int[] { 0x0162 };
+		result[420] = new int[] { 0x0163 };
+		result[421] = new int[] { 0x0164 };
+		result[422] = new int[] { 0x0165 };
+		result[423] = new int[] { 0x0166 };
+		result[424] = new int[] { 0x0167 };
+		result[425] = new int[] { 0x0168 };
+		result[426] = new int[] { 0x0169 };
+		result[427] = new int[] { 0x016A };
+		result[428] = new int[] { 0x016B };
+		result[429] = new int[] { 0x016C };
+		result[430] = new int[] { 0x016D };
+		result[431] = new int[] { 0x016E };
+		result[432] = new int[] { 0x016F };
+		result[433] = new int[] { 0x0170 };
+		result[434] = new int[] { 0x0171 };
+		result[435] = new int[] { 0x0172 };
+		result[436] = new int[] { 0x0173 };
+		result[437] = new int[] { 0x0174 };
+		result[438] = new int[] { 0x0175 };
+		result[439] = new int[] { 0x0176 };
+		result[440] = new int[] { 0x0177 };
+		result[441] = new int[] { 0x0178 };
+		result[442] = new int[] { 0x0179 };
+		result[443] = new int[] { 0x017A };
+		result[444] = new int[] { 0x017B };
+		result[445] = new int[] { 0x017C };
+		result[446] = new int[] { 0x017D };
+		result[447] = new int[] { 0x017D, 0x0326 };
+		result[448] = new int[] { 0x017D, 0x0327 };
+		result[449] = new int[] { 0x017E };
+		result[450] = new int[] { 0x017E, 0x0326 };
+		result[451] = new int[] { 0x017E, 0x0327 };
+		result[452] = new int[] { 0x0187 };
+		result[453] = new int[] { 0x0188 };
+		result[454] = new int[] { 0x018F };
+		result[455] = new int[] { 0x0197 };
+		result[456] = new int[] { 0x01A0 };
+		result[457] = new int[] { 0x01A1 };
+		result[458] = new int[] { 0x01AF };
+		result[459] = new int[] { 0x01B0 };
+		result[460] = new int[] { 0x01B7 };
+		result[461] = new int[] { 0x01CD };
+		result[462] = new int[] { 0x01CE };
+		result[463] = new int[] { 0x01CF };
+		result[464] = new int[] { 0x01D0 };
+		result[465] = new int[] { 0x01D1 };
+		result[466] = new int[] { 0x01D2 };
+		result[467] = new int[] { 0x01D3 };
+		result[468] = new int[] { 0x01D4 };
+		result[469] = new int[] { 0x01D5 };
+		result[470] = new int[] { 0x01D6 };
+		result[471] = new int[] { 0x01D7 };
+		result[472] = new int[] { 0x01D8 };
+		result[473] = new int[] { 0x01D9 };
+		result[474] = new int[] { 0x01DA };
+		result[475] = new int[] { 0x01DB };
+		result[476] = new int[] { 0x01DC };
+		result[477] = new int[] { 0x01DE };
+		result[478] = new int[] { 0x01DF };
+		result[479] = new int[] { 0x01E2 };
+		result[480] = new int[] { 0x01E3 };
+		result[481] = new int[] { 0x01E4 };
+		result[482] = new int[] { 0x01E5 };
+		result[483] = new int[] { 0x01E6 };
+		result[484] = new int[] { 0x01E7 };
+		result[485] = new int[] { 0x01E8 };
+		result[486] = new int[] { 0x01E9 };
+		result[487] = new int[] { 0x01EA };
+		result[488] = new int[] { 0x01EB };
+		result[489] = new int[] { 0x01EC };
+		result[490] = new int[] { 0x01ED };
+		result[491] = new int[] { 0x01EE };
+		result[492] = new int[] { 0x01EF };
+		result[493] = new int[] { 0x01F0 };
+		result[494] = new int[] { 0x01F4 };
+		result[495] = new int[] { 0x01F5 };
+		result[496] = new int[] { 0x01F8 };
+		result[497] = new int[] { 0x01F9 };
+		result[498] = new int[] { 0x01FA };
+		result[499] = new int[] { 0x01FB };
+		result[500] = new int[] { 0x01FC };
+		result[501] = new int[] { 0x01FD };
+		result[502] = new int[] { 0x01FE };
+		result[503] = new int[] { 0x01FF };
+		result[504] = new int[] { 0x0212 };
+		result[505] = new int[] { 0x0213 };
+		result[506] = new int[] { 0x0218 };
+		result[507] = new int[] { 0x0219 };
+		result[508] = new int[] { 0x021A };
+		result[509] = new int[] { 0x021B };
+		result[510] = new int[] { 0x021E };
+		result[511] = new int[] { 0x021F };
+	}
+
+	private static void codePoints2(int[][] result) {
+		result[512] = new int[] { 0x0227 };
+		result[513] = new int[] { 0x0228 };
+		result[514] = new int[] { 0x0229 };
+		result[515] = new int[] { 0x022A };
+		result[516] = new int[] { 0x022B };
+		result[517] = new int[] { 0x022C };
+		result[518] = new int[] { 0x022D };
+		result[519] = new int[] { 0x022E };
+		result[520] = new int[] { 0x022F };
+		result[521] = new int[] { 0x0230 };
+		result[522] = new int[] { 0x0231 };
+		result[523] = new int[] { 0x0232 };
+		result[524] = new int[] { 0x0233 };
+		result[525] = new int[] { 0x0259 };
+		result[526] = new int[] { 0x0268 };
+		result[527] = new int[] { 0x0292 };
+		result[528] = new int[] { 0x1E02 };
+		result[529] = new int[] { 0x1E03 };
+		result[530] = new int[] { 0x1E06 };
+		result[531] = new int[] { 0x1E07 };
+		result[532] = new int[] { 0x1E0A };
+		result[533] = new int[] { 0x1E0B };
+		result[534] = new int[] { 0x1E0C };
+		result[535] = new int[] { 0x1E0D };
+		result[536] = new int[] { 0x1E0E };
+		result[537] = new int[] { 0x1E0F };
+		result[538] = new int[] { 0x1E10 };
+		result[539] = new int[] { 0x1E11 };
+		result[540] = new int[] { 0x1E1C };
+		result[541] = new int[] { 0x1E1D };
+		result[542] = new int[] { 0x1E1E };
+		result[543] = new int[] { 0x1E1F };
+		result[544] = new int[] { 0x1E20 };
+		result[545] = new int[] { 0x1E21 };
+		result[546] = new int[] { 0x1E22 };
+		result[547] = new int[] { 0x1E23 };
+		result[548] = new int[] { 0x1E24 };
+		result[549] = new int[] { 0x1E25 };
+		result[550] = new int[] { 0x1E26 };
+		result[551] = new int[] { 0x1E27 };
+		result[552] = new int[] { 0x1E28 };
+		result[553] = new int[] { 0x1E29 };
+		result[554] = new int[] { 0x1E2A };
+		result[555] = new int[] { 0x1E2B };
+		result[556] = new int[] { 0x1E2F };
+		result[557] = new int[] { 0x1E30 };
+		result[558] = new int[] { 0x1E31 };
+		result[559] = new int[] { 0x1E32 };
+		result[560] = new int[] { 0x1E32, 0x0304 };
+		result[561] = new int[] { 0x1E33 };
+		result[562] = new int[] { 0x1E33, 0x0304 };
+		result[563] = new int[] { 0x1E34 };
+		result[564] = new int[] { 0x1E35 };
+		result[565] = new int[] { 0x1E36 };
+		result[566] = new int[] { 0x1E37 };
+		result[567] = new int[] { 0x1E3A };
+		result[568] = new int[] { 0x1E3B };
+		result[569] = new int[] { 0x1E40 };
+		result[570] = new int[] { 0x1E41 };
+		result[571] = new int[] { 0x1E42 };
+		result[572] = new int[] { 0x1E43 };
+		result[573] = new int[] { 0x1E44 };
+		result[574] = new int[] { 0x1E45 };
+		result[575] = new int[] { 0x1E46 };
+		result[576] = new int[] { 0x1E47 };
+		result[577] = new int[] { 0x1E48 };
+		result[578] = new int[] { 0x1E49 };
+		result[579] = new int[] { 0x1E52 };
+		result[580] = new int[] { 0x1E53 };
+		result[581] = new int[] { 0x1E54 };
+		result[582] = new int[] { 0x1E55 };
+		result[583] = new int[] { 0x1E56 };
+		result[584] = new int[] { 0x1E57 };
+		result[585] = new int[] { 0x1E58 };
+		result[586] = new int[] { 0x1E59 };
+		result[587] = new int[] { 0x1E5A };
+		result[588] = new int[] { 0x1E5B };
+		result[589] = new int[] { 0x1E5E };
+		result[590] = new int[] { 0x1E5F };
+		result[591] = new int[] { 0x1E60 };
+		result[592] = new int[] { 0x1E61 };
+		result[593] = new int[] { 0x1E62 };
+		result[594] = new int[] { 0x1E62, 0x0304 };
+		result[595] = new int[] { 0x1E63 };
+		result[596] = new int[] { 0x1E63, 0x0304 };
+		result[597] = new int[] { 0x1E6A };
+		result[598] = new int[] { 0x1E6B };
+		result[599] = new int[] { 0x1E6C };
+		result[600] = new int[] { 0x1E6C, 0x0304 };
+		result[601] = new int[] { 0x1E6D };
+		result[602] = new int[] { 0x1E6D, 0x0304 };
+		result[603] = new int[] { 0x1E6E };
+		result[604] = new int[] { 0x1E6F };
+		result[605] = new int[] { 0x1E80 };
+		result[606] = new int[] { 0x1E81 };
+		result[607] = new int[] { 0x1E82 };
+		result[608] = new int[] { 0x1E83 };
+		result[609] = new int[] { 0x1E84 };
+		result[610] = new int[] { 0x1E85 };
+		result[611] = new int[] { 0x1E86 };
+		result[612] = new int[] { 0x1E87 };
+		result[613] = new int[] { 0x1E8C };
+		result[614] = new int[] { 0x1E8D };
+		result[615] = new int[] { 0x1E8E };
+		result[616] = new int[] { 0x1E8F };
+		result[617] = new int[] { 0x1E90 };
+		result[618] = new int[] { 0x1E91 };
+		result[619] = new int[] { 0x1E92 };
+		result[620] = new int[] { 0x1E93 };
+		result[621] = new int[] { 0x1E94 };
+		result[622] = new int[] { 0x1E95 };
+		result[623] = new int[] { 0x1E96 };
+		result[624] = new int[] { 0x1E97 };
+		result[625] = new int[] { 0x1E9E };
+		result[626] = new int[] { 0x1EA0 };
+		result[627] = new int[] { 0x1EA0, 0x0308 };
+		result[628] = new int[] { 0x1EA1 };
+		result[629] = new int[] { 0x1EA1, 0x0308 };
+		result[630] = new int[] { 0x1EA2 };
+		result[631] = new int[] { 0x1EA3 };
+		result[632] = new int[] { 0x1EA4 };
+		result[633] = new int[] { 0x1EA5 };
+		result[634] = new int[] { 0x1EA6 };
+		result[635] = new int[] { 0x1EA7 };
+		result[636] = new int[] { 0x1EA8 };
+		result[637] = new int[] { 0x1EA9 };
+		result[638] = new int[] { 0x1EAA };
+		result[639] = new int[] { 0x1EAB };
+		result[640] = new int[] { 0x1EAC };
+		result[641] = new int[] { 0x1EAD };
+		result[642] = new int[] { 0x1EAE };
+		result[643] = new int[] { 0x1EAF };
+		result[644] = new int[] { 0x1EB0 };
+		result[645] = new int[] { 0x1EB1 };
+		result[646] = new int[] { 0x1EB2 };
+		result[647] = new int[] { 0x1EB3 };
+		result[648] = new int[] { 0x1EB4 };
+		result[649] = new int[] { 0x1EB5 };
+		result[650] = new int[] { 0x1EB6 };
+		result[651] = new int[] { 0x1EB7 };
+		result[652] = new int[] { 0x1EB8 };
+		result[653] = new int[] { 0x1EB9 };
+		result[654] = new int[] { 0x1EBA };
+		result[655] = new int[] { 0x1EBB };
+		result[656] = new int[] { 0x1EBC };
+		result[657] = new int[] { 0x1EBD };
+		result[658] = new int[] { 0x1EBE };
+		result[659] = new int[] { 0x1EBF };
+		result[660] = new int[] { 0x1EC0 };
+		result[661] = new int[] { 0x1EC1 };
+		result[662] = new int[] { 0x1EC2 };
+		result[663] = new int[] { 0x1EC3 };
+		result[664] = new int[] { 0x1EC4 };
+		result[665] = new int[] { 0x1EC5 };
+		result[666] = new int[] { 0x1EC6 };
+		result[667] = new int[] { 0x1EC7 };
+		result[668] = new int[] { 0x1EC8 };
+		result[669] = new int[] { 0x1EC9 };
+		result[670] = new int[] { 0x1ECA };
+		result[671] = new int[] { 0x1ECB };
+		result[672] = new int[] { 0x1ECC };
+		result[673] = new int[] { 0x1ECC, 0x0308 };
+		result[674] = new int[] { 0x1ECD };
+		result[675] = new int[] { 0x1ECD, 0x0308 };
+		result[676] = new int[] { 0x1ECE };
+		result[677] = new int[] { 0x1ECF };
+		result[678] = new int[] { 0x1ED0 };
+		result[679] = new int[] { 0x1ED1 };
+		result[680] = new int[] { 0x1ED2 };
+		result[681] = new int[] { 0x1ED3 };
+		result[682] = new int[] { 0x1ED4 };
+		result[683] = new int[] { 0x1ED5 };
+		result[684] = new int[] { 0x1ED6 };
+		result[685] = new int[] { 0x1ED7 };
+		result[686] = new int[] { 0x1ED8 };
+		result[687] = new int[] { 0x1ED9 };
+		result[688] = new int[] { 0x1EDA };
+		result[689] = new int[] { 0x1EDB };
+		result[690] = new int[] { 0x1EDC };
+		result[691] = new int[] { 0x1EDD };
+		result[692] = new int[] { 0x1EDE };
+		result[693] = new int[] { 0x1EDF };
+		result[694] = new int[] { 0x1EE0 };
+		result[695] = new int[] { 0x1EE1 };
+		result[696] = new int[] { 0x1EE2 };
+		result[697] = new int[] { 0x1EE3 };
+		result[698] = new int[] { 0x1EE4 };
+		result[699] = new int[] { 0x1EE4, 0x0304 };
+		result[700] = new int[] { 0x1EE4, 0x0308 };
+		result[701] = new int[] { 0x1EE5 };
+		result[702] = new int[] { 0x1EE5, 0x0304 };
+		result[703] = new int[] { 0x1EE5, 0x0308 };
+		result[704] = new int[] { 0x1EE6 };
+		result[705] = new int[] { 0x1EE7 };
+		result[706] = new int[] { 0x1EE8 };
+		result[707] = new int[] { 0x1EE9 };
+		result[708] = new int[] { 0x1EEA };
+		result[709] = new int[] { 0x1EEB };
+		result[710] = new int[] { 0x1EEC };
+		result[711] = new int[] { 0x1EED };
+		result[712] = new int[] { 0x1EEE };
+		result[713] = new int[] { 0x1EEF };
+		result[714] = new int[] { 0x1EF0 };
+		result[715] = new int[] { 0x1EF1 };
+		result[716] = new int[] { 0x1EF2 };
+		result[717] = new int[] { 0x1EF3 };
+		result[718] = new int[] { 0x1EF4 };
+		result[719] = new int[] { 0x1EF5 };
+		result[720] = new int[] { 0x1EF6 };
+		result[721] = new int[] { 0x1EF7 };
+		result[722] = new int[] { 0x1EF8 };
+		result[723] = new int[] { 0x1EF9 };
+		result[724] = new int[] { 0x20AC };
+	}
+
+	private static String[] transliterations() {
+
+		String[] result = new String[725];
+		transliterations0(result);
+		transliterations1(result);
+		transliterations2(result);
+		return result;
+	}
+
+	private static void transliterations0(String[] result) {
+		result[0] = "\011";
+		result[1] = "\012";
+		result[2] = "\015";
+		result[3] = " ";
+		result[4] = "!";
+		result[5] = "\"";
+		result[6] = "#";
+		result[7] = "$";
+		result[8] = "%";
+		result[9] = "&";
+		result[10] = "'";
+		result[11] = "(";
+		result[12] = ")";
+		result[13] = "*";
+		result[14] = "+";
+		result[15] = ",";
+		result[16] = "-";
+		result[17] = ".";
+		result[18] = "/";
+		result[19] = "0";
+		result[20] = "1";
+		result[21] = "2";
+		result[22] = "3";
+		result[23] = "4";
+		result[24] = "5";
+		result[25] = "6";
+		result[26] = "7";
+		result[27] = "8";
+		result[28] = "9";
+		result[29] = ":";
+		result[30] = ";";
+		result[31] = "<";
+		result[32] = "=";
+		result[33] = ">";
+		result[34] = "?";
+		result[35] = "@";
+		result[36] = "A";
+		result[37] = "A";
+		result[38] = "B";
+		result[39] = "C";
+		result[40] = "C";
+		result[41] = "C";
+		result[42] = "C";
+		result[43] = "C";
+		result[44] = "C";
+		result[45] = "C";
+		result[46] = "C";
+		result[47] = "C";
+		result[48] = "D";
+		result[49] = "D";
+		result[50] = "E";
+		result[51] = "F";
+		result[52] = "F";
+		result[53] = "F";
+		result[54] = "G";
+		result[55] = "G";
+		result[56] = "H";
+		result[57] = "H";
+		result[58] = "H";
+		result[59] = "H";
+		result[60] = "I";
+		result[61] = "J";
+		result[62] = "J";
+		result[63] = "J";
+		result[64] = "K";
+		result[65] = "K";
+		result[66] = "K";
+		result[67] = "K";
+		result[68] = "K";
+		result[69] = "K";
+		result[70] = "K";
+		result[71] = "K";
+		result[72] = "KH";
+		result[73] = "KH";
+		result[74] = "L";
+		result[75] = "L";
+		result[76] = "L";
+		result[77] = "L";
+		result[78] = "L";
+		result[79] = "M";
+		result[80] = "M";
+		result[81] = "M";
+		result[82] = "M";
+		result[83] = "M";
+		result[84] = "N";
+		result[85] = "N";
+		result[86] = "N";
+		result[87] = "N";
+		result[88] = "N";
+		result[89] = "O";
+		result[90] = "P";
+		result[91] = "P";
+		result[92] = "P";
+		result[93] = "P";
+		result[94] = "P";
+		result[95] = "Q";
+		result[96] = "R";
+		result[97] = "R";
+		result[98] = "R";
+		result[99] = "R";
+		result[100] = "S";
+		result[101] = "S";
+		result[102] = "S";
+		result[103] = "S";
+		result[104] = "S";
+		result[105] = "T";
+		result[106] = "T";
+		result[107] = "T";
+		result[108] = "T";
+		result[109] = "T";
+		result[110] = "T";
+		result[111] = "U";
+		result[112] = "U";
+		result[113] = "V";
+		result[114] = "W";
+		result[115] = "X";
+		result[116] = "Y";
+		result[117] = "Z";
+		result[118] = "Z";
+		result[119] = "Z";
+		result[120] = "Z";
+		result[121] = "Z";
+		result[122] = "Z";
+		result[123] = "[";
+		result[124] = "\\";
+		result[125] = "]";
+		result[126] = "^";
+		result[127] = "_";
+		result[128] = "`";
+		result[129] = "A";
+		result[130] = "A";
+		result[131] = "B";
+		result[132] = "C";
+		result[133] = "C";
+		result[134] = "C";
+		result[135] = "C";
+		result[136] = "C";
+		result[137] = "C";
+		result[138] = "C";
+		result[139] = "C";
+		result[140] = "C";
+		result[141] = "D";
+		result[142] = "D";
+		result[143] = "E";
+		result[144] = "F";
+		result[145] = "F";
+		result[146] = "F";
+		result[147] = "G";
+		result[148] = "G";
+		result[149] = "H";
+		result[150] = "H";
+		result[151] = "H";
+		result[152] = "I";
+		result[153] = "J";
+		result[154] = "J";
+		result[155] = "K";
+		result[156] = "K";
+		result[157] = "K";
+		result[158] = "K";
+		result[159] = "K";
+		result[160] = "K";
+		result[161] = "K";
+		result[162] = "K";
+		result[163] = "KH";
+		result[164] = "L";
+		result[165] = "L";
+		result[166] = "L";
+		result[167] = "L";
+		result[168] = "L";
+		result[169] = "M";
+		result[170] = "M";
+		result[171] = "M";
+		result[172] = "M";
+		result[173] = "M";
+		result[174] = "N";
+		result[175] = "N";
+		result[176] = "N";
+		result[177] = "N";
+		result[178] = "N";
+		result[179] = "O";
+		result[180] = "P";
+		result[181] = "P";
+		result[182] = "P";
+		result[183] = "P";
+		result[184] = "P";
+		result[185] = "Q";
+		result[186] = "R";
+		result[187] = "R";
+		result[188] = "R";
+		result[189] = "R";
+		result[190] = "S";
+		result[191] = "S";
+		result[192] = "S";
+		result[193] = "S";
+		result[194] = "S";
+		result[195] = "T";
+		result[196] = "T";
+		result[197] = "T";
+		result[198] = "T";
+		result[199] = "T";
+		result[200] = "U";
+		result[201] = "U";
+		result[202] = "V";
+		result[203] = "W";
+		result[204] = "X";
+		result[205] = "Y";
+		result[206] = "Z";
+		result[207] = "Z";
+		result[208] = "Z";
+		result[209] = "Z";
+		result[210] = "Z";
+		result[211] = "Z";
+		result[212] = "{";
+		result[213] = "|";
+		result[214] = "}";
+		result[215] = "~";
+		result[216] = "\u00A1";
+		result[217] = "\u00A2";
+		result[218] = "\u00A3";
+		result[219] = "\u00A4";
+		result[220] = "\u00A5";
+		result[221] = "\u00A6";
+		result[222] = "\u00A7";
+		result[223] = "\u00A8";
+		result[224] = "\u00A9";
+		result[225] = "A";
+		result[226] = "\u00AB";
+		result[227] = "\u00AC";
+		result[228] = "\u00AE";
+		result[229] = "\u00AF";
+		result[230] = "\u00B0";
+		result[231] = "\u00B1";
+		result[232] = "\u00B2";
+		result[233] = "\u00B3";
+		result[234] = "\u00B4";
+		result[235] = "\u00B5";
+		result[236] = "\u00B6";
+		result[237] = "\u00B7";
+		result[238] = "\u00B8";
+		result[239] = "\u00B9";
+		result[240] = "O";
+		result[241] = "\u00BB";
+		result[242] = "\u00BC";
+		result[243] = "\u00BD";
+		result[244] = "\u00BE";
+		result[245] = "\u00BF";
+		result[246] = "A";
+		result[247] = "A";
+		result[248] = "A";
+		result[249] = "A";
+		result[250] = "AE";
+		result[251] = "AA";
+		result[252] = "AE";
+		result[253] = "C";
+		result[254] = "C";
+		result[255] = "E";
+	}
+
+	private static void transliterations1(String[] result) {
+		result[256] = "E";
+		result[257] = "E";
+		result[258] = "E";
+		result[259] = "I";
+		result[260] = "I";
+		result[261] = "I";
+		result[262] = "I";
+		result[263] = "D";
+		result[264] = "N";
+		result[265] = "O";
+		result[266] = "O";
+		result[267] = "O";
+		result[268] = "O";
+		result[269] = "OE";
+		result[270] = "\u00D7";
+		result[271] = "OE";
+		result[272] = "U";
+		result[273] = "U";
+		result[274] = "U";
+		result[275] = "U";
+		result[276] = "UE";
+		result[277] = "Y";
+		result[278] = "TH";
+		result[279] = "SS";
+		result[280] = "A";
+		result[281] = "A";
+		result[282] = "A";
+		result[283] = "A";
+		result[284] = "AE";
+		result[285] = "AA";
+		result[286] = "AE";
+		result[287] = "C";
+		result[288] = "C";
+		result[289] = "E";
+		result[290] = "E";
+		result[291] = "E";
+		result[292] = "E";
+		result[293] = "I";
+		result[294] = "I";
+		result[295] = "I";
+		result[296] = "I";
+		result[297] = "D";
+		result[298] = "N";
+		result[299] = "O";
+		result[300] = "O";
+		result[301] = "O";
+		result[302] = "O";
+		result[303] = "OE";
+		result[304] = "\u00F7";
+		result[305] = "OE";
+		result[306] = "U";
+		result[307] = "U";
+		result[308] = "U";
+		result[309] = "U";
+		result[310] = "UE";
+		result[311] = "Y";
+		result[312] = "TH";
+		result[313] = "Y";
+		result[314] = "Y";
+		result[315] = "A";
+		result[316] = "A";
+		result[317] = "A";
+		result[318] = "A";
+		result[319] = "A";
+		result[320] = "A";
+		result[321] = "C";
+		result[322] = "C";
+		result[323] = "C";
+		result[324] = "C";
+		result[325] = "C";
+		result[326] = "C";
+		result[327] = "C";
+		result[328] = "C";
+		result[329] = "C";
+		result[330] = "C";
+		result[331] = "C";
+		result[332] = "C";
+		result[333] = "D";
+		result[334] = "D";
+		result[335] = "D";
+		result[336] = "D";
+		result[337] = "E";
+		result[338] = "E";
+		result[339] = "E";
+		result[340] = "E";
+		result[341] = "E";
+		result[342] = "E";
+		result[343] = "E";
+		result[344] = "E";
+		result[345] = "E";
+		result[346] = "E";
+		result[347] = "G";
+		result[348] = "G";
+		result[349] = "G";
+		result[350] = "G";
+		result[351] = "G";
+		result[352] = "G";
+		result[353] = "G";
+		result[354] = "G";
+		result[355] = "H";
+		result[356] = "H";
+		result[357] = "H";
+		result[358] = "H";
+		result[359] = "I";
+		result[360] = "I";
+		result[361] = "I";
+		result[362] = "I";
+		result[363] = "I";
+		result[364] = "I";
+		result[365] = "I";
+		result[366] = "I";
+		result[367] = "I";
+		result[368] = "I";
+		result[369] = "I";
+		result[370] = "I";
+		result[371] = "IJ";
+		result[372] = "IJ";
+		result[373] = "J";
+		result[374] = "J";
+		result[375] = "K";
+		result[376] = "K";
+		result[377] = "K";
+		result[378] = "L";
+		result[379] = "L";
+		result[380] = "L";
+		result[381] = "L";
+		result[382] = "L";
+		result[383] = "L";
+		result[384] = "L";
+		result[385] = "L";
+		result[386] = "L";
+		result[387] = "L";
+		result[388] = "N";
+		result[389] = "N";
+		result[390] = "N";
+		result[391] = "N";
+		result[392] = "N";
+		result[393] = "N";
+		result[394] = "N";
+		result[395] = "N";
+		result[396] = "N";
+		result[397] = "O";
+		result[398] = "O";
+		result[399] = "O";
+		result[400] = "O";
+		result[401] = "O";
+		result[402] = "O";
+		result[403] = "OE";
+		result[404] = "OE";
+		result[405] = "R";
+		result[406] = "R";
+		result[407] = "R";
+		result[408] = "R";
+		result[409] = "R";
+		result[410] = "R";
+		result[411] = "S";
+		result[412] = "S";
+		result[413] = "S";
+		result[414] = "S";
+		result[415] = "S";
+		result[416] = "S";
+		result[417] = "S";
+		result[418] = "S";
+		result[419] = "T";
+		result[420] = "T";
+		result[421] = "T";
+		result[422] = "T";
+		result[423] = "T";
+		result[424] = "T";
+		result[425] = "U";
+		result[426] = "U";
+		result[427] = "U";
+		result[428] = "U";
+		result[429] = "U";
+		result[430] = "U";
+		result[431] = "U";
+		result[432] = "U";
+		result[433] = "U";
+		result[434] = "U";
+		result[435] = "U";
+		result[436] = "U";
+		result[437] = "W";
+		result[438] = "W";
+		result[439] = "Y";
+		result[440] = "Y";
+		result[441] = "Y";
+		result[442] = "Z";
+		result[443] = "Z";
+		result[444] = "Z";
+		result[445] = "Z";
+		result[446] = "Z";
+		result[447] = "Z";
+		result[448] = "Z";
+		result[449] = "Z";
+		result[450] = "Z";
+		result[451] = "Z";
+		result[452] = "C";
+		result[453] = "C";
+		result[454] = "E";
+		result[455] = "I";
+		result[456] = "O";
+		result[457] = "O";
+		result[458] = "U";
+		result[459] = "U";
+		result[460] = "Z";
+		result[461] = "A";
+		result[462] = "A";
+		result[463] = "I";
+		result[464] = "I";
+		result[465] = "O";
+		result[466] = "O";
+		result[467] = "U";
+		result[468] = "U";
+		result[469] = "UE";
+		result[470] = "UE";
+		result[471] = "UE";
+		result[472] = "UE";
+		result[473] = "UE";
+		result[474] = "UE";
+		result[475] = "UE";
+		result[476] = "UE";
+		result[477] = "AE";
+		result[478] = "AE";
+		result[479] = "AE";
+		result[480] = "AE";
+		result[481] = "G";
+		result[482] = "G";
+		result[483] = "G";
+		result[484] = "G";
+		result[485] = "K";
+		result[486] = "K";
+		result[487] = "O";
+		result[488] = "O";
+		result[489] = "O";
+		result[490] = "O";
+		result[491] = "Z";
+		result[492] = "Z";
+		result[493] = "J";
+		result[494] = "G";
+		result[495] = "G";
+		result[496] = "N";
+		result[497] = "N";
+		result[498] = "AA";
+		result[499] = "AA";
+		result[500] = "AE";
+		result[501] = "AE";
+		result[502] = "OE";
+		result[503] = "OE";
+		result[504] = "R";
+		result[505] = "R";
+		result[506] = "S";
+		result[507] = "S";
+		result[508] = "T";
+		result[509] = "T";
+		result[510] = "H";
+		result[511] = "H";
+	}
+
+	private static void transliterations2(String[] result) {
+		result[512] = "A";
+		result[513] = "E";
+		result[514] = "E";
+		result[515] = "OE";
+		result[516] = "OE";
+		result[517] = "O";
+		result[518] = "O";
+		result[519] = "O";
+		result[520] = "O";
+		result[521] = "O";
+		result[522] = "O";
+		result[523] = "Y";
+		result[524] = "Y";
+		result[525] = "E";
+		result[526] = "I";
+		result[527] = "Z";
+		result[528] = "B";
+		result[529] = "B";
+		result[530] = "B";
+		result[531] = "B";
+		result[532] = "D";
+		result[533] = "D";
+		result[534] = "D";
+		result[535] = "D";
+		result[536] = "D";
+		result[537] = "D";
+		result[538] = "D";
+		result[539] = "D";
+		result[540] = "E";
+		result[541] = "E";
+		result[542] = "F";
+		result[543] = "F";
+		result[544] = "G";
+		result[545] = "G";
+		result[546] = "H";
+		result[547] = "H";
+		result[548] = "H";
+		result[549] = "H";
+		result[550] = "H";
+		result[551] = "H";
+		result[552] = "H";
+		result[553] = "H";
+		result[554] = "H";
+		result[555] = "H";
+		result[556] = "I";
+		result[557] = "K";
+		result[558] = "K";
+		result[559] = "K";
+		result[560] = "K";
+		result[561] = "K";
+		result[562] = "K";
+		result[563] = "K";
+		result[564] = "K";
+		result[565] = "L";
+		result[566] = "L";
+		result[567] = "L";
+		result[568] = "L";
+		result[569] = "M";
+		result[570] = "M";
+		result[571] = "M";
+		result[572] = "M";
+		result[573] = "N";
+		result[574] = "N";
+		result[575] = "N";
+		result[576] = "N";
+		result[577] = "N";
+		result[578] = "N";
+		result[579] = "O";
+		result[580] = "O";
+		result[581] = "P";
+		result[582] = "P";
+		result[583] = "P";
+		result[584] = "P";
+		result[585] = "R";
+		result[586] = "R";
+		result[587] = "R";
+		result[588] = "R";
+		result[589] = "R";
+		result[590] = "R";
+		result[591] = "S";
+		result[592] = "S";
+		result[593] = "S";
+		result[594] = "S";
+		result[595] = "S";
+		result[596] = "S";
+		result[597] = "T";
+		result[598] = "T";
+		result[599] = "T";
+		result[600] = "T";
+		result[601] = "T";
+		result[602] = "T";
+		result[603] = "T";
+		result[604] = "T";
+		result[605] = "W";
+		result[606] = "W";
+		result[607] = "W";
+		result[608] = "W";
+		result[609] = "W";
+		result[610] = "W";
+		result[611] = "W";
+		result[612] = "W";
+		result[613] = "X";
+		result[614] = "X";
+		result[615] = "Y";
+		result[616] = "Y";
+		result[617] = "Z";
+		result[618] = "Z";
+		result[619] = "Z";
+		result[620] = "Z";
+		result[621] = "Z";
+		result[622] = "Z";
+		result[623] = "H";
+		result[624] = "T";
+		result[625] = "SS";
+		result[626] = "A";
+		result[627] = "AE";
+		result[628] = "A";
+		result[629] = "AE";
+		result[630] = "A";
+		result[631] = "A";
+		result[632] = "A";
+		result[633] = "A";
+		result[634] = "A";
+		result[635] = "A";
+		result[636] = "A";
+		result[637] = "A";
+		result[638] = "A";
+		result[639] = "A";
+		result[640] = "A";
+		result[641] = "A";
+		result[642] = "A";
+		result[643] = "A";
+		result[644] = "A";
+		result[645] = "A";
+		result[646] = "A";
+		result[647] = "A";
+		result[648] = "A";
+		result[649] = "A";
+		result[650] = "A";
+		result[651] = "A";
+		result[652] = "E";
+		result[653] = "E";
+		result[654] = "E";
+		result[655] = "E";
+		result[656] = "E";
+		result[657] = "E";
+		result[658] = "E";
+		result[659] = "E";
+		result[660] = "E";
+		result[661] = "E";
+		result[662] = "E";
+		result[663] = "E";
+		result[664] = "E";
+		result[665] = "E";
+		result[666] = "E";
+		result[667] = "E";
+		result[668] = "I";
+		result[669] = "I";
+		result[670] = "I";
+		result[671] = "I";
+		result[672] = "O";
+		result[673] = "OE";
+		result[674] = "O";
+		result[675] = "OE";
+		result[676] = "O";
+		result[677] = "O";
+		result[678] = "O";
+		result[679] = "O";
+		result[680] = "O";
+		result[681] = "O";
+		result[682] = "O";
+		result[683] = "O";
+		result[684] = "O";
+		result[685] = "O";
+		result[686] = "O";
+		result[687] = "O";
+		result[688] = "O";
+		result[689] = "O";
+		result[690] = "O";
+		result[691] = "O";
+		result[692] = "O";
+		result[693] = "O";
+		result[694] = "O";
+		result[695] = "O";
+		result[696] = "O";
+		result[697] = "O";
+		result[698] = "U";
+		result[699] = "U";
+		result[700] = "UE";
+		result[701] = "U";
+		result[702] = "U";
+		result[703] = "UE";
+		result[704] = "U";
+		result[705] = "U";
+		result[706] = "U";
+		result[707] = "U";
+		result[708] = "U";
+		result[709] = "U";
+		result[710] = "U";
+		result[711] = "U";
+		result[712] = "U";
+		result[713] = "U";
+		result[714] = "U";
+		result[715] = "U";
+		result[716] = "Y";
+		result[717] = "Y";
+		result[718] = "Y";
+		result[719] = "Y";
+		result[720] = "Y";
+		result[721] = "Y";
+		result[722] = "Y";
+		result[723] = "Y";
+		result[724] = "\u20AC";
+	}
+}
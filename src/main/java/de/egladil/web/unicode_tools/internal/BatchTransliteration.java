@@ -0,0 +1,168 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * BatchTransliteration transliterates lists of short texts like names. Each
+ * distinct text of a batch is transliterated once, duplicates get the same
+ * result. Large batches can be split into slices that are transliterated in
+ * parallel on a ForkJoinPool, each slice with its own duplicate detection.
+ */
+public final class BatchTransliteration {
+
+	/** Default number of texts per parallel slice. */
+	public static final int DEFAULT_SLICE_SIZE = 1024;
+
+	private final TransliterationTable transliterationTable;
+
+	private final int sliceSize;
+
+	/**
+	 * BatchTransliteration
+	 *
+	 * @param transliterationTable TransliterationTable
+	 * @param sliceSize            int number of texts per parallel slice.
+	 */
+	public BatchTransliteration(TransliterationTable transliterationTable, int sliceSize) {
+
+		if (transliterationTable == null) {
+			throw new IllegalArgumentException("transliterationTable must not be null");
+		}
+
+		if (sliceSize < 1) {
+			throw new IllegalArgumentException("sliceSize must be positive");
+		}
+
+		this.transliterationTable = transliterationTable;
+		this.sliceSize = sliceSize;
+	}
+
+	/**
+	 * Transliterates all texts in the calling thread.
+	 *
+	 * @param texts List null elements remain null.
+	 * @return List the transliterations in the order of texts.
+	 */
+	public List<String> transliterateAll(List<String> texts) {
+
+		if (texts == null) {
+			throw new IllegalArgumentException("texts must not be null");
+		}
+
+		String[] results = texts.toArray(new String[texts.size()]);
+		transliterate(results, 0, results.length);
+		return new ArrayList<>(Arrays.asList(results));
+	}
+
+	/**
+	 * Transliterates all texts on the given ForkJoinPool.
+	 *
+	 * @param texts List null elements remain null.
+	 * @param pool  ForkJoinPool
+	 * @return List the transliterations in the order of texts.
+	 */
+	public List<String> transliterateAll(List<String> texts, ForkJoinPool pool) {
+
+		if (texts == null) {
+			throw new IllegalArgumentException("texts must not be null");
+		}
+
+		if (pool == null) {
+			throw new IllegalArgumentException("pool must not be null");
+		}
+
+		String[] results = texts.toArray(new String[texts.size()]);
+
+		if (results.length <= sliceSize) {
+			transliterate(results, 0, results.length);
+		} else {
+			pool.invoke(new SliceAction(results, 0, results.length));
+		}
+		return new ArrayList<>(Arrays.asList(results));
+	}
+
+	/**
+	 * Replaces the texts in [from, to) by their transliterations.
+	 */
+	private void transliterate(String[] texts, int from, int to) {
+
+		Map<String, String> transliterated = new HashMap<>();
+
+		for (int i = from; i < to; i++) {
+
+			String text = texts[i];
+
+			if (text != null) {
+
+				String result = transliterated.get(text);
+
+				if (result == null) {
+					result = transliterationTable.transliterate(text);
+					transliterated.put(text, result);
+				}
+				texts[i] = result;
+			}
+		}
+	}
+
+	private class SliceAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String[] texts;
+
+		private final int from;
+
+		private final int to;
+
+		SliceAction(String[] texts, int from, int to) {
+
+			this.texts = texts;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+
+			if (to - from <= sliceSize) {
+				transliterate(texts, from, to);
+				return;
+			}
+
+			int middle = (from + to) >>> 1;
+			invokeAll(new SliceAction(texts, from, middle), new SliceAction(texts, middle, to));
+		}
+	}
+}
@@ -0,0 +1,91 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * CodePointBitSet is an immutable set of single code points. Code points of the
+ * Basic Multilingual Plane are stored in a bitmap of 8 KB, code points of the
+ * supplementary planes in a sorted table. Membership checks do not allocate.
+ */
+public final class CodePointBitSet {
+
+	private static final int BMP_SIZE = Character.MAX_VALUE + 1;
+
+	private final long[] bmp;
+
+	private final int[] supplementary;
+
+	private final int size;
+
+	/**
+	 * CodePointBitSet containing the set bits of the given BitSet.
+	 *
+	 * @param codePoints BitSet the indexes of the set bits are the code points.
+	 */
+	public CodePointBitSet(BitSet codePoints) {
+
+		if (codePoints == null) {
+			throw new IllegalArgumentException("codePoints must not be null");
+		}
+
+		if (codePoints.length() > Character.MAX_CODE_POINT + 1) {
+			throw new IllegalArgumentException("codePoints must not contain invalid code points");
+		}
+
+		this.bmp = Arrays.copyOf(codePoints.get(0, BMP_SIZE).toLongArray(), BMP_SIZE / Long.SIZE);
+		this.supplementary = codePoints.stream().filter(cp -> cp >= BMP_SIZE).toArray();
+		this.size = codePoints.cardinality();
+	}
+
+	/**
+	 * Decides if the given code point is contained.
+	 *
+	 * @param codePoint int
+	 * @return boolean
+	 */
+	public boolean contains(int codePoint) {
+
+		if (codePoint < 0) {
+			return false;
+		}
+
+		if (codePoint < BMP_SIZE) {
+			return (bmp[codePoint >>> 6] & (1L << codePoint)) != 0;
+		}
+
+		return supplementary.length > 0 && Arrays.binarySearch(supplementary, codePoint) >= 0;
+	}
+
+	/**
+	 * @return int the number of code points.
+	 */
+	public int size() {
+		return size;
+	}
+}
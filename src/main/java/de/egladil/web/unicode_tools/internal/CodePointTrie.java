@@ -0,0 +1,315 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * CodePointTrie is an immutable prefix trie over sequences of code points. Each
+ * sequence is mapped to an int value, usually its index in some table. The
+ * nodes are stored in flat int arrays, so walking the trie does not
+ * allocate.<br>
+ * <br>
+ * Nodes are addressed by ints. The edges of a node are sorted by code point and
+ * searched binary.
+ */
+public final class CodePointTrie {
+
+	/** The node all sequences start at. */
+	public static final int ROOT = 0;
+
+	/** Returned by next when there is no such edge. */
+	public static final int NO_NODE = -1;
+
+	/** Value of nodes that do not terminate a sequence. */
+	public static final int NO_VALUE = -1;
+
+	/** Returned by longestMatch when no sequence matches. */
+	public static final long NO_MATCH = -1L;
+
+	private final int[] edgeStart;
+
+	private final int[] edgeCodePoints;
+
+	private final int[] edgeTargets;
+
+	private final int[] values;
+
+	private final int maxLength;
+
+	private final int size;
+
+	/**
+	 * CodePointTrie containing the given sequences. The value of a sequence is its
+	 * index in the list. If a sequence occurs more than once, the last occurrence
+	 * wins.
+	 *
+	 * @param sequences List of code point arrays, none of them empty.
+	 */
+	public CodePointTrie(List<int[]> sequences) {
+		this(sequences, null);
+	}
+
+	/**
+	 * CodePointTrie containing the given sequences mapped to the given values. If a
+	 * sequence occurs more than once, the last occurrence wins.
+	 *
+	 * @param sequences      List of code point arrays, none of them empty.
+	 * @param sequenceValues int[] of the same size as sequences with values &gt;=
+	 *                       0 or null to use the indexes of the sequences.
+	 */
+	public CodePointTrie(List<int[]> sequences, int[] sequenceValues) {
+
+		if (sequences == null) {
+			throw new IllegalArgumentException("sequences must not be null");
+		}
+
+		if (sequenceValues != null && sequenceValues.length != sequences.size()) {
+			throw new IllegalArgumentException("sequences and sequenceValues need to be of same size");
+		}
+
+		BuildNode root = new BuildNode();
+		int nodeCount = 1;
+		int edgeCount = 0;
+		int longest = 0;
+		int distinct = 0;
+
+		for (int index = 0; index < sequences.size(); index++) {
+
+			int[] sequence = sequences.get(index);
+
+			if (sequence == null || sequence.length == 0) {
+				throw new IllegalArgumentException("sequences must not contain empty sequences");
+			}
+
+			BuildNode node = root;
+
+			for (int codePoint : sequence) {
+
+				BuildNode child = node.children.get(codePoint);
+
+				if (child == null) {
+					child = new BuildNode();
+					node.children.put(codePoint, child);
+					nodeCount++;
+					edgeCount++;
+				}
+				node = child;
+			}
+
+			if (node.value == NO_VALUE) {
+				distinct++;
+			}
+			node.value = sequenceValues == null ? index : sequenceValues[index];
+
+			if (node.value < 0) {
+				throw new IllegalArgumentException("sequenceValues must not be negative");
+			}
+			longest = Math.max(longest, sequence.length);
+		}
+
+		this.edgeStart = new int[nodeCount + 1];
+		this.edgeCodePoints = new int[edgeCount];
+		this.edgeTargets = new int[edgeCount];
+		this.values = new int[nodeCount];
+		this.maxLength = longest;
+		this.size = distinct;
+
+		// breadth first, so the ids of the nodes are assigned in the order their edges
+		// are written.
+		Deque<BuildNode> queue = new ArrayDeque<>();
+		queue.add(root);
+		int nextId = 1;
+		int edge = 0;
+		int nodeId = 0;
+
+		while (!queue.isEmpty()) {
+
+			BuildNode node = queue.poll();
+			values[nodeId] = node.value;
+			edgeStart[nodeId] = edge;
+
+			for (Map.Entry<Integer, BuildNode> entry : node.children.entrySet()) {
+				edgeCodePoints[edge] = entry.getKey();
+				edgeTargets[edge] = nextId++;
+				queue.add(entry.getValue());
+				edge++;
+			}
+			nodeId++;
+		}
+		edgeStart[nodeCount] = edge;
+	}
+
+	/**
+	 * Follows the edge labeled with the given code point.
+	 *
+	 * @param node      int
+	 * @param codePoint int
+	 * @return int the target node or NO_NODE.
+	 */
+	public int next(int node, int codePoint) {
+
+		int low = edgeStart[node];
+		int high = edgeStart[node + 1] - 1;
+
+		while (low <= high) {
+
+			int middle = (low + high) >>> 1;
+			int label = edgeCodePoints[middle];
+
+			if (label < codePoint) {
+				low = middle + 1;
+			} else if (label > codePoint) {
+				high = middle - 1;
+			} else {
+				return edgeTargets[middle];
+			}
+		}
+		return NO_NODE;
+	}
+
+	/**
+	 * @param node int
+	 * @return int the value of the sequence terminating at node or NO_VALUE.
+	 */
+	public int value(int node) {
+		return values[node];
+	}
+
+	/**
+	 * @param node int
+	 * @return boolean true if some sequence continues after node.
+	 */
+	public boolean hasChildren(int node) {
+		return edgeStart[node + 1] > edgeStart[node];
+	}
+
+	/**
+	 * Gets the value of the sequence that equals the code points of the given
+	 * text.
+	 *
+	 * @param text CharSequence
+	 * @return int the value or NO_VALUE.
+	 */
+	public int get(CharSequence text) {
+
+		int node = ROOT;
+		int index = 0;
+
+		while (index < text.length() && node != NO_NODE) {
+
+			int codePoint = Character.codePointAt(text, index);
+			node = next(node, codePoint);
+			index += Character.charCount(codePoint);
+		}
+
+		return node == NO_NODE || index == 0 ? NO_VALUE : values[node];
+	}
+
+	/**
+	 * Finds the longest sequence that the text starts with at the given index.
+	 *
+	 * @param text  CharSequence
+	 * @param index int
+	 * @return long NO_MATCH or the number of matched chars in the upper and the
+	 *         value of the sequence in the lower 32 bits.
+	 */
+	public long longestMatch(CharSequence text, int index) {
+
+		long result = NO_MATCH;
+		int node = ROOT;
+		int position = index;
+
+		while (position < text.length()) {
+
+			int codePoint = Character.codePointAt(text, position);
+			node = next(node, codePoint);
+
+			if (node == NO_NODE) {
+				break;
+			}
+
+			position += Character.charCount(codePoint);
+
+			if (values[node] != NO_VALUE) {
+				result = match(position - index, values[node]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Packs the length and the value of a match into a long.
+	 *
+	 * @param length int
+	 * @param value  int
+	 * @return long
+	 */
+	public static long match(int length, int value) {
+		return ((long) length << 32) | (value & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * @param match long as returned by longestMatch.
+	 * @return int the number of matched chars.
+	 */
+	public static int matchLength(long match) {
+		return (int) (match >>> 32);
+	}
+
+	/**
+	 * @param match long as returned by longestMatch.
+	 * @return int the value of the matched sequence.
+	 */
+	public static int matchValue(long match) {
+		return (int) match;
+	}
+
+	/**
+	 * @return int the maximum number of code points of a sequence.
+	 */
+	public int maxLength() {
+		return maxLength;
+	}
+
+	/**
+	 * @return int the number of distinct sequences.
+	 */
+	public int size() {
+		return size;
+	}
+
+	private static class BuildNode {
+
+		private final Map<Integer, BuildNode> children = new TreeMap<>();
+
+		private int value = NO_VALUE;
+	}
+}
@@ -0,0 +1,165 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelTransliteration transliterates large texts on a ForkJoinPool. The
+ * text is split into chunks at boundaries that no key spans, so the result is
+ * exactly the same as that of the sequential transliteration. The chunks are
+ * transliterated in parallel and joined in order.
+ */
+public final class ParallelTransliteration {
+
+	/** Default number of chars per chunk. */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+	private final TransliterationTable transliterationTable;
+
+	private final int chunkSize;
+
+	/**
+	 * ParallelTransliteration
+	 *
+	 * @param transliterationTable TransliterationTable
+	 * @param chunkSize            int minimum number of chars per chunk.
+	 */
+	public ParallelTransliteration(TransliterationTable transliterationTable, int chunkSize) {
+
+		if (transliterationTable == null) {
+			throw new IllegalArgumentException("transliterationTable must not be null");
+		}
+
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive");
+		}
+
+		this.transliterationTable = transliterationTable;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Transliterates the given text. Texts that fit into one chunk are
+	 * transliterated in the calling thread.
+	 *
+	 * @param text CharSequence must not be modified during the transliteration.
+	 * @param pool ForkJoinPool
+	 * @return String
+	 */
+	public String transliterate(CharSequence text, ForkJoinPool pool) {
+
+		if (pool == null) {
+			throw new IllegalArgumentException("pool must not be null");
+		}
+
+		if (text == null) {
+			return null;
+		}
+
+		int length = text.length();
+
+		if (length <= chunkSize) {
+			return transliterationTable.transliterate(text);
+		}
+
+		// more chunks than workers balance chunks that transliterate slower.
+		int size = Math.max(chunkSize, length / (4 * pool.getParallelism()));
+		int[] bounds = new int[length / size + 2];
+		int count = 0;
+		int from = 0;
+
+		while (from < length) {
+
+			int to = Math.min(length, from + size);
+
+			while (!transliterationTable.isBoundary(text, to)) {
+				to++;
+			}
+			bounds[++count] = to;
+			from = to;
+		}
+
+		String[] results = new String[count];
+		pool.invoke(new ChunkAction(text, bounds, results, 0, count));
+
+		int resultLength = 0;
+
+		for (String result : results) {
+			resultLength += result.length();
+		}
+
+		StringBuilder sb = new StringBuilder(resultLength);
+
+		for (String result : results) {
+			sb.append(result);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Transliterates the chunks [first, last) and splits the range as long as it
+	 * has more than one chunk.
+	 */
+	private class ChunkAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final CharSequence text;
+
+		private final int[] bounds;
+
+		private final String[] results;
+
+		private final int first;
+
+		private final int last;
+
+		ChunkAction(CharSequence text, int[] bounds, String[] results, int first, int last) {
+
+			this.text = text;
+			this.bounds = bounds;
+			this.results = results;
+			this.first = first;
+			this.last = last;
+		}
+
+		@Override
+		protected void compute() {
+
+			if (last - first == 1) {
+				results[first] = transliterationTable.transliterate(CharBuffer.wrap(text, bounds[first], bounds[last]));
+				return;
+			}
+
+			int middle = (first + last) >>> 1;
+			invokeAll(new ChunkAction(text, bounds, results, first, middle),
+					new ChunkAction(text, bounds, results, middle, last));
+		}
+	}
+}
@@ -25,44 +25,17 @@
 
 package de.egladil.web.unicode_tools.internal;
 
-import java.io.IOException;
-import java.io.InputStream;
-
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-
-import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+import de.egladil.web.unicode_tools.generated.DefaultTransliterableCharacterSetTable;
 import de.egladil.web.unicode_tools.transliteration.TransliterableUTF8CharacterSet;
-import de.egladil.web.unicode_tools.validation.JAXBContextProvider;
-import de.egladil.web.unicode_tools.xml.DefaultCharacterSet;
 
 /**
  * TransliterableUTF8CharacterSetFactory creates a TransliterableUTF8CharacterSet
+ * from the class that is generated from defaultTransliterableCharacterSet.xml
+ * at build time.
  */
 public class TransliterableUTF8CharacterSetFactory {
 
-	private static final String UNICODE_WHITELIST_XML = "/defaultTransliterableCharacterSet.xml";
-
 	public TransliterableUTF8CharacterSet createCharacterSet() {
-
-		try (InputStream in = getClass().getResourceAsStream(UNICODE_WHITELIST_XML)) {
-
-			Unmarshaller unmarshaller = JAXBContextProvider.getJACBContext().createUnmarshaller();
-
-			Object obj = unmarshaller.unmarshal(in);
-
-			if (!(obj instanceof DefaultCharacterSet)) {
-				throw new IllegalArgumentException("provided xml is not valid for DefaultCharacterSet");
-			}
-
-			DefaultCharacterSet defaultCharSet = (DefaultCharacterSet) obj;
-
-			return TransliterableUTF8CharacterSet.from(defaultCharSet);
-
-		} catch (IOException e) {
-			throw new UnicodeToolsException("resource " + UNICODE_WHITELIST_XML + " is not present");
-		} catch (JAXBException e) {
-			throw new UnicodeToolsException("could not unmarshall " + UNICODE_WHITELIST_XML + ": " + e.getMessage(), e);
-		}
+		return TransliterableUTF8CharacterSet.fromCompiled(DefaultTransliterableCharacterSetTable.INSTANCE);
 	}
 }
@@ -0,0 +1,124 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import java.util.Comparator;
+
+/**
+ * TransliteratedComparison compares texts by their transliterations without
+ * creating them. It walks through both texts with TransliterationCursors that
+ * all instances share per thread, so comparing does not allocate. It is
+ * threadSafe.
+ */
+public final class TransliteratedComparison implements Comparator<CharSequence> {
+
+	/** reset with the table of the comparison per call and cleared afterwards. */
+	private static final ThreadLocal<TransliterationCursor[]> CURSORS = ThreadLocal.withInitial(
+			() -> new TransliterationCursor[] { new TransliterationCursor(), new TransliterationCursor() });
+
+	private final TransliterationTable transliterationTable;
+
+	/**
+	 * TransliteratedComparison
+	 *
+	 * @param transliterationTable TransliterationTable
+	 */
+	public TransliteratedComparison(TransliterationTable transliterationTable) {
+
+		if (transliterationTable == null) {
+			throw new IllegalArgumentException("transliterationTable must not be null");
+		}
+
+		this.transliterationTable = transliterationTable;
+	}
+
+	/**
+	 * Compares the transliterations of a and b lexicographically like
+	 * String.compareTo. null is less than any text.
+	 */
+	@Override
+	public int compare(CharSequence a, CharSequence b) {
+
+		if (a == null || b == null) {
+			return a == b ? 0 : a == null ? -1 : 1;
+		}
+
+		TransliterationCursor[] pair = CURSORS.get();
+		TransliterationCursor first = pair[0].reset(transliterationTable, a);
+		TransliterationCursor second = pair[1].reset(transliterationTable, b);
+
+		try {
+			while (true) {
+
+				int c1 = first.next();
+				int c2 = second.next();
+
+				if (c1 != c2 || c1 == TransliterationCursor.END) {
+					// END is less than any char.
+					return c1 - c2;
+				}
+			}
+		} finally {
+			first.clear();
+			second.clear();
+		}
+	}
+
+	/**
+	 * @param a CharSequence
+	 * @param b CharSequence
+	 * @return boolean true if a and b have the same transliteration or are both
+	 *         null.
+	 */
+	public boolean equals(CharSequence a, CharSequence b) {
+		return compare(a, b) == 0;
+	}
+
+	/**
+	 * @param text CharSequence
+	 * @return int the hashCode of the String of the transliteration of text or 0,
+	 *         if text is null.
+	 */
+	public int hashCode(CharSequence text) {
+
+		if (text == null) {
+			return 0;
+		}
+
+		TransliterationCursor cursor = CURSORS.get()[0].reset(transliterationTable, text);
+		int hash = 0;
+		int c;
+
+		try {
+			while ((c = cursor.next()) != TransliterationCursor.END) {
+				hash = 31 * hash + c;
+			}
+		} finally {
+			cursor.clear();
+		}
+		return hash;
+	}
+}
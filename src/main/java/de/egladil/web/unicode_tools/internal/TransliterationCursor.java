@@ -0,0 +1,166 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+/**
+ * TransliterationCursor walks through the chars of the transliteration of a
+ * text without creating it. It reads the chars of the transliterations from the
+ * char pool of the TransliterationTable and the chars without transliteration
+ * from the text. A cursor is not threadSafe, but can be reset to walk through
+ * another text, also of another TransliterationTable, so that walking does not
+ * allocate.
+ */
+public final class TransliterationCursor {
+
+	/** Returned by next() after the last char. */
+	public static final int END = -1;
+
+	private TransliterationTable transliterationTable;
+
+	private CharSequence text;
+
+	private int index;
+
+	private int sourceIndex;
+
+	private int outputId;
+
+	private int outputIndex;
+
+	private int outputLength;
+
+	/**
+	 * TransliterationCursor without a TransliterationTable. It returns END until it
+	 * is reset with a TransliterationTable.
+	 */
+	public TransliterationCursor() {
+	}
+
+	/**
+	 * TransliterationCursor
+	 *
+	 * @param transliterationTable TransliterationTable
+	 */
+	public TransliterationCursor(TransliterationTable transliterationTable) {
+
+		if (transliterationTable == null) {
+			throw new IllegalArgumentException("transliterationTable must not be null");
+		}
+
+		this.transliterationTable = transliterationTable;
+	}
+
+	/**
+	 * Positions the cursor before the first char of the transliteration of text.
+	 *
+	 * @param text CharSequence
+	 * @return TransliterationCursor this
+	 */
+	public TransliterationCursor reset(CharSequence text) {
+
+		this.text = text;
+		this.index = 0;
+		this.sourceIndex = 0;
+		this.outputIndex = 0;
+		this.outputLength = 0;
+		return this;
+	}
+
+	/**
+	 * Positions the cursor before the first char of the transliteration of text by
+	 * the given TransliterationTable.
+	 *
+	 * @param transliterationTable TransliterationTable
+	 * @param text                 CharSequence
+	 * @return TransliterationCursor this
+	 */
+	public TransliterationCursor reset(TransliterationTable transliterationTable, CharSequence text) {
+
+		if (transliterationTable == null) {
+			throw new IllegalArgumentException("transliterationTable must not be null");
+		}
+
+		this.transliterationTable = transliterationTable;
+		return reset(text);
+	}
+
+	/**
+	 * Releases the text.
+	 */
+	public void clear() {
+		reset(null);
+	}
+
+	/**
+	 * @return int the index in the text of the first char of the character whose
+	 *         transliteration contains the char last returned by next().
+	 */
+	public int sourceIndex() {
+		return sourceIndex;
+	}
+
+	/**
+	 * @return int the next char of the transliteration or END.
+	 */
+	public int next() {
+
+		while (outputIndex == outputLength) {
+
+			if (text == null || index >= text.length()) {
+				return END;
+			}
+
+			long match = transliterationTable.match(text, index);
+			sourceIndex = index;
+
+			if (match == CodePointTrie.NO_MATCH) {
+
+				char c = text.charAt(index++);
+
+				if (Character.isHighSurrogate(c) && index < text.length()
+						&& Character.isLowSurrogate(text.charAt(index))) {
+					// the pair has no transliteration, so its low surrogate must not be matched.
+					outputId = -1;
+					outputIndex = 0;
+					outputLength = 1;
+				}
+				return c;
+			}
+
+			// unchanged keys are stored in the pool as well.
+			outputId = TransliterationTable.outputId(CodePointTrie.matchValue(match));
+			outputIndex = 0;
+			outputLength = transliterationTable.outputLength(outputId);
+			index += CodePointTrie.matchLength(match);
+		}
+
+		if (outputId < 0) {
+			outputIndex++;
+			return text.charAt(index++);
+		}
+		return transliterationTable.outputChar(outputId, outputIndex++);
+	}
+}
@@ -0,0 +1,872 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TransliterationTable is the compiled form of a transliteration map. It
+ * transliterates whole texts in one pass: at every position the longest key is
+ * replaced by its transliteration, characters without transliteration are
+ * kept. It is immutable and threadSafe.<br>
+ * <br>
+ * Keys consisting of one char are looked up in a two-stage table indexed by
+ * the high and the low byte of the char. All other keys, i.e. combined code
+ * points and code points of the supplementary planes, are kept in a
+ * CodePointTrie. Both map a key to an entry that refers to a distinct
+ * transliteration. The transliterations are stored once in a shared char
+ * pool and once UTF-8 encoded in a shared byte pool for transliterating bytes
+ * without decoding them.<br>
+ * <br>
+ * An overlay created by withOverrides shares the lookup tables of its
+ * underlying table and keeps the overridden keys in a small CodePointTrie of
+ * its own. Only the output pools are copied.
+ */
+public final class TransliterationTable {
+
+	/** Entry of keys without transliteration. */
+	public static final int NO_ENTRY = -1;
+
+	private static final int BLOCK_SIZE = 256;
+
+	private static final int MAX_REUSED_CAPACITY = 8192;
+
+	private static final byte ASCII_COPY = 0;
+
+	private static final byte ASCII_SEQUENCE_START = 1;
+
+	private static final byte ASCII_LOOKUP = 2;
+
+	private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(StringBuilder::new);
+
+	private final int[] blockStart;
+
+	private final int[] blocks;
+
+	private final CodePointTrie sequences;
+
+	private final CodePointBitSet sequenceStarts;
+
+	/** chars that are not the first char of some key. */
+	private final CodePointBitSet continuations;
+
+	private final char[] pool;
+
+	/** offset in pool &lt;&lt; 32 | length per output. */
+	private final long[] outputs;
+
+	private final String[] outputStrings;
+
+	private final byte[] utf8Pool;
+
+	/** offset in utf8Pool &lt;&lt; 32 | length per output. */
+	private final long[] utf8Outputs;
+
+	/** how bytes of ASCII characters are transliterated. */
+	private final byte[] asciiClasses;
+
+	/** true if a combined key continues with an ASCII character. */
+	private final boolean asciiContinuations;
+
+	private final int size;
+
+	/** the table without overrides, this for tables that are no overlays. */
+	private final TransliterationTable underlying;
+
+	/** the overridden transliterations or null. */
+	private final Map<String, String> overrideMap;
+
+	/** all overridden keys or null. */
+	private final CodePointTrie overrides;
+
+	/** sorted chars that are not the first char of some overridden key or null. */
+	private final int[] overrideContinuations;
+
+	/**
+	 * TransliterationTable
+	 *
+	 * @param transliterations Map keys are printable characters, values their
+	 *                         transliterations.
+	 */
+	public TransliterationTable(Map<String, String> transliterations) {
+
+		if (transliterations == null) {
+			throw new IllegalArgumentException("transliterations must not be null");
+		}
+
+		int[] singleEntries = new int[Character.MAX_VALUE + 1];
+		Arrays.fill(singleEntries, NO_ENTRY);
+		List<int[]> sequenceKeys = new ArrayList<>();
+		int[] sequenceEntries = new int[transliterations.size()];
+		BitSet starts = new BitSet();
+		BitSet continuationChars = new BitSet();
+		Map<String, Integer> outputIds = new HashMap<>();
+		List<String> distinctOutputs = new ArrayList<>();
+
+		for (Map.Entry<String, String> transliteration : transliterations.entrySet()) {
+
+			String key = transliteration.getKey();
+			String output = transliteration.getValue();
+
+			if (key == null || key.isEmpty() || output == null) {
+				throw new IllegalArgumentException("transliterations must not contain empty keys or null values");
+			}
+
+			Integer outputId = outputIds.get(output);
+
+			if (outputId == null) {
+				outputId = distinctOutputs.size();
+				outputIds.put(output, outputId);
+				distinctOutputs.add(output);
+			}
+
+			int entry = entry(outputId, key.equals(output));
+
+			if (key.length() == 1) {
+				singleEntries[key.charAt(0)] = entry;
+			} else {
+				sequenceEntries[sequenceKeys.size()] = entry;
+				sequenceKeys.add(key.codePoints().toArray());
+				starts.set(key.codePointAt(0));
+
+				for (int i = 1; i < key.length(); i++) {
+					continuationChars.set(key.charAt(i));
+				}
+			}
+		}
+
+		this.sequences = new CodePointTrie(sequenceKeys, Arrays.copyOf(sequenceEntries, sequenceKeys.size()));
+		this.sequenceStarts = new CodePointBitSet(starts);
+		this.continuations = new CodePointBitSet(continuationChars);
+		this.size = transliterations.size();
+
+		// stage one: high byte to the start of its block. Block 0 is shared by all high
+		// bytes without entries.
+		this.blockStart = new int[BLOCK_SIZE];
+		int[] compactBlocks = new int[singleEntries.length + BLOCK_SIZE];
+		Arrays.fill(compactBlocks, 0, BLOCK_SIZE, NO_ENTRY);
+		int usedBlocks = 1;
+
+		for (int high = 0; high < BLOCK_SIZE; high++) {
+
+			int from = high * BLOCK_SIZE;
+
+			for (int low = 0; low < BLOCK_SIZE; low++) {
+
+				if (singleEntries[from + low] != NO_ENTRY) {
+					System.arraycopy(singleEntries, from, compactBlocks, usedBlocks * BLOCK_SIZE, BLOCK_SIZE);
+					blockStart[high] = usedBlocks * BLOCK_SIZE;
+					usedBlocks++;
+					break;
+				}
+			}
+		}
+		this.blocks = Arrays.copyOf(compactBlocks, usedBlocks * BLOCK_SIZE);
+
+		StringBuilder poolBuilder = new StringBuilder();
+		this.outputs = new long[distinctOutputs.size()];
+		this.outputStrings = distinctOutputs.toArray(new String[distinctOutputs.size()]);
+
+		for (int i = 0; i < outputStrings.length; i++) {
+			outputs[i] = packed(poolBuilder.length(), outputStrings[i].length());
+			poolBuilder.append(outputStrings[i]);
+		}
+		this.pool = poolBuilder.toString().toCharArray();
+
+		byte[][] encodedOutputs = new byte[outputStrings.length][];
+		int utf8PoolLength = 0;
+
+		for (int i = 0; i < outputStrings.length; i++) {
+			encodedOutputs[i] = outputStrings[i].getBytes(StandardCharsets.UTF_8);
+			utf8PoolLength += encodedOutputs[i].length;
+		}
+		this.utf8Pool = new byte[utf8PoolLength];
+		this.utf8Outputs = new long[outputStrings.length];
+		int utf8Offset = 0;
+
+		for (int i = 0; i < encodedOutputs.length; i++) {
+			utf8Outputs[i] = packed(utf8Offset, encodedOutputs[i].length);
+			System.arraycopy(encodedOutputs[i], 0, utf8Pool, utf8Offset, encodedOutputs[i].length);
+			utf8Offset += encodedOutputs[i].length;
+		}
+
+		this.asciiClasses = new byte[0x80];
+		boolean continuations = false;
+
+		for (int c = 0; c < asciiClasses.length; c++) {
+
+			int entry = singleEntries[c];
+
+			if (entry != NO_ENTRY && !isUnchanged(entry)) {
+				asciiClasses[c] = ASCII_LOOKUP;
+			} else if (starts.get(c)) {
+				asciiClasses[c] = ASCII_SEQUENCE_START;
+			}
+		}
+
+		for (int[] key : sequenceKeys) {
+
+			for (int i = 1; i < key.length; i++) {
+				continuations |= key[i] < 0x80;
+			}
+		}
+		this.asciiContinuations = continuations;
+		this.underlying = this;
+		this.overrideMap = null;
+		this.overrides = null;
+		this.overrideContinuations = null;
+	}
+
+	/**
+	 * Overlay of underlying with the given overrides.
+	 */
+	private TransliterationTable(TransliterationTable underlying, Map<String, String> overrideMap) {
+
+		this.underlying = underlying;
+		this.overrideMap = overrideMap;
+		this.blockStart = underlying.blockStart;
+		this.blocks = underlying.blocks;
+		this.sequences = underlying.sequences;
+		this.sequenceStarts = underlying.sequenceStarts;
+		this.continuations = underlying.continuations;
+
+		int baseCount = underlying.outputs.length;
+		List<int[]> keys = new ArrayList<>();
+		int[] entries = new int[overrideMap.size()];
+		StringBuilder poolBuilder = new StringBuilder().append(underlying.pool);
+		ByteArrayOutputStream utf8PoolBuilder = new ByteArrayOutputStream();
+		utf8PoolBuilder.write(underlying.utf8Pool, 0, underlying.utf8Pool.length);
+		this.outputs = Arrays.copyOf(underlying.outputs, baseCount + overrideMap.size());
+		this.outputStrings = Arrays.copyOf(underlying.outputStrings, baseCount + overrideMap.size());
+		this.utf8Outputs = Arrays.copyOf(underlying.utf8Outputs, baseCount + overrideMap.size());
+		this.asciiClasses = underlying.asciiClasses.clone();
+		BitSet continuationChars = new BitSet();
+		boolean continuations = underlying.asciiContinuations;
+		int added = 0;
+
+		for (Map.Entry<String, String> override : overrideMap.entrySet()) {
+
+			String key = override.getKey();
+			String output = override.getValue();
+
+			if (key == null || key.isEmpty() || output == null) {
+				throw new IllegalArgumentException("transliterations must not contain empty keys or null values");
+			}
+
+			int outputId = baseCount + keys.size();
+			byte[] encoded = output.getBytes(StandardCharsets.UTF_8);
+			outputs[outputId] = packed(poolBuilder.length(), output.length());
+			outputStrings[outputId] = output;
+			utf8Outputs[outputId] = packed(utf8PoolBuilder.size(), encoded.length);
+			poolBuilder.append(output);
+			utf8PoolBuilder.write(encoded, 0, encoded.length);
+
+			entries[keys.size()] = entry(outputId, key.equals(output));
+			keys.add(key.codePoints().toArray());
+
+			if (key.charAt(0) < 0x80) {
+				asciiClasses[key.charAt(0)] = ASCII_LOOKUP;
+			}
+
+			for (int i = 1; i < key.length(); i++) {
+				continuationChars.set(key.charAt(i));
+				continuations |= key.charAt(i) < 0x80;
+			}
+
+			if (underlying.entry(key) == NO_ENTRY) {
+				added++;
+			}
+		}
+
+		this.overrides = new CodePointTrie(keys, entries);
+		this.overrideContinuations = continuationChars.stream().toArray();
+		this.asciiContinuations = continuations;
+		this.pool = poolBuilder.toString().toCharArray();
+		this.utf8Pool = utf8PoolBuilder.toByteArray();
+		this.size = underlying.size + added;
+	}
+
+	/**
+	 * Creates an overlay of this table in which the given transliterations
+	 * replace or add to those of this table. The overlay shares the lookup tables
+	 * of this table, so it is cheap to create and needs little memory. Overriding
+	 * an overlay merges the overrides.
+	 *
+	 * @param transliterations Map keys are printable characters, values their
+	 *                         transliterations.
+	 * @return TransliterationTable
+	 */
+	public TransliterationTable withOverrides(Map<String, String> transliterations) {
+
+		if (transliterations == null) {
+			throw new IllegalArgumentException("transliterations must not be null");
+		}
+
+		Map<String, String> merged = new HashMap<>();
+
+		if (overrideMap != null) {
+			merged.putAll(overrideMap);
+		}
+		merged.putAll(transliterations);
+		return new TransliterationTable(underlying, Collections.unmodifiableMap(merged));
+	}
+
+	private static long packed(int offset, int length) {
+		return ((long) offset << 32) | length;
+	}
+
+	private static int offset(long packed) {
+		return (int) (packed >>> 32);
+	}
+
+	private static int length(long packed) {
+		return (int) packed;
+	}
+
+	private static int entry(int outputId, boolean unchanged) {
+		return (outputId << 1) | (unchanged ? 1 : 0);
+	}
+
+	/**
+	 * @param entry int
+	 * @return int the id of the transliteration the entry refers to.
+	 */
+	public static int outputId(int entry) {
+		return entry >>> 1;
+	}
+
+	/**
+	 * @param entry int
+	 * @return boolean true if the transliteration equals the key.
+	 */
+	public static boolean isUnchanged(int entry) {
+		return (entry & 1) != 0;
+	}
+
+	/**
+	 * Finds the longest key that the text starts with at the given index. It does
+	 * not allocate.
+	 *
+	 * @param text  CharSequence
+	 * @param index int
+	 * @return long CodePointTrie.NO_MATCH or the number of matched chars in the
+	 *         upper and the entry in the lower 32 bits.
+	 */
+	public long match(CharSequence text, int index) {
+
+		char c = text.charAt(index);
+		long result = CodePointTrie.NO_MATCH;
+		int entry = blocks[blockStart[c >>> 8] + (c & 0xFF)];
+
+		if (entry != NO_ENTRY) {
+			result = CodePointTrie.match(1, entry);
+		}
+
+		if (sequences.size() > 0 && sequenceStarts.contains(Character.codePointAt(text, index))) {
+
+			long sequenceMatch = sequences.longestMatch(text, index);
+
+			if (sequenceMatch != CodePointTrie.NO_MATCH) {
+				result = sequenceMatch;
+			}
+		}
+
+		if (overrides != null) {
+
+			long override = overrides.longestMatch(text, index);
+
+			// an overridden key replaces the key of the same length.
+			if (override != CodePointTrie.NO_MATCH
+					&& CodePointTrie.matchLength(override) >= CodePointTrie.matchLength(result)) {
+				result = override;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the entry of the given key.
+	 *
+	 * @param key CharSequence
+	 * @return int the entry or NO_ENTRY.
+	 */
+	public int entry(CharSequence key) {
+
+		if (key == null || key.length() == 0) {
+			return NO_ENTRY;
+		}
+
+		if (overrides != null) {
+
+			int override = overrides.get(key);
+
+			if (override != CodePointTrie.NO_VALUE) {
+				return override;
+			}
+		}
+
+		if (key.length() == 1) {
+			char c = key.charAt(0);
+			return blocks[blockStart[c >>> 8] + (c & 0xFF)];
+		}
+
+		int value = sequences.get(key);
+		return value == CodePointTrie.NO_VALUE ? NO_ENTRY : value;
+	}
+
+	/**
+	 * Gets the transliteration of the given key.
+	 *
+	 * @param key CharSequence
+	 * @return String or null, if key has no transliteration.
+	 */
+	public String get(CharSequence key) {
+
+		int entry = entry(key);
+		return entry == NO_ENTRY ? null : outputStrings[outputId(entry)];
+	}
+
+	/**
+	 * @param outputId int
+	 * @return int the number of chars of the transliteration.
+	 */
+	public int outputLength(int outputId) {
+		return length(outputs[outputId]);
+	}
+
+	/**
+	 * @param outputId int
+	 * @param index    int
+	 * @return char the char at index of the transliteration.
+	 */
+	public char outputChar(int outputId, int index) {
+		return pool[offset(outputs[outputId]) + index];
+	}
+
+	/**
+	 * @param outputId int
+	 * @return String the transliteration.
+	 */
+	public String output(int outputId) {
+		return outputStrings[outputId];
+	}
+
+	/**
+	 * @return int the number of distinct transliterations.
+	 */
+	public int outputCount() {
+		return outputs.length;
+	}
+
+	/**
+	 * Checks if the text can be split at index without changing its
+	 * transliteration. This is the case when the char at index is neither a low
+	 * surrogate nor part of a key other than its first char, because then no key
+	 * can span index.
+	 *
+	 * @param text  CharSequence
+	 * @param index int
+	 * @return boolean
+	 */
+	public boolean isBoundary(CharSequence text, int index) {
+
+		if (index <= 0 || index >= text.length()) {
+			return true;
+		}
+
+		char c = text.charAt(index);
+		return !Character.isLowSurrogate(c) && !continuations.contains(c)
+				&& (overrideContinuations == null || Arrays.binarySearch(overrideContinuations, c) < 0);
+	}
+
+	/**
+	 * @return int the maximum number of chars of a key.
+	 */
+	public int maxKeyLength() {
+		return Math.max(1, 2 * maxKeyCodePoints());
+	}
+
+	private int maxKeyCodePoints() {
+		return overrides == null ? sequences.maxLength() : Math.max(sequences.maxLength(), overrides.maxLength());
+	}
+
+	/**
+	 * @return int the number of keys.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Transliterates the given text.
+	 *
+	 * @param text CharSequence
+	 * @return String the same instance, if text is a String that does not change.
+	 */
+	public String transliterate(CharSequence text) {
+
+		if (text == null) {
+			return null;
+		}
+
+		int length = text.length();
+		int index = 0;
+		int copied = 0;
+		StringBuilder result = null;
+
+		while (index < length) {
+
+			long match = match(text, index);
+
+			if (match == CodePointTrie.NO_MATCH) {
+				index += Character.charCount(Character.codePointAt(text, index));
+				continue;
+			}
+
+			int entry = CodePointTrie.matchValue(match);
+
+			if (!isUnchanged(entry)) {
+
+				if (result == null) {
+					result = BUFFERS.get();
+					result.setLength(0);
+				}
+				appendOutput(result.append(text, copied, index), outputId(entry));
+				copied = index + CodePointTrie.matchLength(match);
+			}
+			index += CodePointTrie.matchLength(match);
+		}
+
+		if (result == null) {
+			return text.toString();
+		}
+
+		String transliterated = result.append(text, copied, length).toString();
+
+		if (result.capacity() > MAX_REUSED_CAPACITY) {
+			BUFFERS.remove();
+		}
+		return transliterated;
+	}
+
+	/**
+	 * Transliterates the given text and appends the result to out.
+	 *
+	 * @param text CharSequence
+	 * @param out  Appendable
+	 * @throws IOException if out throws it.
+	 */
+	public void transliterate(CharSequence text, Appendable out) throws IOException {
+		transliterate(text, true, out);
+	}
+
+	/**
+	 * Transliterates the given text as far as possible without knowing the chars
+	 * following it and appends the result to out. Unless endOfInput, the last
+	 * maxKeyLength() - 1 chars may be left over, because a key starting there could
+	 * continue in the following chars.
+	 *
+	 * @param text       CharSequence
+	 * @param endOfInput boolean true if no chars follow text.
+	 * @param out        Appendable
+	 * @return int the number of chars transliterated. The remaining chars have to
+	 *         be passed again together with the following chars.
+	 * @throws IOException if out throws it.
+	 */
+	public int transliterate(CharSequence text, boolean endOfInput, Appendable out) throws IOException {
+
+		if (text == null) {
+			throw new IllegalArgumentException("text must not be null");
+		}
+
+		if (out == null) {
+			throw new IllegalArgumentException("out must not be null");
+		}
+
+		int length = text.length();
+		int end = endOfInput ? length : length - maxKeyLength() + 1;
+		int index = 0;
+		int copied = 0;
+
+		while (index < end) {
+
+			long match = match(text, index);
+
+			if (match == CodePointTrie.NO_MATCH) {
+				index += Character.charCount(Character.codePointAt(text, index));
+				continue;
+			}
+
+			int entry = CodePointTrie.matchValue(match);
+
+			if (!isUnchanged(entry)) {
+				out.append(text, copied, index);
+				appendOutput(out, outputId(entry));
+				copied = index + CodePointTrie.matchLength(match);
+			}
+			index += CodePointTrie.matchLength(match);
+		}
+		out.append(text, copied, Math.max(index, copied));
+		return Math.max(index, copied);
+	}
+
+	/**
+	 * Finds the longest key that the UTF-8 encoded bytes start with at the given
+	 * index. It does not allocate and does not change the position of buffer.
+	 *
+	 * @param buffer ByteBuffer UTF-8 encoded.
+	 * @param index  int absolute index of the first byte.
+	 * @param limit  int absolute index after the last byte that may be read.
+	 * @return long CodePointTrie.NO_MATCH or the number of matched bytes in the
+	 *         upper and the entry in the lower 32 bits.
+	 */
+	public long match(ByteBuffer buffer, int index, int limit) {
+
+		int codePoint = UTF8Decoder.decode(buffer, index, limit);
+
+		if (codePoint == UTF8Decoder.MALFORMED) {
+			return CodePointTrie.NO_MATCH;
+		}
+
+		int position = index + UTF8Decoder.encodedLength(codePoint);
+		long result = CodePointTrie.NO_MATCH;
+
+		if (codePoint <= Character.MAX_VALUE) {
+
+			int entry = blocks[blockStart[codePoint >>> 8] + (codePoint & 0xFF)];
+
+			if (entry != NO_ENTRY) {
+				result = CodePointTrie.match(position - index, entry);
+			}
+		}
+
+		if (sequences.size() > 0 && sequenceStarts.contains(codePoint)) {
+			result = longestMatch(sequences, buffer, index, limit, result);
+		}
+
+		if (overrides != null) {
+
+			long override = longestMatch(overrides, buffer, index, limit, CodePointTrie.NO_MATCH);
+
+			if (override != CodePointTrie.NO_MATCH
+					&& CodePointTrie.matchLength(override) >= CodePointTrie.matchLength(result)) {
+				result = override;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Walks trie along the code points of the bytes starting at index.
+	 *
+	 * @return long result or the longer match found in trie.
+	 */
+	private static long longestMatch(CodePointTrie trie, ByteBuffer buffer, int index, int limit, long result) {
+
+		int position = index;
+		int node = CodePointTrie.ROOT;
+
+		while (position < limit) {
+
+			int codePoint = UTF8Decoder.decode(buffer, position, limit);
+
+			if (codePoint == UTF8Decoder.MALFORMED) {
+				break;
+			}
+
+			node = trie.next(node, codePoint);
+
+			if (node == CodePointTrie.NO_NODE) {
+				break;
+			}
+
+			position += UTF8Decoder.encodedLength(codePoint);
+
+			if (trie.value(node) != CodePointTrie.NO_VALUE) {
+				result = CodePointTrie.match(position - index, trie.value(node));
+			}
+
+			if (!trie.hasChildren(node)) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return int the number of bytes that have to be available to transliterate
+	 *         the code point at some index without knowing the following bytes.
+	 */
+	public int maxKeyBytes() {
+		return 4 * Math.max(1, maxKeyCodePoints());
+	}
+
+	/**
+	 * Transliterates the UTF-8 encoded bytes between position and limit of in and
+	 * writes the UTF-8 encoded result to out. Runs of ASCII bytes without
+	 * transliteration are copied in bulk, other bytes are decoded only as far as
+	 * needed to find the keys. Nothing is allocated.<br>
+	 * <br>
+	 * Like a CharsetDecoder it advances the positions of both buffers and stops
+	 * with UNDERFLOW when in has no more bytes that can be transliterated without
+	 * knowing the following ones, with OVERFLOW when out is full and with a
+	 * malformed-input result of length 1 at the position of a byte that does not
+	 * start a well-formed UTF-8 sequence.
+	 *
+	 * @param in         ByteBuffer
+	 * @param out        ByteBuffer
+	 * @param endOfInput boolean true if no bytes follow those of in.
+	 * @return CoderResult
+	 */
+	public CoderResult transliterate(ByteBuffer in, ByteBuffer out, boolean endOfInput) {
+
+		if (in == null) {
+			throw new IllegalArgumentException("in must not be null");
+		}
+
+		if (out == null) {
+			throw new IllegalArgumentException("out must not be null");
+		}
+
+		int limit = in.limit();
+		int end = endOfInput ? limit : limit - maxKeyBytes() + 1;
+		int index = in.position();
+
+		try {
+
+			while (index < end) {
+
+				int run = asciiRunEnd(in, index, end, limit);
+
+				if (run > index) {
+
+					int count = Math.min(run - index, out.remaining());
+					in.limit(index + count).position(index);
+					out.put(in);
+					in.limit(limit);
+					index += count;
+
+					if (index < run) {
+						return CoderResult.OVERFLOW;
+					}
+					continue;
+				}
+
+				long match = match(in, index, limit);
+				int length;
+
+				if (match != CodePointTrie.NO_MATCH) {
+					length = CodePointTrie.matchLength(match);
+					int entry = CodePointTrie.matchValue(match);
+
+					if (!isUnchanged(entry)) {
+						long output = utf8Outputs[outputId(entry)];
+
+						if (out.remaining() < length(output)) {
+							return CoderResult.OVERFLOW;
+						}
+						out.put(utf8Pool, offset(output), length(output));
+						index += length;
+						continue;
+					}
+				} else {
+					int codePoint = UTF8Decoder.decode(in, index, limit);
+
+					if (codePoint == UTF8Decoder.MALFORMED) {
+						return CoderResult.malformedForLength(1);
+					}
+					length = UTF8Decoder.encodedLength(codePoint);
+				}
+
+				if (out.remaining() < length) {
+					return CoderResult.OVERFLOW;
+				}
+
+				for (int i = 0; i < length; i++) {
+					out.put(in.get(index + i));
+				}
+				index += length;
+			}
+			return CoderResult.UNDERFLOW;
+		} finally {
+			in.position(index);
+		}
+	}
+
+	/**
+	 * @return int the index after the ASCII bytes starting at index that are not
+	 *         changed.
+	 */
+	private int asciiRunEnd(ByteBuffer in, int index, int end, int limit) {
+
+		int run = index;
+
+		while (run < end) {
+
+			int b = in.get(run);
+
+			if (b < 0) {
+				break;
+			}
+
+			byte asciiClass = asciiClasses[b];
+
+			// no combined key starts with an ASCII character that is followed by another one.
+			boolean copy = asciiClass == ASCII_COPY || (asciiClass == ASCII_SEQUENCE_START && !asciiContinuations
+					&& run + 1 < limit && in.get(run + 1) >= 0);
+
+			if (!copy) {
+				break;
+			}
+			run++;
+		}
+		return run;
+	}
+
+	private void appendOutput(StringBuilder out, int outputId) {
+		out.append(pool, offset(outputs[outputId]), length(outputs[outputId]));
+	}
+
+	private void appendOutput(Appendable out, int outputId) throws IOException {
+
+		if (out instanceof StringBuilder) {
+			appendOutput((StringBuilder) out, outputId);
+		} else {
+			out.append(outputStrings[outputId]);
+		}
+	}
+}
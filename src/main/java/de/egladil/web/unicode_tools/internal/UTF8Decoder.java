@@ -0,0 +1,116 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * UTF8Decoder decodes single code points from UTF-8 encoded bytes in place.
+ * Overlong encodings, encoded surrogates, code points beyond U+10FFFF and
+ * truncated sequences are considered malformed.
+ */
+public final class UTF8Decoder {
+
+	/** Returned by decode for malformed or truncated byte sequences. */
+	public static final int MALFORMED = -1;
+
+	private UTF8Decoder() {
+	}
+
+	/**
+	 * Decodes the code point starting at the given absolute index. The position of
+	 * the buffer is not changed.
+	 *
+	 * @param buffer ByteBuffer
+	 * @param index  int absolute index of the first byte.
+	 * @param limit  int absolute index after the last byte that may be read.
+	 * @return int the code point or MALFORMED.
+	 */
+	public static int decode(ByteBuffer buffer, int index, int limit) {
+
+		int first = buffer.get(index);
+
+		if (first >= 0) {
+			return first;
+		}
+
+		int length;
+		int codePoint;
+		int minimum;
+
+		if ((first & 0xE0) == 0xC0) {
+			length = 2;
+			codePoint = first & 0x1F;
+			minimum = 0x80;
+		} else if ((first & 0xF0) == 0xE0) {
+			length = 3;
+			codePoint = first & 0x0F;
+			minimum = 0x800;
+		} else if ((first & 0xF8) == 0xF0) {
+			length = 4;
+			codePoint = first & 0x07;
+			minimum = 0x10000;
+		} else {
+			return MALFORMED;
+		}
+
+		if (index + length > limit) {
+			return MALFORMED;
+		}
+
+		for (int i = 1; i < length; i++) {
+
+			int next = buffer.get(index + i);
+
+			if ((next & 0xC0) != 0x80) {
+				return MALFORMED;
+			}
+			codePoint = (codePoint << 6) | (next & 0x3F);
+		}
+
+		if (codePoint < minimum || codePoint > Character.MAX_CODE_POINT
+				|| (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+			return MALFORMED;
+		}
+		return codePoint;
+	}
+
+	/**
+	 * @param codePoint int a valid code point.
+	 * @return int the number of bytes of the UTF-8 encoding of codePoint.
+	 */
+	public static int encodedLength(int codePoint) {
+
+		if (codePoint < 0x80) {
+			return 1;
+		}
+
+		if (codePoint < 0x800) {
+			return 2;
+		}
+		return codePoint < 0x10000 ? 3 : 4;
+	}
+}
@@ -0,0 +1,350 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.reload;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+import de.egladil.web.unicode_tools.transliteration.TransliterableUTF8CharacterSet;
+import de.egladil.web.unicode_tools.validation.ValidatableUTF8CharacterSet;
+
+/**
+ * ReloadableCharacterSet is a handle to a character set compiled from an xml
+ * file that can be changed while the application runs. A reload compiles the
+ * new set completely and then publishes it by swapping one AtomicReference,
+ * so get() never blocks and never returns a partly built set. When the new xml
+ * can not be compiled, the previous set stays in use.<br>
+ * <br>
+ * Reloads happen on demand by reload() or, after watch(), on a daemon thread
+ * whenever the file is changed.
+ *
+ * @param <T> the type of the compiled character set.
+ */
+public final class ReloadableCharacterSet<T> implements Closeable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ReloadableCharacterSet.class);
+
+	/** time to wait for further events of the same change, since editors write files in several steps. */
+	private static final long SETTLE_MILLIS = 100;
+
+	/**
+	 * Compiles a character set from its xml.
+	 *
+	 * @param <T> the type of the compiled character set.
+	 */
+	@FunctionalInterface
+	public interface Compiler<T> {
+
+		/**
+		 * @param in InputStream the xml.
+		 * @return T the compiled character set.
+		 * @throws IOException        if in can not be read.
+		 * @throws XMLStreamException if the xml is not well-formed.
+		 */
+		T compile(InputStream in) throws IOException, XMLStreamException;
+	}
+
+	private final Path file;
+
+	private final Compiler<T> compiler;
+
+	private final AtomicReference<T> current = new AtomicReference<>();
+
+	private final Object reloadLock = new Object();
+
+	private final AtomicLong reloads = new AtomicLong();
+
+	private final AtomicLong failedReloads = new AtomicLong();
+
+	private final AtomicLong lastCompileNanos = new AtomicLong();
+
+	private final AtomicLong totalCompileNanos = new AtomicLong();
+
+	private WatchService watchService;
+
+	/**
+	 * Creates a handle to the TransliterableUTF8CharacterSet of the given xml.
+	 *
+	 * @param file Path the xml.
+	 * @return ReloadableCharacterSet
+	 * @throws UnicodeToolsException if the xml can not be compiled.
+	 */
+	public static ReloadableCharacterSet<TransliterableUTF8CharacterSet> transliterable(Path file) {
+		return new ReloadableCharacterSet<>(file, TransliterableUTF8CharacterSet::read);
+	}
+
+	/**
+	 * Creates a handle to the ValidatableUTF8CharacterSet of the given xml.
+	 *
+	 * @param file Path the xml.
+	 * @return ReloadableCharacterSet
+	 * @throws UnicodeToolsException if the xml can not be compiled.
+	 */
+	public static ReloadableCharacterSet<ValidatableUTF8CharacterSet> validatable(Path file) {
+		return new ReloadableCharacterSet<>(file, ValidatableUTF8CharacterSet::read);
+	}
+
+	/**
+	 * ReloadableCharacterSet compiles the given file at once.
+	 *
+	 * @param file     Path the xml.
+	 * @param compiler Compiler
+	 * @throws UnicodeToolsException if the xml can not be compiled.
+	 */
+	public ReloadableCharacterSet(Path file, Compiler<T> compiler) {
+
+		if (file == null) {
+			throw new IllegalArgumentException("file must not be null");
+		}
+
+		if (compiler == null) {
+			throw new IllegalArgumentException("compiler must not be null");
+		}
+
+		this.file = file.toAbsolutePath();
+		this.compiler = compiler;
+		this.current.set(compile());
+	}
+
+	/**
+	 * Gets the current character set without blocking.
+	 *
+	 * @return T
+	 */
+	public T get() {
+		return current.get();
+	}
+
+	/**
+	 * Compiles the file again and publishes the result. Concurrent reloads are
+	 * serialized, get() is never blocked by them.
+	 *
+	 * @return boolean true if the new set is in use, false if the file could not
+	 *         be compiled or the compiler failed and the previous set is kept.
+	 */
+	public boolean reload() {
+
+		synchronized (reloadLock) {
+
+			T reloaded;
+
+			try {
+				reloaded = compile();
+			} catch (UnicodeToolsException e) {
+				failedReloads.incrementAndGet();
+				LOG.warn("Keeping the previous character set: {}", e.getMessage());
+				return false;
+			} catch (RuntimeException e) {
+				// a failing compiler must neither replace the set nor end the watcher thread.
+				failedReloads.incrementAndGet();
+				LOG.error("Keeping the previous character set: compiling {} failed", file, e);
+				return false;
+			}
+
+			current.set(reloaded);
+			reloads.incrementAndGet();
+			LOG.info("Reloaded {} in {} ms", file, TimeUnit.NANOSECONDS.toMillis(lastCompileNanos.get()));
+			return true;
+		}
+	}
+
+	/**
+	 * Starts a daemon thread that reloads the set whenever the file is created or
+	 * modified. Calling it again has no effect.
+	 *
+	 * @throws UnicodeToolsException if the directory of the file can not be
+	 *                               watched.
+	 */
+	public synchronized void watch() {
+
+		if (watchService != null) {
+			return;
+		}
+
+		try {
+			watchService = file.getFileSystem().newWatchService();
+			file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException e) {
+			throw new UnicodeToolsException("could not watch " + file + ": " + e.getMessage(), e);
+		}
+
+		WatchService service = watchService;
+		Thread watcher = new Thread(() -> watch(service), "ReloadableCharacterSet-" + file.getFileName());
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	/**
+	 * Stops watching the file. The current set stays available.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+
+		if (watchService != null) {
+			watchService.close();
+			watchService = null;
+		}
+	}
+
+	/**
+	 * @return boolean true if a watcher thread reloads the set on changes. It
+	 *         turns false after close() or when the directory of the file can no
+	 *         longer be watched.
+	 */
+	public synchronized boolean isWatching() {
+		return watchService != null;
+	}
+
+	/**
+	 * @return long the number of successful reloads.
+	 */
+	public long reloadCount() {
+		return reloads.get();
+	}
+
+	/**
+	 * @return long the number of reloads that kept the previous set.
+	 */
+	public long failedReloadCount() {
+		return failedReloads.get();
+	}
+
+	/**
+	 * @return long the nanoseconds the last successful compilation took.
+	 */
+	public long lastCompileNanos() {
+		return lastCompileNanos.get();
+	}
+
+	/**
+	 * @return long the nanoseconds all successful compilations took.
+	 */
+	public long totalCompileNanos() {
+		return totalCompileNanos.get();
+	}
+
+	private T compile() {
+
+		long start = System.nanoTime();
+
+		try (InputStream in = Files.newInputStream(file)) {
+
+			T result = compiler.compile(in);
+
+			if (result == null) {
+				throw new UnicodeToolsException("compiler returned null for " + file);
+			}
+
+			long nanos = System.nanoTime() - start;
+			lastCompileNanos.set(nanos);
+			totalCompileNanos.addAndGet(nanos);
+			return result;
+
+		} catch (IOException e) {
+			throw new UnicodeToolsException("could not read " + file + ": " + e.getMessage(), e);
+		} catch (XMLStreamException | IllegalArgumentException e) {
+			throw new UnicodeToolsException("could not compile " + file + ": " + e.getMessage(), e);
+		}
+	}
+
+	private void watch(WatchService service) {
+
+		try {
+			while (true) {
+
+				WatchKey key = service.take();
+				boolean changed = false;
+				boolean valid = true;
+
+				// collect the events of one change before reloading once.
+				while (key != null) {
+					changed |= concernsFile(key);
+					valid &= key.reset();
+					key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+				}
+
+				if (changed) {
+					reload();
+				}
+
+				if (!valid) {
+					// the directory is gone or no longer accessible, take() would block forever.
+					LOG.warn("Stopped watching {}: its directory can no longer be watched", file);
+					stopWatching(service);
+					return;
+				}
+			}
+		} catch (ClosedWatchServiceException e) {
+			LOG.debug("Stopped watching {}", file);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOG.debug("Stopped watching {}", file);
+		}
+	}
+
+	private boolean concernsFile(WatchKey key) {
+
+		boolean result = false;
+
+		for (WatchEvent<?> event : key.pollEvents()) {
+			// after an overflow events were lost, so the file may have changed.
+			result |= event.kind() == StandardWatchEventKinds.OVERFLOW
+					|| file.getFileName().equals(event.context());
+		}
+		return result;
+	}
+
+	private synchronized void stopWatching(WatchService service) {
+
+		if (watchService == service) {
+			watchService = null;
+		}
+
+		try {
+			service.close();
+		} catch (IOException e) {
+			LOG.debug("Could not close the watch service of {}: {}", file, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,252 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CachingTransliterationProvider is a decorator that remembers the
+ * transliterations of whole texts, so repeated texts skip the per-character
+ * work. The cache is bounded: it is split into segments with their own lock,
+ * each evicting its least recently used text when full. The capacities of the
+ * segments add up to maximumSize, so the cache holds up to maximumSize texts,
+ * but fewer when the texts are not spread evenly over the segments. Texts longer than
+ * maxCachedLength are passed to the delegate without caching, so that the
+ * memory of the cache is bounded too.
+ */
+public class CachingTransliterationProvider implements CharacterTransliterationProvider {
+
+	/** Default maximum length of cached texts. */
+	public static final int DEFAULT_MAX_CACHED_LENGTH = 256;
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private final CharacterTransliterationProvider delegate;
+
+	private final Segment[] segments;
+
+	private final int maxCachedLength;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * CachingTransliterationProvider caching texts of up to 256 chars.
+	 *
+	 * @param delegate    CharacterTransliterationProvider
+	 * @param maximumSize int maximum number of cached texts.
+	 */
+	public CachingTransliterationProvider(CharacterTransliterationProvider delegate, int maximumSize) {
+		this(delegate, maximumSize, DEFAULT_MAX_CACHED_LENGTH);
+	}
+
+	/**
+	 * CachingTransliterationProvider
+	 *
+	 * @param delegate        CharacterTransliterationProvider
+	 * @param maximumSize     int maximum number of cached texts.
+	 * @param maxCachedLength int maximum length of cached texts.
+	 */
+	public CachingTransliterationProvider(CharacterTransliterationProvider delegate, int maximumSize,
+			int maxCachedLength) {
+
+		if (delegate == null) {
+			throw new IllegalArgumentException("delegate must not be null");
+		}
+
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("maximumSize must be positive");
+		}
+
+		if (maxCachedLength < 0) {
+			throw new IllegalArgumentException("maxCachedLength must not be negative");
+		}
+
+		this.delegate = delegate;
+		this.maxCachedLength = maxCachedLength;
+
+		int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+		this.segments = new Segment[segmentCount];
+
+		for (int i = 0; i < segmentCount; i++) {
+			// the remainder goes to the first segments, so no capacity is lost.
+			segments[i] = new Segment(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+		}
+	}
+
+	@Override
+	public String printableTransliteratedCharacter(String givenPrintableCharacter) {
+		return delegate.printableTransliteratedCharacter(givenPrintableCharacter);
+	}
+
+	@Override
+	public String transliterate(CharSequence text) {
+
+		if (text == null) {
+			return null;
+		}
+
+		if (text.length() > maxCachedLength) {
+			return delegate.transliterate(text);
+		}
+
+		String key = text.toString();
+		Segment segment = segmentFor(key);
+		String result;
+
+		synchronized (segment) {
+			result = segment.get(key);
+		}
+
+		if (result != null) {
+			hits.increment();
+			return result;
+		}
+
+		misses.increment();
+		result = delegate.transliterate(key);
+
+		synchronized (segment) {
+			segment.put(key, result);
+		}
+		return result;
+	}
+
+	@Override
+	public void transliterate(CharSequence text, Appendable out) throws IOException {
+
+		if (text == null) {
+			throw new IllegalArgumentException("text must not be null");
+		}
+
+		if (out == null) {
+			throw new IllegalArgumentException("out must not be null");
+		}
+
+		out.append(transliterate(text));
+	}
+
+	@Override
+	public Set<String> transliterableCharacters() {
+		return delegate.transliterableCharacters();
+	}
+
+	@Override
+	public String name() {
+		return delegate.name();
+	}
+
+	/**
+	 * @return long the number of transliterations found in the cache.
+	 */
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return long the number of cacheable transliterations not found in the
+	 *         cache.
+	 */
+	public long missCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return long the number of texts removed from the cache because it was full.
+	 */
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return int the number of cached texts.
+	 */
+	public int size() {
+
+		int size = 0;
+
+		for (Segment segment : segments) {
+
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Removes all texts from the cache. The counters are not reset.
+	 */
+	public void clear() {
+
+		for (Segment segment : segments) {
+
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	private Segment segmentFor(String key) {
+
+		int hash = key.hashCode();
+		hash ^= hash >>> 16;
+		return segments[hash & (segments.length - 1)];
+	}
+
+	/**
+	 * LRU map of one segment. Callers synchronize on it.
+	 */
+	private class Segment extends LinkedHashMap<String, String> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+
+		Segment(int capacity) {
+
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
@@ -25,6 +25,9 @@
 
 package de.egladil.web.unicode_tools.transliteration;
 
+import java.io.IOException;
+import java.util.Set;
+
 /**
  * CharacterTransliterationProvider provides some sort of transliteration for some
  * Character into another Character.
@@ -41,6 +44,72 @@ public interface CharacterTransliterationProvider {
 	 */
 	String printableTransliteratedCharacter(String givenPrintableCharacter);
 
+	/**
+	 * Transliterates the whole text. Characters without transliteration are kept.
+	 * This default implementation transliterates one code point at a time.
+	 *
+	 * @param text CharSequence
+	 * @return String or null, if text is null.
+	 */
+	default String transliterate(CharSequence text) {
+
+		if (text == null) {
+			return null;
+		}
+
+		StringBuilder result = new StringBuilder(text.length());
+
+		try {
+			transliterate(text, result);
+		} catch (IOException e) {
+			// StringBuilder does not throw IOExceptions.
+			throw new IllegalStateException(e);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Transliterates the whole text and appends the result to out. Characters
+	 * without transliteration are kept. This default implementation
+	 * transliterates one code point at a time.
+	 *
+	 * @param text CharSequence
+	 * @param out  Appendable
+	 * @throws IOException if out throws it.
+	 */
+	default void transliterate(CharSequence text, Appendable out) throws IOException {
+
+		if (text == null) {
+			throw new IllegalArgumentException("text must not be null");
+		}
+
+		if (out == null) {
+			throw new IllegalArgumentException("out must not be null");
+		}
+
+		int index = 0;
+
+		while (index < text.length()) {
+
+			int codePoint = Character.codePointAt(text, index);
+			String character = text.subSequence(index, index + Character.charCount(codePoint)).toString();
+			String transliterated = printableTransliteratedCharacter(character);
+			out.append(transliterated == null ? character : transliterated);
+			index += character.length();
+		}
+	}
+
+	/**
+	 * Lists the printable characters that have a transliteration. Providers that
+	 * can not list them can not be composed with
+	 * TransliterableUTF8CharacterSet.compose.
+	 *
+	 * @return Set or null, if the provider can not list its characters.
+	 */
+	default Set<String> transliterableCharacters() {
+		return null;
+	}
+
 	/**
 	 * Gibt den Namen zurück fürs Logging.
 	 *
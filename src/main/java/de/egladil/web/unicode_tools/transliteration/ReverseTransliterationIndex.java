@@ -0,0 +1,291 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ReverseTransliterationIndex knows for every transliteration the printable
+ * characters that are transliterated to it, for example every accented C that
+ * is transliterated to C. It expands a transliterated query into a regular
+ * expression or a bounded list of variants that match the original spellings.
+ * It is immutable and threadSafe.<br>
+ * <br>
+ * Transliterations of more than one character, like AE for Ä, are matched
+ * greedily in the regular expression: at each position the longest one found
+ * in the query is offered as alternative to its single characters.
+ */
+public class ReverseTransliterationIndex {
+
+	private static final String CLASS_METACHARACTERS = "\\[]^-&";
+
+	private static final String METACHARACTERS = "\\.[]{}()<>*+-=!?^$|";
+
+	private final Map<String, String[]> originals;
+
+	private final int maxTransliterationLength;
+
+	/**
+	 * ReverseTransliterationIndex
+	 *
+	 * @param provider CharacterTransliterationProvider that can list its
+	 *                 transliterable characters.
+	 */
+	public ReverseTransliterationIndex(CharacterTransliterationProvider provider) {
+
+		if (provider == null) {
+			throw new IllegalArgumentException("provider must not be null");
+		}
+
+		Set<String> characters = provider.transliterableCharacters();
+
+		if (characters == null) {
+			throw new IllegalArgumentException(provider.name() + " can not list its transliterable characters");
+		}
+
+		Map<String, Set<String>> reverse = new HashMap<>();
+
+		for (String character : characters) {
+
+			String transliterated = provider.printableTransliteratedCharacter(character);
+
+			if (transliterated != null && !transliterated.isEmpty() && !transliterated.equals(character)) {
+				reverse.computeIfAbsent(transliterated, k -> new TreeSet<>()).add(character);
+			}
+		}
+
+		this.originals = new HashMap<>();
+		int maxLength = 1;
+
+		for (Map.Entry<String, Set<String>> entry : reverse.entrySet()) {
+			originals.put(entry.getKey(), entry.getValue().toArray(new String[entry.getValue().size()]));
+			maxLength = Math.max(maxLength, entry.getKey().length());
+		}
+		this.maxTransliterationLength = maxLength;
+	}
+
+	/**
+	 * @param transliterated String
+	 * @return List the sorted printable characters that are transliterated to
+	 *         transliterated. They do not include transliterated itself.
+	 */
+	public List<String> originals(String transliterated) {
+
+		String[] result = transliterated == null ? null : originals.get(transliterated);
+		return result == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(result));
+	}
+
+	/**
+	 * Expands a transliterated query into a regular expression matching the query
+	 * and every text transliterated to it. Single characters become character
+	 * classes, characters consisting of several code points alternatives.
+	 *
+	 * @param query String transliterated.
+	 * @return String the regular expression in java.util.regex syntax.
+	 */
+	public String toRegex(String query) {
+
+		if (query == null) {
+			throw new IllegalArgumentException("query must not be null");
+		}
+
+		StringBuilder regex = new StringBuilder();
+		int index = 0;
+
+		while (index < query.length()) {
+
+			String transliteration = longestTransliteration(query, index);
+
+			if (transliteration == null) {
+				int end = index + Character.charCount(query.codePointAt(index));
+				appendCharacterRegex(regex, query.substring(index, end));
+				index = end;
+				continue;
+			}
+
+			regex.append("(?:");
+			appendAlternatives(regex, originals.get(transliteration));
+			regex.append('|');
+
+			for (int i = 0; i < transliteration.length();) {
+				int end = i + Character.charCount(transliteration.codePointAt(i));
+				appendCharacterRegex(regex, transliteration.substring(i, end));
+				i = end;
+			}
+			regex.append(')');
+			index += transliteration.length();
+		}
+		return regex.toString();
+	}
+
+	/**
+	 * Expands a transliterated query into the texts that are transliterated to it,
+	 * the query first.
+	 *
+	 * @param query       String transliterated.
+	 * @param maxVariants int the maximum number of variants returned.
+	 * @return List of distinct variants.
+	 */
+	public List<String> variants(String query, int maxVariants) {
+
+		if (query == null) {
+			throw new IllegalArgumentException("query must not be null");
+		}
+
+		if (maxVariants < 1) {
+			throw new IllegalArgumentException("maxVariants must be positive");
+		}
+
+		Set<String> result = new LinkedHashSet<>();
+		collectVariants(query, 0, new StringBuilder(), maxVariants, result);
+		return new ArrayList<>(result);
+	}
+
+	private void collectVariants(String query, int index, StringBuilder prefix, int maxVariants, Set<String> result) {
+
+		if (result.size() >= maxVariants) {
+			return;
+		}
+
+		if (index == query.length()) {
+			result.add(prefix.toString());
+			return;
+		}
+
+		int prefixLength = prefix.length();
+		int end = index + Character.charCount(query.codePointAt(index));
+
+		// the character itself first, so that the query is the first variant.
+		collectVariants(query, end, prefix.append(query, index, end), maxVariants, result);
+		prefix.setLength(prefixLength);
+
+		for (int length = 1; length <= maxTransliterationLength && index + length <= query.length(); length++) {
+
+			String[] candidates = originals.get(query.substring(index, index + length));
+
+			if (candidates == null) {
+				continue;
+			}
+
+			for (String candidate : candidates) {
+				collectVariants(query, index + length, prefix.append(candidate), maxVariants, result);
+				prefix.setLength(prefixLength);
+			}
+		}
+	}
+
+	private String longestTransliteration(String query, int index) {
+
+		int maxLength = Math.min(maxTransliterationLength, query.length() - index);
+
+		for (int length = maxLength; length > 1; length--) {
+
+			String candidate = query.substring(index, index + length);
+
+			if (originals.containsKey(candidate)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	private void appendCharacterRegex(StringBuilder regex, String character) {
+
+		String[] candidates = originals.get(character);
+
+		if (candidates == null) {
+			appendLiteral(regex, character);
+			return;
+		}
+
+		List<String> sequences = new ArrayList<>();
+		StringBuilder characterClass = new StringBuilder("[");
+		appendClassMember(characterClass, character);
+
+		for (String candidate : candidates) {
+
+			if (candidate.codePointCount(0, candidate.length()) == 1) {
+				appendClassMember(characterClass, candidate);
+			} else {
+				sequences.add(candidate);
+			}
+		}
+		characterClass.append(']');
+
+		if (sequences.isEmpty()) {
+			regex.append(characterClass);
+			return;
+		}
+
+		regex.append("(?:").append(characterClass);
+
+		for (String sequence : sequences) {
+			regex.append('|');
+			appendLiteral(regex, sequence);
+		}
+		regex.append(')');
+	}
+
+	private void appendAlternatives(StringBuilder regex, String[] alternatives) {
+
+		for (int i = 0; i < alternatives.length; i++) {
+
+			if (i > 0) {
+				regex.append('|');
+			}
+			appendLiteral(regex, alternatives[i]);
+		}
+	}
+
+	private static void appendClassMember(StringBuilder characterClass, String character) {
+
+		if (CLASS_METACHARACTERS.indexOf(character.charAt(0)) >= 0) {
+			characterClass.append('\\');
+		}
+		characterClass.append(character);
+	}
+
+	private static void appendLiteral(StringBuilder regex, String text) {
+
+		for (int i = 0; i < text.length(); i++) {
+
+			char c = text.charAt(i);
+
+			if (METACHARACTERS.indexOf(c) >= 0) {
+				regex.append('\\');
+			}
+			regex.append(c);
+		}
+	}
+}
@@ -0,0 +1,240 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import de.egladil.web.unicode_tools.internal.CodePointTrie;
+import de.egladil.web.unicode_tools.internal.TransliterationTable;
+
+/**
+ * SearchKeyBuilder creates search keys in one pass: it transliterates, converts
+ * to lower case, collapses whitespace to single blanks without leading or
+ * trailing blanks and optionally strips punctuation. A key is computed twice,
+ * once for its length and once into the result, so that only the result is
+ * allocated. Instances are threadSafe.
+ */
+public class SearchKeyBuilder {
+
+	private static final int[] UTF8_LEADING_BITS = { 0, 0, 0xC0, 0xE0, 0xF0 };
+
+	private final TransliterationTable transliterationTable;
+
+	private final boolean stripPunctuation;
+
+	/**
+	 * SearchKeyBuilder that keeps punctuation.
+	 *
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 */
+	public SearchKeyBuilder(TransliterableUTF8CharacterSet characterSet) {
+		this(characterSet, false);
+	}
+
+	/**
+	 * SearchKeyBuilder
+	 *
+	 * @param characterSet     TransliterableUTF8CharacterSet
+	 * @param stripPunctuation boolean true if punctuation is removed from the keys.
+	 */
+	public SearchKeyBuilder(TransliterableUTF8CharacterSet characterSet, boolean stripPunctuation) {
+
+		if (characterSet == null) {
+			throw new IllegalArgumentException("characterSet must not be null");
+		}
+
+		this.transliterationTable = characterSet.transliterationTable();
+		this.stripPunctuation = stripPunctuation;
+	}
+
+	/**
+	 * Creates the search key of the given text.
+	 *
+	 * @param text CharSequence
+	 * @return String or null, if text is null.
+	 */
+	public String searchKey(CharSequence text) {
+
+		if (text == null) {
+			return null;
+		}
+
+		char[] chars = new char[build(text, false, null, null)];
+		build(text, false, chars, null);
+		return new String(chars);
+	}
+
+	/**
+	 * Creates the UTF-8 encoded search key of the given text. The key consists of
+	 * ASCII bytes only, if the characterSet transliterates all characters of text
+	 * to ASCII.
+	 *
+	 * @param text CharSequence
+	 * @return byte[] or null, if text is null.
+	 */
+	public byte[] searchKeyBytes(CharSequence text) {
+
+		if (text == null) {
+			return null;
+		}
+
+		byte[] bytes = new byte[build(text, true, null, null)];
+		build(text, true, null, bytes);
+		return bytes;
+	}
+
+	/**
+	 * Runs through the code points of the transliterated text and writes the key
+	 * into chars or bytes, if given.
+	 *
+	 * @return int the length of the key in chars or UTF-8 bytes.
+	 */
+	private int build(CharSequence text, boolean utf8, char[] chars, byte[] bytes) {
+
+		int textLength = text.length();
+		int index = 0;
+		int spanEnd = 0;
+		int outputId = -1;
+		int outputIndex = 0;
+		int outputLength = 0;
+		int length = 0;
+		boolean blankPending = false;
+
+		while (true) {
+
+			int codePoint;
+
+			if (outputId >= 0) {
+
+				if (outputIndex == outputLength) {
+					outputId = -1;
+					continue;
+				}
+
+				char c = transliterationTable.outputChar(outputId, outputIndex++);
+				codePoint = c;
+
+				if (Character.isHighSurrogate(c) && outputIndex < outputLength
+						&& Character.isLowSurrogate(transliterationTable.outputChar(outputId, outputIndex))) {
+					codePoint = Character.toCodePoint(c, transliterationTable.outputChar(outputId, outputIndex++));
+				}
+			} else if (index < spanEnd) {
+				codePoint = Character.codePointAt(text, index);
+				index += Character.charCount(codePoint);
+			} else if (index < textLength) {
+
+				long match = transliterationTable.match(text, index);
+
+				if (match == CodePointTrie.NO_MATCH
+						|| TransliterationTable.isUnchanged(CodePointTrie.matchValue(match))) {
+					// a key without change is passed on as a whole, because a shorter key inside it
+					// must not be transliterated.
+					spanEnd = match == CodePointTrie.NO_MATCH ? index + 1 : index + CodePointTrie.matchLength(match);
+				} else {
+					outputId = TransliterationTable.outputId(CodePointTrie.matchValue(match));
+					outputIndex = 0;
+					outputLength = transliterationTable.outputLength(outputId);
+					index += CodePointTrie.matchLength(match);
+				}
+				continue;
+			} else {
+				return length;
+			}
+
+			if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+				blankPending = length > 0;
+				continue;
+			}
+
+			if (stripPunctuation && isPunctuation(codePoint)) {
+				continue;
+			}
+
+			if (blankPending) {
+				length = write(' ', length, utf8, chars, bytes);
+				blankPending = false;
+			}
+			length = write(Character.toLowerCase(codePoint), length, utf8, chars, bytes);
+		}
+	}
+
+	private static boolean isPunctuation(int codePoint) {
+
+		switch (Character.getType(codePoint)) {
+		case Character.CONNECTOR_PUNCTUATION:
+		case Character.DASH_PUNCTUATION:
+		case Character.START_PUNCTUATION:
+		case Character.END_PUNCTUATION:
+		case Character.INITIAL_QUOTE_PUNCTUATION:
+		case Character.FINAL_QUOTE_PUNCTUATION:
+		case Character.OTHER_PUNCTUATION:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the code point at position length.
+	 *
+	 * @return int the new length.
+	 */
+	private static int write(int codePoint, int length, boolean utf8, char[] chars, byte[] bytes) {
+
+		if (!utf8) {
+
+			if (chars != null) {
+				return length + Character.toChars(codePoint, chars, length);
+			}
+			return length + Character.charCount(codePoint);
+		}
+
+		if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+			// a lone surrogate can not be encoded.
+			codePoint = '?';
+		}
+
+		if (codePoint < 0x80) {
+
+			if (bytes != null) {
+				bytes[length] = (byte) codePoint;
+			}
+			return length + 1;
+		}
+
+		int count = codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+
+		if (bytes != null) {
+
+			int shift = 6 * (count - 1);
+			bytes[length] = (byte) (UTF8_LEADING_BITS[count] | (codePoint >> shift));
+
+			for (int i = 1; i < count; i++) {
+				shift -= 6;
+				bytes[length + i] = (byte) (0x80 | ((codePoint >> shift) & 0x3F));
+			}
+		}
+		return length + count;
+	}
+}
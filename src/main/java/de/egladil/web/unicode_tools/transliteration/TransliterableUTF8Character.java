@@ -25,7 +25,10 @@
 
 package de.egladil.web.unicode_tools.transliteration;
 
+import org.apache.commons.lang3.StringUtils;
+
 import de.egladil.web.unicode_tools.UTF8Codepoint;
+import de.egladil.web.unicode_tools.internal.CodePointsToIntArrayMapper;
 import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
 
 /**
@@ -38,6 +41,8 @@ import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
  */
 public class TransliterableUTF8Character {
 
+	private static final CodePointsToIntArrayMapper CODE_POINT_MAPPER = new CodePointsToIntArrayMapper();
+
 	private UTF8Codepoint originalCodepoint;
 
 	private UTF8Codepoint transliteradedCodepoint;
@@ -70,7 +75,7 @@ public class TransliterableUTF8Character {
 	 * @return String as printable UTF-8 String of length 1.
 	 */
 	public String asUtf8() {
-		return this.originalCodepoint.utf8();
+		return utf8(this.originalCodepoint);
 	}
 
 	/**
@@ -78,6 +83,20 @@ public class TransliterableUTF8Character {
 	 * @return String the transliteration as String of length 1.
 	 */
 	public String transliterated() {
-		return this.transliteradedCodepoint.utf8();
+		return utf8(this.transliteradedCodepoint);
+	}
+
+	/**
+	 * Unlike UTF8Codepoint.utf8() it handles code points of the supplementary
+	 * planes too.
+	 */
+	private static String utf8(UTF8Codepoint utf8Codepoint) {
+
+		if (StringUtils.isBlank(utf8Codepoint.getCodePoints())) {
+			return "";
+		}
+
+		int[] codePoints = CODE_POINT_MAPPER.apply(utf8Codepoint);
+		return new String(codePoints, 0, codePoints.length);
 	}
 }
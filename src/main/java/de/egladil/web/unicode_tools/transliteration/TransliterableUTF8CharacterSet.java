@@ -25,17 +25,37 @@
 
 package de.egladil.web.unicode_tools.transliteration;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.stream.XMLStreamException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.egladil.web.unicode_tools.UTF8Codepoint;
 import de.egladil.web.unicode_tools.UTF8SubsetSetName;
-import de.egladil.web.unicode_tools.validation.ValidationProvider;
+import de.egladil.web.unicode_tools.generated.CompiledCharacterSet;
+import de.egladil.web.unicode_tools.internal.BatchTransliteration;
+import de.egladil.web.unicode_tools.internal.ParallelTransliteration;
+import de.egladil.web.unicode_tools.internal.TransliteratedComparison;
+import de.egladil.web.unicode_tools.internal.TransliterationTable;
+import de.egladil.web.unicode_tools.xml.CharacterSetStreamReader;
 import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
 import de.egladil.web.unicode_tools.xml.mapping.MappableCharacterSet;
 
@@ -43,9 +63,12 @@ import de.egladil.web.unicode_tools.xml.mapping.MappableCharacterSet;
  * TransliterableUTF8CharacterSet is a collection of
  * TransliterableUTF8Characters. Two TransliterableUTF8CharacterSet are equal
  * when their names are equal. It provides a transliteration from one printable
- * character into another printable character.
+ * character into another printable character and a transliteration of whole
+ * texts that replaces the longest transliterable character at each position,
+ * also directly on UTF-8 encoded bytes.
  */
-public class TransliterableUTF8CharacterSet implements CharacterTransliterationProvider {
+public class TransliterableUTF8CharacterSet
+		implements CharacterTransliterationProvider, UTF8ByteTransliterationProvider {
 
 	private static final Logger LOG = LoggerFactory.getLogger(TransliterableUTF8CharacterSet.class);
 
@@ -53,7 +76,15 @@ public class TransliterableUTF8CharacterSet implements CharacterTransliterationP
 
 	private List<TransliterableUTF8Character> items;
 
-	private Map<String, String> transliterations;
+	/** the characters instead of the items of a set created by fromCompiled or null. */
+	private CompiledCharacterSet compiledSet;
+
+	private TransliterationTable transliterationTable;
+
+	/** characters that an overlay adds to the items or null. */
+	private Set<String> addedCharacters;
+
+	private volatile TransliteratedComparison comparison;
 
 	/**
 	 * TransliterableUTF8CharacterSet
@@ -61,14 +92,19 @@ public class TransliterableUTF8CharacterSet implements CharacterTransliterationP
 	 * @param name String
 	 */
 	TransliterableUTF8CharacterSet(UTF8SubsetSetName name) {
+		this(name, new ArrayList<>(), new TransliterationTable(new HashMap<>()));
+	}
+
+	private TransliterableUTF8CharacterSet(UTF8SubsetSetName name, List<TransliterableUTF8Character> items,
+			TransliterationTable transliterationTable) {
 
 		if (name == null) {
 			throw new IllegalArgumentException("name must not be null");
 		}
 
 		this.name = name;
-		this.items = new ArrayList<>();
-		this.transliterations = new HashMap<>();
+		this.items = items;
+		this.transliterationTable = transliterationTable;
 	}
 
 	/**
@@ -97,20 +133,95 @@ public class TransliterableUTF8CharacterSet implements CharacterTransliterationP
 		final List<TransliterableUTF8Character> items = new ArrayList<>();
 
 		for (MappableCharacter provider : transliterableChars) {
-			try {
-				items.add(new TransliterableUTF8Character(provider));
-			} catch (IllegalArgumentException e) {
-				if (provider.getMapping() == null) {
-					LOG.warn("Ignoring {}: it has now transliteration", provider, e.getMessage());
-				} else {
-					LOG.warn("Ignoring {} : {}", provider, e.getMessage());
-				}
-			}
+			addItem(provider, items);
 		}
 
 		return withItems(result, items);
 	}
 
+	/**
+	 * Factory method that creates a TransliterableUTF8CharacterSet from a
+	 * CompiledCharacterSet. The transliterations are compiled from its already
+	 * parsed characters, so neither UTF8Codepoints nor items are created.
+	 *
+	 * @param compiledSet CompiledCharacterSet
+	 * @return TransliterableUTF8CharacterSet
+	 */
+	public static TransliterableUTF8CharacterSet fromCompiled(CompiledCharacterSet compiledSet) {
+
+		if (compiledSet == null) {
+			throw new IllegalArgumentException("compiledSet must not be null");
+		}
+
+		final Map<String, String> transliterationMap = new HashMap<>();
+
+		for (int i = 0; i < compiledSet.size(); i++) {
+
+			String transliteration = compiledSet.transliteration(i);
+
+			if (transliteration != null) {
+				transliterationMap.put(compiledSet.character(i), transliteration);
+			}
+		}
+
+		TransliterableUTF8CharacterSet result = new TransliterableUTF8CharacterSet(
+				new UTF8SubsetSetName(compiledSet.getName()), null, new TransliterationTable(transliterationMap));
+		result.compiledSet = compiledSet;
+		return result;
+	}
+
+	/**
+	 * Factory method that reads a TransliterableUTF8CharacterSet from the xml of
+	 * a character set. The characters are streamed into the items and the
+	 * transliterations one by one without unmarshalling the xml into a
+	 * DefaultCharacterSet first.
+	 *
+	 * @param in InputStream the xml. It is not closed.
+	 * @return TransliterableUTF8CharacterSet
+	 * @throws XMLStreamException if in is not well-formed xml.
+	 */
+	public static TransliterableUTF8CharacterSet read(InputStream in) throws XMLStreamException {
+
+		final List<TransliterableUTF8Character> items = new ArrayList<>();
+		final Map<String, String> transliterationMap = new HashMap<>();
+
+		String name = CharacterSetStreamReader.read(in, provider -> {
+
+			TransliterableUTF8Character item = addItem(provider, items);
+
+			if (item != null) {
+				transliterationMap.put(item.asUtf8(), item.transliterated());
+			}
+		});
+
+		return new TransliterableUTF8CharacterSet(new UTF8SubsetSetName(name), items,
+				new TransliterationTable(transliterationMap));
+	}
+
+	/**
+	 * @return TransliterableUTF8Character the item added or null, if provider can
+	 *         not be mapped.
+	 */
+	private static TransliterableUTF8Character addItem(MappableCharacter provider,
+			List<TransliterableUTF8Character> items) {
+
+		try {
+			TransliterableUTF8Character item = new TransliterableUTF8Character(provider);
+			// parse both now, so that an item which can not be mapped is ignored instead of failing later.
+			item.asUtf8();
+			item.transliterated();
+			items.add(item);
+			return item;
+		} catch (IllegalArgumentException e) {
+			if (provider.getMapping() == null) {
+				LOG.warn("Ignoring {}: it has now transliteration", provider, e.getMessage());
+			} else {
+				LOG.warn("Ignoring {} : {}", provider, e.getMessage());
+			}
+			return null;
+		}
+	}
+
 	/**
 	 * Factory method that creates a new TransliterableUTF8CharacterSet with the
 	 * same name as the given startingSet and the List of
@@ -134,7 +245,7 @@ public class TransliterableUTF8CharacterSet implements CharacterTransliterationP
 			String value = item.transliterated();
 			transliterationMap.put(key, value);
 		});
-		result.transliterations = transliterationMap;
+		result.transliterationTable = new TransliterationTable(transliterationMap);
 		return result;
 
 	}
@@ -171,13 +282,270 @@ public class TransliterableUTF8CharacterSet implements CharacterTransliterationP
 			}
 		}
 
-		result.transliterations = transliterations;
+		result.transliterationTable = new TransliterationTable(transliterations);
+		return result;
+	}
+
+	/**
+	 * Factory method that fuses a chain of providers into one
+	 * TransliterableUTF8CharacterSet, so that the chain costs one pass over a text.
+	 * Its characters are those of all providers, each mapped to the result of
+	 * transliterating it by the providers in the given order.<br>
+	 * <br>
+	 * The result equals that of the chain unless some provider has a combined
+	 * character that only arises in the chain from the transliterations of two
+	 * adjacent characters.
+	 *
+	 * @param name      String name of the new set.
+	 * @param providers List the providers in the order they are applied.
+	 * @return TransliterableUTF8CharacterSet
+	 * @throws IllegalArgumentException when providers is empty or a provider can
+	 *                                  not list its transliterable characters.
+	 */
+	public static TransliterableUTF8CharacterSet compose(String name,
+			List<? extends CharacterTransliterationProvider> providers) {
+
+		if (providers == null || providers.isEmpty()) {
+			throw new IllegalArgumentException("providers must not be empty");
+		}
+
+		TransliterableUTF8CharacterSet result = new TransliterableUTF8CharacterSet(new UTF8SubsetSetName(name));
+		Set<String> characters = new LinkedHashSet<>();
+
+		for (CharacterTransliterationProvider provider : providers) {
+
+			if (provider == null) {
+				throw new IllegalArgumentException("providers must not contain null");
+			}
+
+			Set<String> providedCharacters = provider.transliterableCharacters();
+
+			if (providedCharacters == null) {
+				throw new IllegalArgumentException(provider.name() + " can not list its transliterable characters");
+			}
+			characters.addAll(providedCharacters);
+		}
+
+		Map<String, String> transliterations = new HashMap<>();
+		List<TransliterableUTF8Character> items = new ArrayList<>();
+
+		for (String character : characters) {
+
+			String transliterated = character;
+
+			for (CharacterTransliterationProvider provider : providers) {
+				transliterated = provider.transliterate(transliterated);
+			}
+			transliterations.put(character, transliterated);
+			items.add(new TransliterableUTF8Character(new ComposedCharacter(character, transliterated)));
+		}
+
+		result.items = items;
+		result.transliterationTable = new TransliterationTable(transliterations);
+		return result;
+	}
+
+	/**
+	 * Creates an overlay of this set in which the given transliterations replace
+	 * or add to those of this set. Unlike withCustomTransliterations, the overlay
+	 * shares the compiled transliterations of this set and stores only the given
+	 * ones, so it is cheap to create and needs a few KB only. An overlay of an
+	 * overlay merges the transliterations of both.
+	 *
+	 * @param transliterations Map keys are printable characters, values their
+	 *                         transliterations.
+	 * @return TransliterableUTF8CharacterSet with the name of this set.
+	 */
+	public TransliterableUTF8CharacterSet withOverrides(Map<String, String> transliterations) {
+
+		if (transliterations == null) {
+			throw new IllegalArgumentException("transliterations must not be null");
+		}
+
+		TransliterationTable overlay = transliterationTable.withOverrides(transliterations);
+		Set<String> added = addedCharacters == null ? new HashSet<>() : new HashSet<>(addedCharacters);
+
+		for (String key : transliterations.keySet()) {
+
+			if (transliterationTable.entry(key) == TransliterationTable.NO_ENTRY) {
+				added.add(key);
+			}
+		}
+
+		TransliterableUTF8CharacterSet result = new TransliterableUTF8CharacterSet(name, items, overlay);
+		result.compiledSet = compiledSet;
+		result.addedCharacters = added.isEmpty() ? null : Collections.unmodifiableSet(added);
+		return result;
+	}
+
+	@Override
+	public Set<String> transliterableCharacters() {
+
+		Set<String> result;
+
+		if (compiledSet == null) {
+			result = items.stream().map(TransliterableUTF8Character::asUtf8).collect(Collectors.toSet());
+		} else {
+			result = new HashSet<>();
+
+			for (int i = 0; i < compiledSet.size(); i++) {
+
+				if (compiledSet.transliteration(i) != null) {
+					result.add(compiledSet.character(i));
+				}
+			}
+		}
+
+		if (addedCharacters != null) {
+			result.addAll(addedCharacters);
+		}
 		return result;
 	}
 
 	@Override
 	public String printableTransliteratedCharacter(String givenPrintableCharacter) {
-		return this.transliterations.get(givenPrintableCharacter);
+		return this.transliterationTable.get(givenPrintableCharacter);
+	}
+
+	@Override
+	public String transliterate(CharSequence text) {
+		return this.transliterationTable.transliterate(text);
+	}
+
+	@Override
+	public void transliterate(CharSequence text, Appendable out) throws IOException {
+		this.transliterationTable.transliterate(text, out);
+	}
+
+	/**
+	 * Transliterates large texts in parallel on the common ForkJoinPool. The result
+	 * equals that of transliterate(CharSequence).
+	 *
+	 * @param text CharSequence must not be modified during the transliteration.
+	 * @return String or null, if text is null.
+	 */
+	public String transliterateParallel(CharSequence text) {
+		return transliterateParallel(text, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Transliterates large texts in parallel on the given ForkJoinPool. The text is
+	 * split only where no transliterable character can span the split. The result
+	 * equals that of transliterate(CharSequence).
+	 *
+	 * @param text CharSequence must not be modified during the transliteration.
+	 * @param pool ForkJoinPool
+	 * @return String or null, if text is null.
+	 */
+	public String transliterateParallel(CharSequence text, ForkJoinPool pool) {
+		return new ParallelTransliteration(transliterationTable, ParallelTransliteration.DEFAULT_CHUNK_SIZE)
+				.transliterate(text, pool);
+	}
+
+	/**
+	 * Transliterates a batch of texts. Duplicates within the batch are
+	 * transliterated only once.
+	 *
+	 * @param texts List null elements remain null.
+	 * @return List the transliterations in the order of texts.
+	 */
+	public List<String> transliterateAll(List<String> texts) {
+		return new BatchTransliteration(transliterationTable, BatchTransliteration.DEFAULT_SLICE_SIZE)
+				.transliterateAll(texts);
+	}
+
+	/**
+	 * Transliterates a batch of texts in parallel on the common ForkJoinPool.
+	 * Duplicates within a slice of the batch are transliterated only once.
+	 *
+	 * @param texts List null elements remain null.
+	 * @return List the transliterations in the order of texts.
+	 */
+	public List<String> transliterateAllParallel(List<String> texts) {
+		return new BatchTransliteration(transliterationTable, BatchTransliteration.DEFAULT_SLICE_SIZE)
+				.transliterateAll(texts, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Maps the texts of a sequential or parallel Stream to their transliterations.
+	 * The texts are transliterated as the stream is consumed.
+	 *
+	 * @param texts Stream
+	 * @return Stream
+	 */
+	public Stream<String> transliterateAll(Stream<String> texts) {
+
+		if (texts == null) {
+			throw new IllegalArgumentException("texts must not be null");
+		}
+
+		return texts.map(asUnaryOperator());
+	}
+
+	/**
+	 * @return UnaryOperator view of transliterate(CharSequence). It is threadSafe
+	 *         and reuses a scratch buffer per thread.
+	 */
+	public UnaryOperator<String> asUnaryOperator() {
+		return transliterationTable::transliterate;
+	}
+
+	/**
+	 * @return Comparator comparing texts by their transliterations like
+	 *         String.compareTo without creating them. null is less than any text.
+	 */
+	public Comparator<CharSequence> transliteratedComparator() {
+		return comparison();
+	}
+
+	/**
+	 * Checks if two texts have the same transliteration without creating them.
+	 *
+	 * @param a CharSequence
+	 * @param b CharSequence
+	 * @return boolean true if the transliterations are equal or both texts null.
+	 */
+	public boolean equalsTransliterated(CharSequence a, CharSequence b) {
+		return comparison().equals(a, b);
+	}
+
+	/**
+	 * Computes the hashCode of the transliteration of text without creating it.
+	 * It equals transliterate(text).hashCode(), so it is consistent with
+	 * equalsTransliterated.
+	 *
+	 * @param text CharSequence
+	 * @return int 0 if text is null.
+	 */
+	public int hashTransliterated(CharSequence text) {
+		return comparison().hashCode(text);
+	}
+
+	/**
+	 * Compiles a needle for searching it in the transliterations of many
+	 * haystacks.
+	 *
+	 * @param needle CharSequence not transliterated.
+	 * @return TransliteratedSearch
+	 */
+	public TransliteratedSearch compileSearch(CharSequence needle) {
+		return new TransliteratedSearch(transliterationTable, needle);
+	}
+
+	private TransliteratedComparison comparison() {
+
+		TransliteratedComparison result = comparison;
+
+		if (result == null) {
+			result = new TransliteratedComparison(transliterationTable);
+			comparison = result;
+		}
+		return result;
+	}
+
+	@Override
+	public CoderResult transliterate(ByteBuffer in, ByteBuffer out, boolean endOfInput) {
+		return this.transliterationTable.transliterate(in, out, endOfInput);
 	}
 
 	@Override
@@ -189,6 +557,66 @@ public class TransliterableUTF8CharacterSet implements CharacterTransliterationP
 	 * @return int the number of items.
 	 */
 	public int size() {
-		return items.size();
+		int result = compiledSet == null ? items.size() : compiledItemCount();
+		return addedCharacters == null ? result : result + addedCharacters.size();
+	}
+
+	/**
+	 * @return int the number of characters of compiledSet having a
+	 *         transliteration, i.e. the number of items from would create.
+	 */
+	private int compiledItemCount() {
+
+		int result = 0;
+
+		for (int i = 0; i < compiledSet.size(); i++) {
+
+			if (compiledSet.transliteration(i) != null) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return TransliterationTable the compiled transliterations.
+	 */
+	TransliterationTable transliterationTable() {
+		return transliterationTable;
+	}
+
+	/**
+	 * MappableCharacter of a composed transliteration.
+	 */
+	private static class ComposedCharacter implements MappableCharacter {
+
+		private final String codePoint;
+
+		private final String mapping;
+
+		ComposedCharacter(String character, String transliterated) {
+
+			this.codePoint = hexCodePoints(character);
+			this.mapping = hexCodePoints(transliterated);
+		}
+
+		private static String hexCodePoints(String text) {
+			return text.codePoints().mapToObj(cp -> String.format("%04X", cp)).collect(Collectors.joining(" "));
+		}
+
+		@Override
+		public char getSeparationChar() {
+			return ' ';
+		}
+
+		@Override
+		public String getCodePoint() {
+			return codePoint;
+		}
+
+		@Override
+		public String getMapping() {
+			return mapping;
+		}
 	}
 }
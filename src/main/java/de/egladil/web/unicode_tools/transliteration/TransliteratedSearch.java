@@ -0,0 +1,140 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import de.egladil.web.unicode_tools.internal.TransliterationCursor;
+import de.egladil.web.unicode_tools.internal.TransliterationTable;
+
+/**
+ * TransliteratedSearch finds the transliteration of a needle in the
+ * transliterations of haystacks, i.e. it answers
+ * transliterate(haystack).indexOf(transliterate(needle)) without creating the
+ * transliteration of the haystack. The needle is compiled once into a
+ * Knuth-Morris-Pratt automaton that consumes the transliterated chars of a
+ * haystack one by one. It is threadSafe. A search allocates a cursor and a
+ * ring of the length of the transliterated needle only, so instances can be
+ * kept for a long time without pinning memory to the threads that used them.
+ */
+public final class TransliteratedSearch {
+
+	private final TransliterationTable transliterationTable;
+
+	private final char[] pattern;
+
+	private final int[] failure;
+
+	/**
+	 * TransliteratedSearch
+	 *
+	 * @param transliterationTable TransliterationTable
+	 * @param needle               CharSequence not transliterated.
+	 */
+	TransliteratedSearch(TransliterationTable transliterationTable, CharSequence needle) {
+
+		if (needle == null) {
+			throw new IllegalArgumentException("needle must not be null");
+		}
+
+		this.transliterationTable = transliterationTable;
+		this.pattern = transliterationTable.transliterate(needle).toCharArray();
+		this.failure = new int[pattern.length];
+
+		// failure[i] is the length of the longest proper border of pattern[0..i].
+		for (int i = 1, border = 0; i < pattern.length; i++) {
+
+			while (border > 0 && pattern[i] != pattern[border]) {
+				border = failure[border - 1];
+			}
+
+			if (pattern[i] == pattern[border]) {
+				border++;
+			}
+			failure[i] = border;
+		}
+	}
+
+	/**
+	 * Finds the first occurrence of the transliterated needle in the
+	 * transliteration of haystack.
+	 *
+	 * @param haystack CharSequence not transliterated.
+	 * @return int the index in haystack of the character whose transliteration
+	 *         contains the first char of the occurrence or -1, if there is none.
+	 */
+	public int indexOf(CharSequence haystack) {
+
+		if (haystack == null) {
+			throw new IllegalArgumentException("haystack must not be null");
+		}
+
+		if (pattern.length == 0) {
+			return 0;
+		}
+
+		TransliterationCursor cursor = new TransliterationCursor(transliterationTable).reset(haystack);
+		// ring of the source indexes of the last pattern.length transliterated chars.
+		int[] sourceIndexes = new int[pattern.length];
+		int matched = 0;
+		int slot = 0;
+		int c;
+
+		while ((c = cursor.next()) != TransliterationCursor.END) {
+
+			sourceIndexes[slot] = cursor.sourceIndex();
+			slot = slot + 1 == sourceIndexes.length ? 0 : slot + 1;
+
+			while (matched > 0 && c != pattern[matched]) {
+				matched = failure[matched - 1];
+			}
+
+			if (c == pattern[matched]) {
+				matched++;
+			}
+
+			if (matched == pattern.length) {
+				// the oldest entry of the ring belongs to the first char of the occurrence.
+				return sourceIndexes[slot];
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param haystack CharSequence not transliterated.
+	 * @return boolean true if the transliteration of haystack contains the
+	 *         transliterated needle.
+	 */
+	public boolean contains(CharSequence haystack) {
+		return indexOf(haystack) >= 0;
+	}
+
+	/**
+	 * @return String the transliterated needle.
+	 */
+	public String transliteratedNeedle() {
+		return new String(pattern);
+	}
+}
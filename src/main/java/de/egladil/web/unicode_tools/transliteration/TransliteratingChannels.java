@@ -0,0 +1,118 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TransliteratingChannels transliterates UTF-8 encoded byte channels on the fly.
+ * Bytes that are not well-formed UTF-8 are decoded to U+FFFD.
+ */
+public final class TransliteratingChannels {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private TransliteratingChannels() {
+	}
+
+	/**
+	 * Creates a Reader returning the transliterated characters of channel.
+	 *
+	 * @param channel      ReadableByteChannel UTF-8 encoded.
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 * @return TransliteratingReader
+	 */
+	public static TransliteratingReader newReader(ReadableByteChannel channel,
+			TransliterableUTF8CharacterSet characterSet) {
+
+		if (channel == null) {
+			throw new IllegalArgumentException("channel must not be null");
+		}
+
+		Reader reader = Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+		return new TransliteratingReader(reader, characterSet);
+	}
+
+	/**
+	 * Creates a Writer writing the transliterated characters UTF-8 encoded to
+	 * channel.
+	 *
+	 * @param channel      WritableByteChannel
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 * @return TransliteratingWriter
+	 */
+	public static TransliteratingWriter newWriter(WritableByteChannel channel,
+			TransliterableUTF8CharacterSet characterSet) {
+
+		if (channel == null) {
+			throw new IllegalArgumentException("channel must not be null");
+		}
+
+		Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+		return new TransliteratingWriter(writer, characterSet);
+	}
+
+	/**
+	 * Transliterates all UTF-8 encoded bytes of source and writes them UTF-8
+	 * encoded to target. The channels are not closed.
+	 *
+	 * @param source       ReadableByteChannel
+	 * @param target       WritableByteChannel
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 * @return long the number of chars written.
+	 * @throws IOException
+	 */
+	public static long transliterate(ReadableByteChannel source, WritableByteChannel target,
+			TransliterableUTF8CharacterSet characterSet) throws IOException {
+
+		if (target == null) {
+			throw new IllegalArgumentException("target must not be null");
+		}
+
+		TransliteratingReader reader = newReader(source, characterSet);
+		Writer writer = Channels.newWriter(target, StandardCharsets.UTF_8.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+		char[] buffer = new char[BUFFER_SIZE];
+		long written = 0;
+		int read;
+
+		while ((read = reader.read(buffer)) >= 0) {
+			writer.write(buffer, 0, read);
+			written += read;
+		}
+		writer.flush();
+		return written;
+	}
+}
@@ -0,0 +1,249 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+import de.egladil.web.unicode_tools.internal.TransliterationTable;
+
+/**
+ * TransliteratingReader transliterates the characters read from the underlying
+ * Reader on the fly. It holds back at most as many chars as the longest
+ * transliterable character has, so that combined code points are transliterated
+ * even when they span two reads. Memory use does not depend on the length of the
+ * text.
+ */
+public class TransliteratingReader extends FilterReader {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final TransliterationTable transliterationTable;
+
+	private final char[] input;
+
+	private final CharBuffer inputText;
+
+	private final StringBuilder output;
+
+	private int filled;
+
+	private int outputIndex;
+
+	private boolean endOfInput;
+
+	private boolean closed;
+
+	/**
+	 * TransliteratingReader with a buffer of 8192 chars.
+	 *
+	 * @param in           Reader
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 */
+	public TransliteratingReader(Reader in, TransliterableUTF8CharacterSet characterSet) {
+		this(in, characterSet, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * TransliteratingReader
+	 *
+	 * @param in           Reader
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 * @param bufferSize   int number of chars read from in at once.
+	 */
+	public TransliteratingReader(Reader in, TransliterableUTF8CharacterSet characterSet, int bufferSize) {
+
+		super(checkReader(in));
+
+		if (characterSet == null) {
+			throw new IllegalArgumentException("characterSet must not be null");
+		}
+
+		this.transliterationTable = characterSet.transliterationTable();
+		int lookahead = transliterationTable.maxKeyLength();
+
+		if (bufferSize < 2 * lookahead) {
+			throw new IllegalArgumentException("bufferSize must be at least " + 2 * lookahead);
+		}
+
+		this.input = new char[bufferSize];
+		this.inputText = CharBuffer.wrap(input);
+		this.output = new StringBuilder(bufferSize);
+	}
+
+	private static Reader checkReader(Reader in) {
+
+		if (in == null) {
+			throw new IllegalArgumentException("in must not be null");
+		}
+		return in;
+	}
+
+	@Override
+	public int read() throws IOException {
+
+		synchronized (lock) {
+
+			if (!fillOutput()) {
+				return -1;
+			}
+			return output.charAt(outputIndex++);
+		}
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+
+		if (off < 0 || len < 0 || len > cbuf.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		synchronized (lock) {
+
+			if (len == 0) {
+				ensureOpen();
+				return 0;
+			}
+
+			if (!fillOutput()) {
+				return -1;
+			}
+
+			int count = Math.min(len, output.length() - outputIndex);
+			output.getChars(outputIndex, outputIndex + count, cbuf, off);
+			outputIndex += count;
+			return count;
+		}
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+
+		if (n < 0) {
+			throw new IllegalArgumentException("n must not be negative");
+		}
+
+		synchronized (lock) {
+
+			long skipped = 0;
+
+			while (skipped < n && fillOutput()) {
+				int count = (int) Math.min(n - skipped, output.length() - outputIndex);
+				outputIndex += count;
+				skipped += count;
+			}
+			return skipped;
+		}
+	}
+
+	/**
+	 * The reader is only ready when transliterated chars are buffered, because
+	 * reading from in may not suffice to transliterate the next char.
+	 */
+	@Override
+	public boolean ready() throws IOException {
+
+		synchronized (lock) {
+			ensureOpen();
+			return outputIndex < output.length();
+		}
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public void mark(int readAheadLimit) throws IOException {
+		throw new IOException("mark not supported");
+	}
+
+	@Override
+	public void reset() throws IOException {
+		throw new IOException("reset not supported");
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		synchronized (lock) {
+
+			if (!closed) {
+				closed = true;
+				output.setLength(0);
+				outputIndex = 0;
+				in.close();
+			}
+		}
+	}
+
+	/**
+	 * Reads and transliterates until there are transliterated chars to return.
+	 *
+	 * @return boolean false if all chars have been returned.
+	 */
+	private boolean fillOutput() throws IOException {
+
+		ensureOpen();
+
+		while (outputIndex == output.length()) {
+
+			if (endOfInput && filled == 0) {
+				return false;
+			}
+
+			output.setLength(0);
+			outputIndex = 0;
+
+			if (!endOfInput) {
+
+				int read = in.read(input, filled, input.length - filled);
+
+				if (read < 0) {
+					endOfInput = true;
+				} else {
+					filled += read;
+				}
+			}
+
+			inputText.clear().limit(filled);
+			int consumed = transliterationTable.transliterate(inputText, endOfInput, output);
+			System.arraycopy(input, consumed, input, 0, filled - consumed);
+			filled -= consumed;
+		}
+		return true;
+	}
+
+	private void ensureOpen() throws IOException {
+
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+}
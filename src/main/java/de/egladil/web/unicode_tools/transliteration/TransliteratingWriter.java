@@ -0,0 +1,158 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import de.egladil.web.unicode_tools.internal.TransliterationTable;
+
+/**
+ * TransliteratingWriter transliterates the characters written to it on the fly
+ * and writes the result to the underlying Writer. The last chars written may be
+ * held back until the following chars show whether they start a combined code
+ * point. They are written on finish() or close(), not on flush(). Memory use does
+ * not depend on the length of the text.
+ */
+public class TransliteratingWriter extends FilterWriter {
+
+	private final TransliterationTable transliterationTable;
+
+	private final StringBuilder pending;
+
+	private boolean closed;
+
+	/**
+	 * TransliteratingWriter
+	 *
+	 * @param out          Writer
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 */
+	public TransliteratingWriter(Writer out, TransliterableUTF8CharacterSet characterSet) {
+
+		super(checkWriter(out));
+
+		if (characterSet == null) {
+			throw new IllegalArgumentException("characterSet must not be null");
+		}
+
+		this.transliterationTable = characterSet.transliterationTable();
+		this.pending = new StringBuilder();
+	}
+
+	private static Writer checkWriter(Writer out) {
+
+		if (out == null) {
+			throw new IllegalArgumentException("out must not be null");
+		}
+		return out;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+
+		synchronized (lock) {
+			ensureOpen();
+			pending.append((char) c);
+			writePending(false);
+		}
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+
+		if (off < 0 || len < 0 || len > cbuf.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		synchronized (lock) {
+			ensureOpen();
+			pending.append(cbuf, off, len);
+			writePending(false);
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+
+		if (off < 0 || len < 0 || len > str.length() - off) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		synchronized (lock) {
+			ensureOpen();
+			pending.append(str, off, off + len);
+			writePending(false);
+		}
+	}
+
+	/**
+	 * Transliterates and writes the chars held back without closing the
+	 * underlying Writer. A combined code point starting before finish() and
+	 * ending after it is not transliterated, so call it after the last write.
+	 *
+	 * @throws IOException
+	 */
+	public void finish() throws IOException {
+
+		synchronized (lock) {
+			ensureOpen();
+			writePending(true);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		synchronized (lock) {
+
+			if (closed) {
+				return;
+			}
+
+			try {
+				writePending(true);
+			} finally {
+				closed = true;
+				out.close();
+			}
+		}
+	}
+
+	private void writePending(boolean endOfInput) throws IOException {
+
+		int consumed = transliterationTable.transliterate(pending, endOfInput, out);
+		pending.delete(0, consumed);
+	}
+
+	private void ensureOpen() throws IOException {
+
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+}
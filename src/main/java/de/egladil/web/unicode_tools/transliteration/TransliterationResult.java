@@ -0,0 +1,90 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import java.util.Arrays;
+
+/**
+ * TransliterationResult is a ValueObject holding the transliteration of a text
+ * together with the indexes of the characters that are not contained in the
+ * TransliterableUTF8CharacterSet.
+ */
+public class TransliterationResult {
+
+	private static final int[] NO_VIOLATIONS = new int[0];
+
+	private final String transliteration;
+
+	private final int[] violationIndexes;
+
+	/**
+	 * TransliterationResult
+	 *
+	 * @param transliteration  String or null, if the text has been rejected.
+	 * @param violationIndexes int[] ascending indexes in the text or null.
+	 */
+	TransliterationResult(String transliteration, int[] violationIndexes) {
+		this.transliteration = transliteration;
+		this.violationIndexes = violationIndexes == null ? NO_VIOLATIONS : violationIndexes;
+	}
+
+	/**
+	 * @return String the transliteration or null, if the text has been rejected.
+	 */
+	public String getTransliteration() {
+		return transliteration;
+	}
+
+	/**
+	 * @return int[] the ascending indexes of the characters of the text that are
+	 *         not contained in the TransliterableUTF8CharacterSet.
+	 */
+	public int[] getViolationIndexes() {
+		return violationIndexes.clone();
+	}
+
+	/**
+	 * @return int the number of characters not contained in the
+	 *         TransliterableUTF8CharacterSet.
+	 */
+	public int getViolationCount() {
+		return violationIndexes.length;
+	}
+
+	/**
+	 * @return boolean true if all characters are contained in the
+	 *         TransliterableUTF8CharacterSet.
+	 */
+	public boolean isValid() {
+		return violationIndexes.length == 0;
+	}
+
+	@Override
+	public String toString() {
+		return "TransliterationResult [transliteration=" + transliteration + ", violationIndexes="
+				+ Arrays.toString(violationIndexes) + "]";
+	}
+}
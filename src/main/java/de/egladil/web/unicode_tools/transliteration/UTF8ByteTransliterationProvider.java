@@ -0,0 +1,49 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+
+/**
+ * UTF8ByteTransliterationProvider transliterates UTF-8 encoded bytes into UTF-8
+ * encoded bytes without decoding them into a String.
+ */
+public interface UTF8ByteTransliterationProvider {
+
+	/**
+	 * Transliterates the bytes between position and limit of in and writes the
+	 * result to out. The positions of both buffers are advanced like those of a
+	 * CharsetDecoder.
+	 *
+	 * @param in         ByteBuffer UTF-8 encoded, heap or direct.
+	 * @param out        ByteBuffer receiving the UTF-8 encoded transliteration.
+	 * @param endOfInput boolean true if no bytes follow those of in.
+	 * @return CoderResult UNDERFLOW if in needs more bytes, OVERFLOW if out is
+	 *         full or malformed-input at the position of in.
+	 */
+	CoderResult transliterate(ByteBuffer in, ByteBuffer out, boolean endOfInput);
+}
@@ -0,0 +1,173 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import java.util.Arrays;
+
+import de.egladil.web.unicode_tools.internal.CodePointTrie;
+import de.egladil.web.unicode_tools.internal.TransliterationTable;
+import de.egladil.web.unicode_tools.validation.ValidationProvider;
+
+/**
+ * ValidatingTransliterator validates and transliterates a text in one pass.
+ * Without a ValidationProvider a character is valid when the
+ * TransliterableUTF8CharacterSet has a transliteration for it. Items of the XML
+ * whose mapping is missing or can not be parsed are left out of that set, so
+ * they are reported although a validator of the same XML accepts them. To check
+ * exactly like the validator, pass the ValidationProvider of the XML: valid
+ * characters without a transliteration are then kept unchanged. Characters that
+ * are not valid are reported by their index and handled according to an
+ * UnknownCharacterPolicy. Instances are threadSafe.
+ */
+public class ValidatingTransliterator {
+
+	private final TransliterationTable transliterationTable;
+
+	/** decides which characters are valid or null to accept the transliterable ones. */
+	private final ValidationProvider validationProvider;
+
+	private final UnknownCharacterPolicy policy;
+
+	private final String replacement;
+
+	/**
+	 * ValidatingTransliterator
+	 *
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 * @param policy       UnknownCharacterPolicy must not be REPLACE.
+	 */
+	public ValidatingTransliterator(TransliterableUTF8CharacterSet characterSet, UnknownCharacterPolicy policy) {
+		this(characterSet, policy, null);
+	}
+
+	/**
+	 * ValidatingTransliterator
+	 *
+	 * @param characterSet TransliterableUTF8CharacterSet
+	 * @param policy       UnknownCharacterPolicy
+	 * @param replacement  String the marker replacing unknown characters, required
+	 *                     for REPLACE only.
+	 */
+	public ValidatingTransliterator(TransliterableUTF8CharacterSet characterSet, UnknownCharacterPolicy policy,
+			String replacement) {
+		this(characterSet, null, policy, replacement);
+	}
+
+	/**
+	 * ValidatingTransliterator
+	 *
+	 * @param characterSet       TransliterableUTF8CharacterSet
+	 * @param validationProvider ValidationProvider decides which characters are
+	 *                           valid, may be null to accept the transliterable
+	 *                           characters only.
+	 * @param policy             UnknownCharacterPolicy
+	 * @param replacement        String the marker replacing unknown characters,
+	 *                           required for REPLACE only.
+	 */
+	public ValidatingTransliterator(TransliterableUTF8CharacterSet characterSet,
+			ValidationProvider validationProvider, UnknownCharacterPolicy policy, String replacement) {
+
+		if (characterSet == null) {
+			throw new IllegalArgumentException("characterSet must not be null");
+		}
+
+		if (policy == null) {
+			throw new IllegalArgumentException("policy must not be null");
+		}
+
+		if (policy == UnknownCharacterPolicy.REPLACE && replacement == null) {
+			throw new IllegalArgumentException("replacement must not be null");
+		}
+
+		this.transliterationTable = characterSet.transliterationTable();
+		this.validationProvider = validationProvider;
+		this.policy = policy;
+		this.replacement = replacement;
+	}
+
+	/**
+	 * Validates and transliterates the given text.
+	 *
+	 * @param text CharSequence
+	 * @return TransliterationResult
+	 */
+	public TransliterationResult transliterate(CharSequence text) {
+
+		if (text == null) {
+			throw new IllegalArgumentException("text must not be null");
+		}
+
+		int length = text.length();
+		StringBuilder result = new StringBuilder(length);
+		int[] violations = null;
+		int violationCount = 0;
+		int index = 0;
+
+		while (index < length) {
+
+			long match = transliterationTable.match(text, index);
+			int matchLength = match == CodePointTrie.NO_MATCH ? 0 : CodePointTrie.matchLength(match);
+			int validLength = validationProvider == null ? matchLength
+					: validationProvider.matchLength(text, index);
+
+			if (validLength > 0 && matchLength >= validLength) {
+				result.append(transliterationTable.output(TransliterationTable.outputId(CodePointTrie.matchValue(match))));
+				index += matchLength;
+				continue;
+			}
+
+			if (validLength > 0) {
+				// a valid item without a transliteration.
+				result.append(text, index, index + validLength);
+				index += validLength;
+				continue;
+			}
+
+			if (violations == null) {
+				violations = new int[4];
+			} else if (violationCount == violations.length) {
+				violations = Arrays.copyOf(violations, 2 * violationCount);
+			}
+			violations[violationCount++] = index;
+			int end = index + Character.charCount(Character.codePointAt(text, index));
+
+			if (policy == UnknownCharacterPolicy.KEEP) {
+				result.append(text, index, end);
+			} else if (policy == UnknownCharacterPolicy.REPLACE) {
+				result.append(replacement);
+			}
+			index = end;
+		}
+
+		if (violations == null) {
+			return new TransliterationResult(result.toString(), null);
+		}
+
+		violations = Arrays.copyOf(violations, violationCount);
+		return new TransliterationResult(policy == UnknownCharacterPolicy.REJECT ? null : result.toString(),
+				violations);
+	}
+}
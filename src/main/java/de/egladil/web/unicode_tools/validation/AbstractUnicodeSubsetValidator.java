@@ -25,8 +25,6 @@
 
 package de.egladil.web.unicode_tools.validation;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.text.MessageFormat;
 import java.util.HashSet;
@@ -36,14 +34,9 @@ import java.util.Set;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.commons.lang3.StringUtils;
 
-import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
-import de.egladil.web.unicode_tools.xml.DefaultCharacterSet;
-
 /**
  * AbstractUnicodeSubsetValidator
  */
@@ -76,53 +69,40 @@ public abstract class AbstractUnicodeSubsetValidator<A extends Annotation, T> im
 
 		ValidationProvider validationProvider = getValidationProvider();
 
-		Set<String> unallowedSubstrings = new HashSet<>();
+		// nothing is allocated as long as the value is valid.
+		int index = validationProvider.indexOfInvalidCharacter(strValue, 0);
 
-		for (int i = 0; i < strValue.length(); i++) {
+		if (index < 0) {
 
-			String letter = strValue.charAt(i) + "";
-			if (!validationProvider.isPrintableCharacterValid(letter)) {
-				unallowedSubstrings.add(letter);
-			}
+			return true;
 		}
 
-		if (!unallowedSubstrings.isEmpty()) {
+		Set<String> unallowedSubstrings = new HashSet<>();
 
-			String invalidChars = StringUtils.join(unallowedSubstrings, ",");
-			String valMessage = validationMessages.getString(messageTemplate);
-			String message = MessageFormat.format(valMessage, new Object[] { invalidChars });
-			context.disableDefaultConstraintViolation();
-			context.buildConstraintViolationWithTemplate(message).addConstraintViolation();
+		while (index < strValue.length()) {
 
-			return false;
+			int length = validationProvider.matchLength(strValue, index);
+
+			if (length == 0) {
+				int codePoint = strValue.codePointAt(index);
+				length = Character.charCount(codePoint);
+				unallowedSubstrings.add(strValue.substring(index, index + length));
+			}
+			index += length;
 		}
 
-		return true;
+		String invalidChars = StringUtils.join(unallowedSubstrings, ",");
+		String valMessage = validationMessages.getString(messageTemplate);
+		String message = MessageFormat.format(valMessage, new Object[] { invalidChars });
+		context.disableDefaultConstraintViolation();
+		context.buildConstraintViolationWithTemplate(message).addConstraintViolation();
+
+		return false;
 	}
 
 	private ValidationProvider getValidationProvider() {
 
-		String whitelistLocation = getWhitelistClasspathLocation();
-
-		try (InputStream in = getClass().getResourceAsStream(whitelistLocation)) {
-
-			Unmarshaller unmarshaller = JAXBContextProvider.getJACBContext().createUnmarshaller();
-
-			Object obj = unmarshaller.unmarshal(in);
-
-			if (!(obj instanceof DefaultCharacterSet)) {
-				throw new IllegalArgumentException("provided xml is not valid for DefaultCharacterSet");
-			}
-
-			DefaultCharacterSet defaultCharSet = (DefaultCharacterSet) obj;
-
-			return ValidatableUTF8CharacterSet.from(defaultCharSet);
-
-		} catch (IOException e) {
-			throw new UnicodeToolsException("resource " + whitelistLocation + " is not present");
-		} catch (JAXBException e) {
-			throw new UnicodeToolsException("could not unmarshall " + whitelistLocation + ": " + e.getMessage(), e);
-		}
+		return ValidationProviderRegistry.getValidationProvider(getWhitelistClasspathLocation(), getClass());
 	}
 
 	/**
@@ -0,0 +1,103 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.validation;
+
+/**
+ * CharacterViolation is a ValueObject that locates an invalid character found
+ * by the UTF8StreamValidator. Lines and columns start with 1. Columns count
+ * characters, so an item of combined code points occupies one column.
+ */
+public class CharacterViolation {
+
+	private final long line;
+
+	private final long column;
+
+	private final int codePoint;
+
+	/**
+	 * CharacterViolation
+	 *
+	 * @param line      long
+	 * @param column    long
+	 * @param codePoint int the invalid code point.
+	 */
+	public CharacterViolation(long line, long column, int codePoint) {
+		this.line = line;
+		this.column = column;
+		this.codePoint = codePoint;
+	}
+
+	public long getLine() {
+		return line;
+	}
+
+	public long getColumn() {
+		return column;
+	}
+
+	public int getCodePoint() {
+		return codePoint;
+	}
+
+	/**
+	 * @return String the invalid code point as printable String.
+	 */
+	public String printableCharacter() {
+		return new String(Character.toChars(codePoint));
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Long.hashCode(line);
+		result = prime * result + Long.hashCode(column);
+		result = prime * result + codePoint;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		CharacterViolation other = (CharacterViolation) obj;
+		return line == other.line && column == other.column && codePoint == other.codePoint;
+	}
+
+	@Override
+	public String toString() {
+		return "CharacterViolation [line=" + line + ", column=" + column + ", codePoint="
+				+ String.format("%04X", codePoint) + "]";
+	}
+}
@@ -0,0 +1,72 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.validation;
+
+import java.nio.ByteBuffer;
+
+/**
+ * UTF8ByteValidationProvider checks if UTF-8 encoded bytes are valid with
+ * respect to a given CharacterSet without decoding them into a String. Bytes
+ * that are not well-formed UTF-8 are not valid.
+ */
+public interface UTF8ByteValidationProvider {
+
+	/**
+	 * Finds the first character of the given bytes that is not valid.
+	 *
+	 * @param bytes  byte[] UTF-8 encoded
+	 * @param offset int index of the first byte to check.
+	 * @param length int number of bytes to check.
+	 * @return int the index of the first byte of the first invalid or malformed
+	 *         character or -1, if all characters are valid.
+	 */
+	int indexOfInvalidByte(byte[] bytes, int offset, int length);
+
+	/**
+	 * Finds the first character between position and limit of the given buffer
+	 * that is not valid. The position of the buffer is not changed.
+	 *
+	 * @param buffer ByteBuffer UTF-8 encoded, heap or direct.
+	 * @return int the absolute index of the first byte of the first invalid or
+	 *         malformed character or -1, if all characters are valid.
+	 */
+	int indexOfInvalidByte(ByteBuffer buffer);
+
+	/**
+	 * Finds the first character of the given bytes that is not valid.
+	 *
+	 * @param bytes byte[] UTF-8 encoded
+	 * @return int the index of the first byte of the first invalid or malformed
+	 *         character or -1, if all characters are valid.
+	 */
+	default int indexOfInvalidByte(byte[] bytes) {
+
+		if (bytes == null) {
+			throw new IllegalArgumentException("bytes must not be null");
+		}
+		return indexOfInvalidByte(bytes, 0, bytes.length);
+	}
+}
@@ -0,0 +1,204 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * UTF8StreamValidator validates character streams of any size against a
+ * ValidatableUTF8CharacterSet in bounded memory. Items of combined code points
+ * are matched even when they span the boundary of the internal buffer. Every
+ * invalid character is passed as CharacterViolation to a Consumer.<br>
+ * <br>
+ * Bytes that are not well-formed UTF-8 are decoded to U+FFFD and reported, if
+ * U+FFFD is not valid. The streams are not closed. Instances are threadSafe.
+ */
+public class UTF8StreamValidator {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final ValidatableUTF8CharacterSet characterSet;
+
+	private final int bufferSize;
+
+	private final int lookahead;
+
+	/**
+	 * UTF8StreamValidator with a buffer of 8192 chars.
+	 *
+	 * @param characterSet ValidatableUTF8CharacterSet
+	 */
+	public UTF8StreamValidator(ValidatableUTF8CharacterSet characterSet) {
+		this(characterSet, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * UTF8StreamValidator
+	 *
+	 * @param characterSet ValidatableUTF8CharacterSet
+	 * @param bufferSize   int number of chars buffered per validation.
+	 */
+	public UTF8StreamValidator(ValidatableUTF8CharacterSet characterSet, int bufferSize) {
+
+		if (characterSet == null) {
+			throw new IllegalArgumentException("characterSet must not be null");
+		}
+
+		this.characterSet = characterSet;
+		this.lookahead = characterSet.maxItemLength();
+
+		if (bufferSize < 2 * lookahead) {
+			throw new IllegalArgumentException("bufferSize must be at least " + 2 * lookahead);
+		}
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Validates UTF-8 encoded bytes.
+	 *
+	 * @param in       InputStream
+	 * @param consumer Consumer receiving the violations in the order of their
+	 *                 occurrence.
+	 * @return long the number of violations.
+	 * @throws IOException
+	 */
+	public long validate(InputStream in, Consumer<CharacterViolation> consumer) throws IOException {
+
+		if (in == null) {
+			throw new IllegalArgumentException("in must not be null");
+		}
+
+		return validate(new InputStreamReader(in, StandardCharsets.UTF_8), consumer);
+	}
+
+	/**
+	 * Validates UTF-8 encoded bytes.
+	 *
+	 * @param channel  ReadableByteChannel
+	 * @param consumer Consumer receiving the violations in the order of their
+	 *                 occurrence.
+	 * @return long the number of violations.
+	 * @throws IOException
+	 */
+	public long validate(ReadableByteChannel channel, Consumer<CharacterViolation> consumer) throws IOException {
+
+		if (channel == null) {
+			throw new IllegalArgumentException("channel must not be null");
+		}
+
+		Reader reader = Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+		return validate(reader, consumer);
+	}
+
+	/**
+	 * Validates the characters read from reader. Lines end with LF, CR, CRLF,
+	 * LINE SEPARATOR or PARAGRAPH SEPARATOR.
+	 *
+	 * @param reader   Reader
+	 * @param consumer Consumer receiving the violations in the order of their
+	 *                 occurrence.
+	 * @return long the number of violations.
+	 * @throws IOException
+	 */
+	public long validate(Reader reader, Consumer<CharacterViolation> consumer) throws IOException {
+
+		if (reader == null) {
+			throw new IllegalArgumentException("reader must not be null");
+		}
+
+		if (consumer == null) {
+			throw new IllegalArgumentException("consumer must not be null");
+		}
+
+		char[] buffer = new char[bufferSize];
+		CharBuffer text = CharBuffer.wrap(buffer);
+		int filled = 0;
+		int index = 0;
+		boolean endOfInput = false;
+		long line = 1;
+		long column = 1;
+		boolean afterCarriageReturn = false;
+		long violations = 0;
+
+		while (true) {
+
+			// keep enough chars to match the longest item before matching at index.
+			if (!endOfInput && filled - index < lookahead) {
+
+				System.arraycopy(buffer, index, buffer, 0, filled - index);
+				filled -= index;
+				index = 0;
+
+				do {
+					int read = reader.read(buffer, filled, buffer.length - filled);
+
+					if (read < 0) {
+						endOfInput = true;
+					} else {
+						filled += read;
+					}
+				} while (filled < lookahead && !endOfInput);
+				text.limit(filled);
+			}
+
+			if (index >= filled) {
+				return violations;
+			}
+
+			int length = characterSet.matchLength(text, index);
+
+			if (length == 0) {
+				int codePoint = Character.codePointAt(text, index);
+				length = Character.charCount(codePoint);
+				consumer.accept(new CharacterViolation(line, column, codePoint));
+				violations++;
+			}
+
+			char c = buffer[index];
+
+			if (c == '\n' && afterCarriageReturn) {
+				// the line feed of CRLF, the carriage return already ended the line.
+			} else if (c == '\n' || c == '\r' || c == '\u2028' || c == '\u2029') {
+				line++;
+				column = 1;
+			} else {
+				column++;
+			}
+			afterCarriageReturn = c == '\r';
+			index += length;
+		}
+	}
+}
@@ -25,24 +25,53 @@
 
 package de.egladil.web.unicode_tools.validation;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.xml.stream.XMLStreamException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import de.egladil.web.unicode_tools.UTF8Codepoint;
 import de.egladil.web.unicode_tools.UTF8SubsetSetName;
+import de.egladil.web.unicode_tools.generated.CompiledCharacterSet;
+import de.egladil.web.unicode_tools.internal.CodePointBitSet;
+import de.egladil.web.unicode_tools.internal.CodePointTrie;
+import de.egladil.web.unicode_tools.internal.CodePointsToIntArrayMapper;
+import de.egladil.web.unicode_tools.internal.UTF8Decoder;
+import de.egladil.web.unicode_tools.xml.CharacterSetStreamReader;
 import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
 import de.egladil.web.unicode_tools.xml.mapping.MappableCharacterSet;
 
 /**
  * ValidatableUTF8CharacterSet is a subset of UTF-8 that contains items being
- * cosidered as valid.
+ * cosidered as valid. The items are compiled into a CodePointBitSet for the
+ * single code points and a CodePointTrie for the combined code points, so
+ * membership checks do not depend on the number of items. Besides Strings it
+ * validates UTF-8 encoded bytes in place.
  */
-public class ValidatableUTF8CharacterSet implements ValidationProvider {
+public class ValidatableUTF8CharacterSet implements ValidationProvider, UTF8ByteValidationProvider {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ValidatableUTF8CharacterSet.class);
 
 	private final UTF8SubsetSetName name;
 
-	private List<UTF8Codepoint> items;
+	/** created from compiledSet on first use if the set was created by fromCompiled. */
+	private volatile List<UTF8Codepoint> items;
+
+	private CompiledCharacterSet compiledSet;
+
+	private CodePointBitSet singleCodePoints;
+
+	private CodePointTrie combinedCodePoints;
 
 	/**
 	 * Factory method for mapping a DefaultValidatableCharacterSet.
@@ -70,9 +99,63 @@ public class ValidatableUTF8CharacterSet implements ValidationProvider {
 				.collect(Collectors.toList());
 
 		result.items = mappedItems;
+		result.compile();
+
+		return result;
+
+	}
+
+	/**
+	 * Factory method that creates a ValidatableUTF8CharacterSet from a
+	 * CompiledCharacterSet. The membership checks are compiled from its already
+	 * parsed code points, so no UTF8Codepoints are created unless
+	 * isUTF8CodepointValid is called.
+	 *
+	 * @param compiledSet CompiledCharacterSet
+	 * @return ValidatableUTF8CharacterSet
+	 */
+	public static ValidatableUTF8CharacterSet fromCompiled(CompiledCharacterSet compiledSet) {
+
+		if (compiledSet == null) {
+			throw new IllegalArgumentException("compiledSet must not be null");
+		}
+
+		List<int[]> codePoints = new ArrayList<>(compiledSet.size());
+
+		for (int i = 0; i < compiledSet.size(); i++) {
+			codePoints.add(compiledSet.codePoints(i));
+		}
+
+		ValidatableUTF8CharacterSet result = new ValidatableUTF8CharacterSet(
+				new UTF8SubsetSetName(compiledSet.getName()));
+		result.items = null;
+		result.compiledSet = compiledSet;
+		result.compile(codePoints);
 
 		return result;
+	}
+
+	/**
+	 * Factory method that reads a ValidatableUTF8CharacterSet from the xml of a
+	 * whitelist. The characters are streamed into the items one by one without
+	 * unmarshalling the xml into a DefaultCharacterSet first.
+	 *
+	 * @param in InputStream the xml. It is not closed.
+	 * @return ValidatableUTF8CharacterSet
+	 * @throws XMLStreamException if in is not well-formed xml.
+	 */
+	public static ValidatableUTF8CharacterSet read(InputStream in) throws XMLStreamException {
+
+		final List<UTF8Codepoint> mappedItems = new ArrayList<>();
+
+		String name = CharacterSetStreamReader.read(in,
+				item -> mappedItems.add(new UTF8Codepoint(item.getCodePoint(), item.getSeparationChar())));
 
+		ValidatableUTF8CharacterSet result = new ValidatableUTF8CharacterSet(new UTF8SubsetSetName(name));
+		result.items = mappedItems;
+		result.compile();
+
+		return result;
 	}
 
 	/**
@@ -85,6 +168,42 @@ public class ValidatableUTF8CharacterSet implements ValidationProvider {
 
 		this.name = name;
 		this.items = new ArrayList<>();
+		this.singleCodePoints = new CodePointBitSet(new BitSet());
+		this.combinedCodePoints = new CodePointTrie(Collections.emptyList());
+	}
+
+	private void compile() {
+
+		final CodePointsToIntArrayMapper codePointMapper = new CodePointsToIntArrayMapper();
+		final List<int[]> codePointsOfItems = new ArrayList<>(items.size());
+
+		for (UTF8Codepoint item : items) {
+
+			try {
+				codePointsOfItems.add(codePointMapper.apply(item));
+			} catch (IllegalArgumentException e) {
+				LOG.warn("Ignoring {}: {}", item.getCodePoints(), e.getMessage());
+			}
+		}
+		compile(codePointsOfItems);
+	}
+
+	private void compile(List<int[]> codePointsOfItems) {
+
+		final BitSet singles = new BitSet();
+		final List<int[]> combined = new ArrayList<>();
+
+		for (int[] codePoints : codePointsOfItems) {
+
+			if (codePoints.length == 1) {
+				singles.set(codePoints[0]);
+			} else {
+				combined.add(codePoints);
+			}
+		}
+
+		this.singleCodePoints = new CodePointBitSet(singles);
+		this.combinedCodePoints = new CodePointTrie(combined);
 	}
 
 	@Override
@@ -94,13 +213,166 @@ public class ValidatableUTF8CharacterSet implements ValidationProvider {
 			return true;
 		}
 
-		return items.stream().map(item -> item.utf8()).filter(ch -> givenPrintableCharacter.equals(ch)).findAny()
-				.isPresent();
+		int codePoint = givenPrintableCharacter.codePointAt(0);
+
+		if (Character.charCount(codePoint) == givenPrintableCharacter.length()) {
+			return singleCodePoints.contains(codePoint);
+		}
+
+		return combinedCodePoints.get(givenPrintableCharacter) != CodePointTrie.NO_VALUE;
+	}
+
+	@Override
+	public int matchLength(CharSequence text, int index) {
+
+		int codePoint = Character.codePointAt(text, index);
+		int result = singleCodePoints.contains(codePoint) ? Character.charCount(codePoint) : 0;
+		long match = combinedCodePoints.longestMatch(text, index);
+
+		if (match != CodePointTrie.NO_MATCH) {
+			result = Math.max(result, CodePointTrie.matchLength(match));
+		}
+		return result;
+	}
+
+	@Override
+	public boolean isCodePointValid(int codePoint) {
+		return singleCodePoints.contains(codePoint);
+	}
+
+	@Override
+	public int indexOfInvalidByte(byte[] bytes, int offset, int length) {
+
+		if (bytes == null) {
+			throw new IllegalArgumentException("bytes must not be null");
+		}
+
+		if (offset < 0 || length < 0 || offset > bytes.length - length) {
+			throw new IndexOutOfBoundsException("offset " + offset + " and length " + length
+					+ " do not fit into an array of length " + bytes.length);
+		}
+
+		return indexOfInvalidByte(ByteBuffer.wrap(bytes), offset, offset + length);
+	}
+
+	@Override
+	public int indexOfInvalidByte(ByteBuffer buffer) {
+
+		if (buffer == null) {
+			throw new IllegalArgumentException("buffer must not be null");
+		}
+
+		return indexOfInvalidByte(buffer, buffer.position(), buffer.limit());
+	}
+
+	private int indexOfInvalidByte(ByteBuffer buffer, int start, int limit) {
+
+		int index = start;
+
+		while (index < limit) {
+
+			int length = matchLength(buffer, index, limit);
+
+			if (length == 0) {
+				return index;
+			}
+			index += length;
+		}
+		return -1;
+	}
+
+	/**
+	 * Byte counterpart of matchLength(CharSequence, int).
+	 *
+	 * @return int the number of bytes of the longest valid item at index or 0.
+	 */
+	private int matchLength(ByteBuffer buffer, int index, int limit) {
+
+		int codePoint = UTF8Decoder.decode(buffer, index, limit);
+
+		if (codePoint == UTF8Decoder.MALFORMED) {
+			return 0;
+		}
+
+		int position = index + UTF8Decoder.encodedLength(codePoint);
+		int result = singleCodePoints.contains(codePoint) ? position - index : 0;
+		int node = combinedCodePoints.next(CodePointTrie.ROOT, codePoint);
+
+		while (node != CodePointTrie.NO_NODE) {
+
+			if (combinedCodePoints.value(node) != CodePointTrie.NO_VALUE) {
+				result = position - index;
+			}
+
+			if (position >= limit || !combinedCodePoints.hasChildren(node)) {
+				break;
+			}
+
+			codePoint = UTF8Decoder.decode(buffer, position, limit);
+
+			if (codePoint == UTF8Decoder.MALFORMED) {
+				break;
+			}
+
+			node = combinedCodePoints.next(node, codePoint);
+			position += UTF8Decoder.encodedLength(codePoint);
+		}
+		return result;
 	}
 
 	@Override
 	public boolean isUTF8CodepointValid(UTF8Codepoint codePoint) {
-		return this.items.contains(codePoint);
+		return items().contains(codePoint);
+	}
+
+	private List<UTF8Codepoint> items() {
+
+		List<UTF8Codepoint> result = items;
+
+		if (result == null) {
+			result = compiledSet.getItems().stream()
+					.map(item -> new UTF8Codepoint(item.getCodePoint(), item.getSeparationChar()))
+					.collect(Collectors.toList());
+			items = result;
+		}
+		return result;
+	}
+
+	/**
+	 * @return Set the valid characters as Strings. Items whose code points can not
+	 *         be parsed are left out like they are by the validation.
+	 */
+	public Set<String> validCharacters() {
+
+		Set<String> result = new HashSet<>();
+
+		if (compiledSet != null) {
+
+			for (int i = 0; i < compiledSet.size(); i++) {
+				result.add(compiledSet.character(i));
+			}
+			return result;
+		}
+
+		final CodePointsToIntArrayMapper codePointMapper = new CodePointsToIntArrayMapper();
+
+		for (UTF8Codepoint item : items) {
+
+			try {
+				int[] codePoints = codePointMapper.apply(item);
+				result.add(new String(codePoints, 0, codePoints.length));
+			} catch (IllegalArgumentException e) {
+				// not valid for the validation either.
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return int the maximum number of chars of an item.
+	 */
+	int maxItemLength() {
+		return 2 * Math.max(1, combinedCodePoints.maxLength());
 	}
 
 	@Override
@@ -110,6 +382,6 @@ public class ValidatableUTF8CharacterSet implements ValidationProvider {
 
 	@Override
 	public int size() {
-		return this.items.size();
+		return compiledSet == null ? this.items.size() : compiledSet.size();
 	}
 }
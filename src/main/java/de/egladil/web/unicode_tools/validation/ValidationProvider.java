@@ -41,6 +41,59 @@ public interface ValidationProvider {
 	 */
 	boolean isPrintableCharacterValid(String givenPrintableCharacter);
 
+	/**
+	 * Decides if the single codePoint is valid. This default implementation
+	 * checks it as printable character.
+	 *
+	 * @param codePoint int
+	 * @return boolean
+	 */
+	default boolean isCodePointValid(int codePoint) {
+		return isPrintableCharacterValid(new String(Character.toChars(codePoint)));
+	}
+
+	/**
+	 * Finds the longest valid item the text starts with at the given index. Items
+	 * consisting of combined code points are matched as a unit, surrogate pairs
+	 * are never split. This default implementation checks the single code point
+	 * at index only.
+	 *
+	 * @param text  CharSequence
+	 * @param index int position of the first char to match.
+	 * @return int the number of chars of the matched item or 0, if the character
+	 *         at index is not valid.
+	 */
+	default int matchLength(CharSequence text, int index) {
+
+		int codePoint = Character.codePointAt(text, index);
+		return isCodePointValid(codePoint) ? Character.charCount(codePoint) : 0;
+	}
+
+	/**
+	 * Finds the first character of the text that is not valid. It does not
+	 * allocate.
+	 *
+	 * @param text      CharSequence
+	 * @param fromIndex int position to start from.
+	 * @return int the index of the first invalid character or -1, if all
+	 *         characters from fromIndex on are valid.
+	 */
+	default int indexOfInvalidCharacter(CharSequence text, int fromIndex) {
+
+		int index = fromIndex;
+
+		while (index < text.length()) {
+
+			int length = matchLength(text, index);
+
+			if (length == 0) {
+				return index;
+			}
+			index += length;
+		}
+		return -1;
+	}
+
 	/**
 	 * Decides if the UTF8Codepoint is valid.
 	 *
@@ -0,0 +1,157 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.stream.XMLStreamException;
+
+import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+import de.egladil.web.unicode_tools.generated.CompiledCharacterSet;
+import de.egladil.web.unicode_tools.generated.DefaultTransliterableCharacterSetTable;
+import de.egladil.web.unicode_tools.generated.EuropeanWhitelistTable;
+import de.egladil.web.unicode_tools.generated.LatinBasedCharacterSetTable;
+
+/**
+ * ValidationProviderRegistry holds the ValidationProviders of all whitelists
+ * used so far, keyed by the ClassLoader of the resource owner and their
+ * classpath location, so jars that ship a whitelist under the same location do
+ * not get each other's. A whitelist is read and compiled at first use only and
+ * is shared by all validators and threads afterwards. The bundled whitelists
+ * are taken from the classes generated from their xml at build time, so they
+ * are not parsed at all.
+ */
+public final class ValidationProviderRegistry {
+
+	/** weak keys, so registered whitelists do not keep undeployed ClassLoaders alive. */
+	private static final Map<ClassLoader, ConcurrentMap<String, ValidationProvider>> PROVIDERS_BY_CLASS_LOADER =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/** lets validators look up their ClassLoader's providers without locking. */
+	private static final ClassValue<ConcurrentMap<String, ValidationProvider>> PROVIDERS =
+			new ClassValue<ConcurrentMap<String, ValidationProvider>>() {
+
+		@Override
+		protected ConcurrentMap<String, ValidationProvider> computeValue(Class<?> type) {
+			return PROVIDERS_BY_CLASS_LOADER.computeIfAbsent(type.getClassLoader(),
+					classLoader -> new ConcurrentHashMap<>());
+		}
+	};
+
+	/** the bundled whitelists compiled into classes at build time. */
+	private static final Map<String, CompiledCharacterSet> COMPILED_SETS = new HashMap<>();
+
+	static {
+		COMPILED_SETS.put("/defaultTransliterableCharacterSet.xml", DefaultTransliterableCharacterSetTable.INSTANCE);
+		COMPILED_SETS.put("/europeanWhitelist.xml", EuropeanWhitelistTable.INSTANCE);
+		COMPILED_SETS.put("/latinBasedCharacterSet.xml", LatinBasedCharacterSetTable.INSTANCE);
+	}
+
+	private ValidationProviderRegistry() {
+	}
+
+	/**
+	 * Gets the ValidationProvider for the whitelist at the given classpath
+	 * location. It is created at first call.
+	 *
+	 * @param whitelistLocation String classpath resource of the xml file
+	 *                          containing the whitelist.
+	 * @return ValidationProvider
+	 */
+	public static ValidationProvider getValidationProvider(String whitelistLocation) {
+
+		return getValidationProvider(whitelistLocation, ValidationProviderRegistry.class);
+	}
+
+	/**
+	 * Gets the ValidationProvider for the whitelist at the given classpath
+	 * location. If it is not present yet, the resource is loaded with the given
+	 * resourceOwner.
+	 *
+	 * @param whitelistLocation String classpath resource of the xml file
+	 *                          containing the whitelist.
+	 * @param resourceOwner     Class whose ClassLoader can see the whitelist.
+	 * @return ValidationProvider
+	 */
+	public static ValidationProvider getValidationProvider(String whitelistLocation, Class<?> resourceOwner) {
+
+		if (whitelistLocation == null) {
+			throw new IllegalArgumentException("whitelistLocation must not be null");
+		}
+
+		if (resourceOwner == null) {
+			throw new IllegalArgumentException("resourceOwner must not be null");
+		}
+
+		ConcurrentMap<String, ValidationProvider> providers = PROVIDERS.get(resourceOwner);
+		ValidationProvider result = providers.get(whitelistLocation);
+
+		if (result != null) {
+			return result;
+		}
+
+		return providers.computeIfAbsent(whitelistLocation, location -> load(location, resourceOwner));
+	}
+
+	private static ValidationProvider load(String whitelistLocation, Class<?> resourceOwner) {
+
+		CompiledCharacterSet compiledSet = COMPILED_SETS.get(whitelistLocation);
+
+		// another jar may ship a whitelist of its own under the location of a bundled one.
+		if (compiledSet != null && isBundled(whitelistLocation, resourceOwner)) {
+			return ValidatableUTF8CharacterSet.fromCompiled(compiledSet);
+		}
+
+		try (InputStream in = resourceOwner.getResourceAsStream(whitelistLocation)) {
+
+			if (in == null) {
+				throw new UnicodeToolsException("resource " + whitelistLocation + " is not present");
+			}
+
+			return ValidatableUTF8CharacterSet.read(in);
+
+		} catch (IOException e) {
+			throw new UnicodeToolsException("resource " + whitelistLocation + " is not present");
+		} catch (XMLStreamException e) {
+			throw new UnicodeToolsException("could not read " + whitelistLocation + ": " + e.getMessage(), e);
+		}
+	}
+
+	private static boolean isBundled(String whitelistLocation, Class<?> resourceOwner) {
+
+		URL resource = resourceOwner.getResource(whitelistLocation);
+		return resource != null && resource.toString()
+				.equals(String.valueOf(ValidationProviderRegistry.class.getResource(whitelistLocation)));
+	}
+}
@@ -0,0 +1,155 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.xml;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
+
+/**
+ * CharacterSetStreamReader reads the xml of a character set with StAX and hands
+ * each character element to a Consumer as soon as it is read, so the elements
+ * can be compiled on the fly instead of being unmarshalled into a
+ * DefaultCharacterSet first. It accepts any name of the root element, since the
+ * bundled xml files differ in it.
+ */
+public final class CharacterSetStreamReader {
+
+	private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+	private CharacterSetStreamReader() {
+	}
+
+	private static XMLInputFactory createInputFactory() {
+
+		XMLInputFactory result = XMLInputFactory.newInstance();
+		result.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		result.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		result.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+		return result;
+	}
+
+	/**
+	 * Reads the character set from in and passes its characters in document order
+	 * to consumer. The MappableCharacter passed is reused for the next character,
+	 * so the consumer must not keep it. in is not closed.
+	 *
+	 * @param in       InputStream the xml.
+	 * @param consumer Consumer of the characters.
+	 * @return String the name of the character set or null if it has none.
+	 * @throws XMLStreamException if in is not well-formed xml.
+	 */
+	public static String read(InputStream in, Consumer<MappableCharacter> consumer) throws XMLStreamException {
+
+		if (in == null) {
+			throw new IllegalArgumentException("in must not be null");
+		}
+
+		if (consumer == null) {
+			throw new IllegalArgumentException("consumer must not be null");
+		}
+
+		XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+
+		try {
+
+			String name = null;
+			StreamedCharacter character = new StreamedCharacter();
+			int depth = 0;
+
+			while (reader.hasNext()) {
+
+				int event = reader.next();
+
+				if (event == XMLStreamConstants.START_ELEMENT) {
+
+					String localName = reader.getLocalName();
+
+					if (depth == 1 && "name".equals(localName)) {
+						name = reader.getElementText();
+					} else if (depth == 2 && "codepoint".equals(localName)) {
+						character.codepoint = reader.getElementText();
+					} else if (depth == 2 && "mapping".equals(localName)) {
+						character.mapping = reader.getElementText();
+					} else {
+
+						if (depth == 1 && "character".equals(localName)) {
+							character.codepoint = null;
+							character.mapping = null;
+						}
+						depth++;
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+
+					depth--;
+
+					if (depth == 1 && "character".equals(reader.getLocalName())) {
+						consumer.accept(character);
+					}
+				}
+			}
+			return name;
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * The one MappableCharacter of a read that holds the current character.
+	 */
+	private static final class StreamedCharacter implements MappableCharacter {
+
+		private String codepoint;
+
+		private String mapping;
+
+		@Override
+		public String getCodePoint() {
+			return codepoint;
+		}
+
+		@Override
+		public String getMapping() {
+			return mapping;
+		}
+
+		@Override
+		public char getSeparationChar() {
+			return ' ';
+		}
+
+		@Override
+		public String toString() {
+			return "character [codepoint=" + codepoint + ", mapping=" + mapping + "]";
+		}
+	}
+}
@@ -0,0 +1,236 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.generated.DefaultTransliterableCharacterSetTable;
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacterSet;
+
+/**
+ * CharacterSetDiskCacheTest
+ */
+public class CharacterSetDiskCacheTest {
+
+	private static final byte[] SOURCE = "defaultTransliterableCharacterSet".getBytes(StandardCharsets.UTF_8);
+
+	private Path directory;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("unicode-tools-cache");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Test
+	void should_ConstructorThrowException_when_DirectoryNull() {
+
+		try {
+			new CharacterSetDiskCache(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("directory must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_GetCompileOnlyOnce_when_SourceUnchanged() {
+
+		// Arrange
+		AtomicInteger compilations = new AtomicInteger();
+		Supplier<MappableCharacterSet> compiler = countingCompiler(compilations);
+
+		// Act
+		MappedCharacterSet first = new CharacterSetDiskCache(directory).get(SOURCE, compiler);
+		MappedCharacterSet second = new CharacterSetDiskCache(directory).get(SOURCE, compiler);
+
+		// Assert
+		assertEquals(1, compilations.get());
+		assertEquals(725, first.size());
+		assertEquals("MUEHLBACH", second.transliterate("Mühlbach"));
+	}
+
+	@Test
+	void should_GetUseOtherFile_when_SourceChanged() {
+
+		// Arrange
+		CharacterSetDiskCache cache = new CharacterSetDiskCache(directory);
+		AtomicInteger compilations = new AtomicInteger();
+		byte[] changedSource = "changed".getBytes(StandardCharsets.UTF_8);
+
+		// Act
+		cache.get(SOURCE, countingCompiler(compilations));
+		cache.get(changedSource, countingCompiler(compilations));
+
+		// Assert
+		assertEquals(2, compilations.get());
+		assertNotEquals(cache.cacheFile(SOURCE), cache.cacheFile(changedSource));
+		assertTrue(Files.isRegularFile(cache.cacheFile(changedSource)));
+	}
+
+	@Test
+	void should_GetRebuildFile_when_Corrupt() throws IOException {
+
+		// Arrange
+		CharacterSetDiskCache cache = new CharacterSetDiskCache(directory);
+		AtomicInteger compilations = new AtomicInteger();
+		cache.get(SOURCE, countingCompiler(compilations));
+		Path file = cache.cacheFile(SOURCE);
+		byte[] bytes = Files.readAllBytes(file);
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(file, bytes);
+
+		// Act
+		MappedCharacterSet result = cache.get(SOURCE, countingCompiler(compilations));
+
+		// Assert
+		assertEquals(2, compilations.get());
+		assertEquals("MUEHLBACH", result.transliterate("Mühlbach"));
+		assertNotEquals(file, cache.cacheFile(SOURCE));
+		assertFalse(Files.exists(file));
+
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(1, files.count());
+		}
+	}
+
+	@Test
+	void should_GetFromXmlReadXmlOnlyOnMiss() throws IOException {
+
+		// Arrange
+		CharacterSetDiskCache cache = new CharacterSetDiskCache(directory.resolve("sets"));
+		Path xmlFile = directory.resolve("veryShortCharset.xml");
+
+		try (InputStream in = getClass().getResourceAsStream("/veryShortCharset.xml")) {
+			Files.copy(in, xmlFile);
+		}
+
+		// Act
+		MappedCharacterSet result = cache.getFromXml(xmlFile);
+
+		// Assert
+		assertEquals("VERY_SHORT_CHARSET", result.name());
+		assertEquals("AC", result.transliterate("A̋C̀"));
+		assertTrue(Files.isRegularFile(cache.cacheFile(Files.readAllBytes(xmlFile))));
+
+		try (InputStream in = getClass().getResourceAsStream("/veryShortCharset.xml")) {
+			assertFalse(cache.getFromXml(in).isCodePointValid(0xE4));
+		}
+	}
+
+	@Test
+	void should_RetainDeleteFilesOfOtherSourcesAndReplacedFiles() throws IOException {
+
+		// Arrange
+		CharacterSetDiskCache cache = new CharacterSetDiskCache(directory);
+		AtomicInteger compilations = new AtomicInteger();
+		byte[] changedSource = "changed".getBytes(StandardCharsets.UTF_8);
+		cache.get(changedSource, countingCompiler(compilations));
+		Path replacedFile = cache.cacheFile(SOURCE);
+		Files.write(replacedFile, new byte[] { 1 });
+		cache.get(SOURCE, countingCompiler(compilations));
+		Files.copy(cache.cacheFile(SOURCE), replacedFile);
+		Path oldVersionFile = Files.write(directory.resolve(String.join("", Collections.nCopies(64, "0")) + "-v0.ucs"),
+				new byte[] { 1 });
+		Path otherFile = Files.write(directory.resolve("other.ucs"), new byte[] { 1 });
+
+		// Act
+		int result = cache.retain(Collections.singletonList(SOURCE));
+
+		// Assert
+		assertEquals(3, result);
+		assertFalse(Files.exists(replacedFile));
+		assertFalse(Files.exists(oldVersionFile));
+		assertFalse(Files.exists(cache.cacheFile(changedSource)));
+		assertTrue(Files.isRegularFile(cache.cacheFile(SOURCE)));
+		assertTrue(Files.isRegularFile(otherFile));
+		assertEquals("MUEHLBACH", cache.get(SOURCE, countingCompiler(compilations)).transliterate("Mühlbach"));
+		assertEquals(2, compilations.get());
+	}
+
+	@Test
+	void should_PurgeDeleteAllFiles() {
+
+		// Arrange
+		CharacterSetDiskCache cache = new CharacterSetDiskCache(directory);
+		AtomicInteger compilations = new AtomicInteger();
+		cache.get(SOURCE, countingCompiler(compilations));
+
+		// Act
+		int result = cache.purge();
+
+		// Assert
+		assertEquals(1, result);
+		assertFalse(Files.exists(cache.cacheFile(SOURCE)));
+		cache.get(SOURCE, countingCompiler(compilations));
+		assertEquals(2, compilations.get());
+	}
+
+	@Test
+	void should_RetainThrowException_when_SourcesNull() {
+
+		try {
+			new CharacterSetDiskCache(directory).retain(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("sources must not be null", e.getMessage());
+		}
+	}
+
+	private Supplier<MappableCharacterSet> countingCompiler(AtomicInteger compilations) {
+
+		return () -> {
+			compilations.incrementAndGet();
+			return DefaultTransliterableCharacterSetTable.INSTANCE;
+		};
+	}
+}
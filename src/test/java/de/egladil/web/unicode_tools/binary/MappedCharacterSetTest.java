@@ -0,0 +1,348 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.UTF8Codepoint;
+import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+import de.egladil.web.unicode_tools.generated.DefaultTransliterableCharacterSetTable;
+import de.egladil.web.unicode_tools.generated.EuropeanWhitelistTable;
+import de.egladil.web.unicode_tools.transliteration.CharacterTransliterationProvider;
+import de.egladil.web.unicode_tools.transliteration.TransliterableUTF8CharacterSet;
+import de.egladil.web.unicode_tools.validation.ValidatableUTF8CharacterSet;
+
+/**
+ * MappedCharacterSetTest
+ */
+public class MappedCharacterSetTest {
+
+	private static final String TEXT = "Heike Winkelvoß, Mühlbach, C̀arl, ÉCOLE Ĉ ‰ 中 😀 A̋";
+
+	@Test
+	void should_MapServeSameTransliterationsAsCharacterSet() throws Exception {
+
+		// Arrange
+		TransliterableUTF8CharacterSet expected = TransliterableUTF8CharacterSet
+				.from(DefaultTransliterableCharacterSetTable.INSTANCE);
+		Path file = Files.createTempFile("unicode-tools", ".bin");
+
+		try {
+			BinaryCharacterSetWriter.write(DefaultTransliterableCharacterSetTable.INSTANCE, file);
+
+			// Act
+			MappedCharacterSet result = MappedCharacterSet.map(file);
+
+			// Assert
+			assertEquals("EGLADIL_UTF8_CHARSET", result.name());
+			assertEquals(expected.size(), result.size());
+			assertEquals(expected.transliterate(TEXT), result.transliterate(TEXT));
+			assertEquals(expected.transliterableCharacters(), result.transliterableCharacters());
+			assertEquals("MUE", result.transliterate("MÜ"));
+			assertEquals("C", result.printableTransliteratedCharacter("C̀"));
+			assertNull(result.printableTransliteratedCharacter("中"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void should_WrapValidateLikeCharacterSet() {
+
+		// Arrange
+		ValidatableUTF8CharacterSet expected = ValidatableUTF8CharacterSet
+				.from(DefaultTransliterableCharacterSetTable.INSTANCE);
+
+		// Act
+		MappedCharacterSet result = MappedCharacterSet
+				.wrap(ByteBuffer.wrap(BinaryCharacterSetWriter.toBytes(DefaultTransliterableCharacterSetTable.INSTANCE)));
+
+		// Assert
+		for (int codePoint = 0; codePoint < 0x30000; codePoint++) {
+			assertEquals(Integer.toHexString(codePoint), expected.isCodePointValid(codePoint),
+					result.isCodePointValid(codePoint));
+		}
+
+		for (int index = 0; index < TEXT.length(); index++) {
+			assertEquals("index " + index, expected.matchLength(TEXT, index), result.matchLength(TEXT, index));
+		}
+		assertEquals(expected.indexOfInvalidCharacter(TEXT, 0), result.indexOfInvalidCharacter(TEXT, 0));
+		assertTrue(result.isPrintableCharacterValid("C̀"));
+		assertFalse(result.isPrintableCharacterValid("C̀̀"));
+		assertTrue(result.isUTF8CodepointValid(new UTF8Codepoint("0043 0300")));
+		assertFalse(result.isUTF8CodepointValid(new UTF8Codepoint("4E2D")));
+	}
+
+	@Test
+	void should_ToBytesWriteOverlaysAndComposedSets() {
+
+		// Arrange
+		TransliterableUTF8CharacterSet characterSet = TransliterableUTF8CharacterSet
+				.fromCompiled(DefaultTransliterableCharacterSetTable.INSTANCE);
+		Map<String, String> overrides = new HashMap<>();
+		overrides.put("ß", "sz");
+		overrides.put("☃", "*");
+		TransliterableUTF8CharacterSet overlay = characterSet.withOverrides(overrides);
+		TransliterableUTF8CharacterSet composed = TransliterableUTF8CharacterSet.compose("COMPOSED",
+				Arrays.asList(overlay, characterSet));
+		String text = TEXT + " ☃";
+
+		for (TransliterableUTF8CharacterSet expected : Arrays.asList(overlay, composed)) {
+
+			// Act
+			MappedCharacterSet result = MappedCharacterSet
+					.wrap(ByteBuffer.wrap(BinaryCharacterSetWriter.toBytes(expected)));
+
+			// Assert
+			assertEquals(expected.name(), result.name());
+			assertEquals(expected.transliterableCharacters(), result.transliterableCharacters());
+			assertEquals(expected.transliterate(text), result.transliterate(text));
+		}
+	}
+
+	@Test
+	void should_ToBytesWriteValidatableSet() {
+
+		// Arrange
+		ValidatableUTF8CharacterSet expected = ValidatableUTF8CharacterSet
+				.fromCompiled(EuropeanWhitelistTable.INSTANCE);
+
+		// Act
+		MappedCharacterSet result = MappedCharacterSet
+				.wrap(ByteBuffer.wrap(BinaryCharacterSetWriter.toBytes(expected)));
+
+		// Assert
+		assertEquals(expected.name(), result.name());
+		assertEquals(expected.validCharacters().size(), result.size());
+
+		for (int index = 0; index < TEXT.length(); index++) {
+			assertEquals("index " + index, expected.matchLength(TEXT, index), result.matchLength(TEXT, index));
+		}
+		assertTrue(result.transliterableCharacters().isEmpty());
+		assertNull(result.printableTransliteratedCharacter("Ä"));
+	}
+
+	@Test
+	void should_ToBytesThrowException_when_ProviderCanNotListCharacters() {
+
+		// Arrange
+		CharacterTransliterationProvider provider = new CharacterTransliterationProvider() {
+
+			@Override
+			public String printableTransliteratedCharacter(String givenPrintableCharacter) {
+				return givenPrintableCharacter;
+			}
+
+			@Override
+			public String name() {
+				return "UNLISTED";
+			}
+		};
+
+		try {
+			BinaryCharacterSetWriter.toBytes(provider);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("UNLISTED can not list its transliterable characters", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_MapThrowException_when_FileShorterThanHeader() throws Exception {
+
+		Path file = Files.createTempFile("unicode-tools", ".bin");
+
+		try {
+			Files.write(file, new byte[] { 1, 2, 3 });
+			MappedCharacterSet.map(file);
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals(file + " is not a character set file: it has 3 bytes", e.getMessage());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void should_MapThrowException_when_FileTooLargeToMap() throws Exception {
+
+		Path file = Files.createTempFile("unicode-tools", ".bin");
+
+		try {
+			// a sparse file, only its last byte is written.
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				channel.write(ByteBuffer.wrap(new byte[] { 1 }), Integer.MAX_VALUE);
+			}
+
+			MappedCharacterSet.map(file);
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals(file + " is not a character set file: it has 2147483648 bytes", e.getMessage());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void should_WrapThrowException_when_MagicWrong() {
+
+		try {
+			MappedCharacterSet.wrap(ByteBuffer.allocate(64));
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals("buffer is not a character set file", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_WrapThrowException_when_Truncated() {
+
+		byte[] bytes = BinaryCharacterSetWriter.toBytes(DefaultTransliterableCharacterSetTable.INSTANCE);
+
+		try {
+			MappedCharacterSet.wrap(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 2)));
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals("buffer is truncated or has trailing bytes", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_WrapThrowException_when_Corrupt() {
+
+		byte[] bytes = BinaryCharacterSetWriter.toBytes(DefaultTransliterableCharacterSetTable.INSTANCE);
+		bytes[bytes.length - 1] ^= 1;
+
+		try {
+			MappedCharacterSet.wrap(ByteBuffer.wrap(bytes));
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals("buffer is corrupt: checksum mismatch", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_WrapThrowException_when_CountNegative() {
+
+		ByteBuffer bytes = bytes();
+		bytes.putInt(12, -1);
+
+		try {
+			MappedCharacterSet.wrap(bytes);
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals("buffer is corrupt: negative count in header", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_WrapThrowException_when_SizeOverflows() {
+
+		// 16 * 0x10000000 entries more overflow an int to the size of the file.
+		ByteBuffer bytes = bytes();
+		bytes.putInt(8, bytes.getInt(8) + 0x10000000);
+
+		try {
+			MappedCharacterSet.wrap(bytes);
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals("buffer is truncated or has trailing bytes", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_WrapThrowException_when_CodePointsOutOfPool() {
+
+		ByteBuffer bytes = bytes();
+		bytes.putInt(firstEntry(bytes), bytes.getInt(16));
+
+		try {
+			MappedCharacterSet.wrap(withChecksum(bytes));
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals("buffer is corrupt: code points of entry 0 are out of the pool", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_WrapThrowException_when_TransliterationOutOfPool() {
+
+		ByteBuffer bytes = bytes();
+		bytes.putInt(firstEntry(bytes) + 8, Integer.MAX_VALUE);
+
+		try {
+			MappedCharacterSet.wrap(withChecksum(bytes));
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals("buffer is corrupt: transliteration of entry 0 is out of the pool", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_WrapThrowException_when_MaxKeyLengthDoesNotMatchEntries() {
+
+		ByteBuffer bytes = bytes();
+		bytes.putShort(6, (short) 1);
+
+		try {
+			MappedCharacterSet.wrap(withChecksum(bytes));
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertEquals("buffer is corrupt: maxKeyLength 1 does not match the longest character 3", e.getMessage());
+		}
+	}
+
+	private static ByteBuffer bytes() {
+		return ByteBuffer.wrap(BinaryCharacterSetWriter.toBytes(DefaultTransliterableCharacterSetTable.INSTANCE));
+	}
+
+	private static int firstEntry(ByteBuffer bytes) {
+		return MappedCharacterSet.HEADER_SIZE + MappedCharacterSet.BMP_BITMAP_SIZE + 4 * bytes.getInt(12);
+	}
+
+	private static ByteBuffer withChecksum(ByteBuffer bytes) {
+
+		CRC32 crc = new CRC32();
+		crc.update(bytes.array(), MappedCharacterSet.HEADER_SIZE, bytes.capacity() - MappedCharacterSet.HEADER_SIZE);
+		return bytes.putInt(MappedCharacterSet.CRC_OFFSET, (int) crc.getValue());
+	}
+}
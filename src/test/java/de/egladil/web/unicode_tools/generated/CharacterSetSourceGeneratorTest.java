@@ -0,0 +1,130 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.generated;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.xml.CharacterSetStreamReader;
+import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
+
+/**
+ * CharacterSetSourceGeneratorTest
+ */
+public class CharacterSetSourceGeneratorTest {
+
+	@Test
+	void should_GenerateThrowException_when_XmlNull() {
+
+		try {
+			CharacterSetSourceGenerator.generate("a.b", "Table", "table.xml", null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("packageName, className and xml must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_GenerateSplitArraysIntoMethods() throws Exception {
+
+		try (InputStream in = getClass().getResourceAsStream("/veryShortCharset.xml")) {
+
+			// Act
+			String source = CharacterSetSourceGenerator.generate("a.b", "VeryShortTable", "veryShortCharset.xml", in);
+
+			// Assert
+			assertTrue(source.contains("\npackage a.b;\n"));
+			assertTrue(source.contains("import de.egladil.web.unicode_tools.generated.CompiledCharacterSet;"));
+			assertTrue(source.contains("public final class VeryShortTable extends CompiledCharacterSet {"));
+			assertTrue(source.contains("super(\"VERY_SHORT_CHARSET\", codePoints(), transliterations());"));
+			assertTrue(source.contains("\t\tresult[1] = new int[] { 0x0041, 0x030B };\n"));
+			assertTrue(source.contains("private static void transliterations0(String[] result) {"));
+		}
+	}
+
+	@Test
+	void should_LiteralEscapeNonASCIIAndControlChars() {
+
+		assertEquals("\"A\\u00C4\\\"\\\\\\012\"", CharacterSetSourceGenerator.literal("AÄ\"\\\n"));
+		assertEquals("null", CharacterSetSourceGenerator.literal(null));
+	}
+
+	@Test
+	void should_CheckedInClassesBeUpToDate() throws Exception {
+
+		assertUpToDate("defaultTransliterableCharacterSet.xml", "DefaultTransliterableCharacterSetTable");
+		assertUpToDate("europeanWhitelist.xml", "EuropeanWhitelistTable");
+		assertUpToDate("latinBasedCharacterSet.xml", "LatinBasedCharacterSetTable");
+	}
+
+	@Test
+	void should_CompiledSetHoldCharactersOfXml() throws Exception {
+
+		// Arrange
+		List<String> expected = new ArrayList<>();
+
+		try (InputStream in = getClass().getResourceAsStream("/europeanWhitelist.xml")) {
+			CharacterSetStreamReader.read(in,
+					character -> expected.add(character.getCodePoint() + ">" + character.getMapping()));
+		}
+
+		// Act
+		List<String> actual = new ArrayList<>();
+
+		for (MappableCharacter character : EuropeanWhitelistTable.INSTANCE.getItems()) {
+			actual.add(character.getCodePoint() + ">" + character.getMapping());
+		}
+
+		// Assert
+		assertEquals(expected, actual);
+		assertEquals("EGLADIL_UTF8_CHARSET", EuropeanWhitelistTable.INSTANCE.getName());
+		assertEquals(expected.size(), EuropeanWhitelistTable.INSTANCE.size());
+	}
+
+	private void assertUpToDate(String xml, String className) throws Exception {
+
+		try (InputStream in = getClass().getResourceAsStream("/" + xml)) {
+
+			String expected = CharacterSetSourceGenerator.generate(getClass().getPackage().getName(), className, xml,
+					in);
+			String checkedIn = new String(Files.readAllBytes(Paths.get("src/main/java",
+					getClass().getPackage().getName().split("\\.")).resolve(className + ".java")), StandardCharsets.UTF_8);
+
+			assertEquals(className + " is out of date, run mvn -P generate-character-sets process-classes and build again", expected,
+					checkedIn.replace("\r\n", "\n"));
+		}
+	}
+}
@@ -0,0 +1,106 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * BatchTransliterationTest
+ */
+public class BatchTransliterationTest {
+
+	private TransliterationTable createTable() {
+
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("ä", "AE");
+		transliterations.put("ß", "SS");
+		transliterations.put("C̀", "C");
+		return new TransliterationTable(transliterations);
+	}
+
+	@Test
+	void should_TransliterateAllThrowException_when_TextsNull() {
+
+		try {
+			new BatchTransliteration(createTable(), 10).transliterateAll(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("texts must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_TransliterateAllKeepOrderAndNulls() {
+
+		// Arrange
+		List<String> texts = new LinkedList<>(Arrays.asList("Straße", null, "Mäder", "Straße", "C̀arl"));
+
+		// Act
+		List<String> result = new BatchTransliteration(createTable(), 10).transliterateAll(texts);
+
+		// Assert
+		assertEquals(Arrays.asList("StraSSe", null, "MAEder", "StraSSe", "Carl"), result);
+		assertSame(result.get(0), result.get(3));
+	}
+
+	@Test
+	void should_TransliterateAllInParallelEqualSequentialResult() {
+
+		// Arrange
+		BatchTransliteration batch = new BatchTransliteration(createTable(), 16);
+		List<String> texts = new ArrayList<>();
+
+		for (int i = 0; i < 1000; i++) {
+			texts.add(i % 7 == 0 ? null : "Straße " + (i % 13) + " C̀");
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			// Act
+			List<String> result = batch.transliterateAll(texts, pool);
+
+			// Assert
+			assertEquals(batch.transliterateAll(texts), result);
+			assertNull(result.get(0));
+			assertEquals("StraSSe 1 C", result.get(1));
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CodePointBitSetTest
+ */
+public class CodePointBitSetTest {
+
+	@Test
+	void should_ConstructorThrowException_when_ArgumentNull() {
+
+		try {
+			new CodePointBitSet(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("codePoints must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_ContainOnlyGivenCodePoints() {
+
+		// Arrange
+		BitSet codePoints = new BitSet();
+		codePoints.set(0x41);
+		codePoints.set(0x1E9E);
+		codePoints.set(0xFFFF);
+		codePoints.set(0x1F600);
+
+		// Act
+		CodePointBitSet result = new CodePointBitSet(codePoints);
+
+		// Assert
+		assertEquals(4, result.size());
+		assertTrue(result.contains(0x41));
+		assertTrue(result.contains(0x1E9E));
+		assertTrue(result.contains(0xFFFF));
+		assertTrue(result.contains(0x1F600));
+		assertFalse(result.contains(0x42));
+		assertFalse(result.contains(0x1F601));
+		assertFalse(result.contains(-1));
+		assertFalse(result.contains(Character.MAX_CODE_POINT + 1));
+	}
+}
@@ -0,0 +1,105 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvo\u00DF
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CodePointTrieTest
+ */
+public class CodePointTrieTest {
+
+	@Test
+	void should_ConstructorThrowException_when_SequenceEmpty() {
+
+		try {
+			new CodePointTrie(Arrays.asList(new int[] { 0x43 }, new int[0]));
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("sequences must not contain empty sequences", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_LongestMatchPreferLongestSequence() {
+
+		// Arrange
+		CodePointTrie trie = new CodePointTrie(
+				Arrays.asList(new int[] { 0x43 }, new int[] { 0x43, 0x300 }, new int[] { 0x43, 0x300, 0x301 }));
+
+		// Act + Assert
+		assertEquals(CodePointTrie.match(2, 1), trie.longestMatch("XC\u0300Y", 1));
+		assertEquals(CodePointTrie.match(3, 2), trie.longestMatch("C\u0300\u0301", 0));
+		assertEquals(CodePointTrie.match(1, 0), trie.longestMatch("C\u0301", 0));
+		assertEquals(CodePointTrie.NO_MATCH, trie.longestMatch("XC", 0));
+		assertEquals(CodePointTrie.NO_MATCH, trie.longestMatch("\u0300", 0));
+		assertEquals(3, trie.maxLength());
+		assertEquals(3, trie.size());
+	}
+
+	@Test
+	void should_LongestMatchHandleSupplementaryCodePoints() {
+
+		// Arrange
+		List<int[]> sequences = new ArrayList<>();
+		sequences.add(new int[] { 0x1F600 });
+		sequences.add(new int[] { 0x1F600, 0x1F3FB });
+		CodePointTrie trie = new CodePointTrie(sequences);
+
+		// Act
+		long match = trie.longestMatch("a\uD83D\uDE00\uD83C\uDFFB", 1);
+
+		// Assert
+		assertEquals(4, CodePointTrie.matchLength(match));
+		assertEquals(1, CodePointTrie.matchValue(match));
+		assertEquals(CodePointTrie.NO_MATCH, trie.longestMatch("\uDE00", 0));
+	}
+
+	@Test
+	void should_GetFindExactSequencesOnly() {
+
+		// Arrange
+		CodePointTrie trie = new CodePointTrie(Arrays.asList(new int[] { 0x43, 0x300 }, new int[] { 0x44 }));
+
+		// Act + Assert
+		assertEquals(0, trie.get("C\u0300"));
+		assertEquals(1, trie.get("D"));
+		assertEquals(CodePointTrie.NO_VALUE, trie.get("C"));
+		assertEquals(CodePointTrie.NO_VALUE, trie.get("C\u0300\u0300"));
+		assertEquals(CodePointTrie.NO_VALUE, trie.get(""));
+		assertTrue(trie.hasChildren(trie.next(CodePointTrie.ROOT, 0x43)));
+		assertFalse(trie.hasChildren(trie.next(CodePointTrie.ROOT, 0x44)));
+	}
+}
@@ -0,0 +1,113 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ParallelTransliterationTest
+ */
+public class ParallelTransliterationTest {
+
+	private TransliterationTable createTable() {
+
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("a", "A");
+		transliterations.put("ä", "AE");
+		transliterations.put("ß", "SS");
+		transliterations.put("C̀", "C");
+		transliterations.put("C̀̀", "CC");
+		transliterations.put("😀", ":-)");
+		return new TransliterationTable(transliterations);
+	}
+
+	@Test
+	void should_ConstructorThrowException_when_ChunkSizeNotPositive() {
+
+		try {
+			new ParallelTransliteration(createTable(), 0);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("chunkSize must be positive", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_IsBoundaryRejectContinuations() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		String text = "C̀̀😀x";
+
+		// Act + Assert
+		assertTrue(table.isBoundary(text, 0));
+		assertFalse(table.isBoundary(text, 1));
+		assertFalse(table.isBoundary(text, 2));
+		assertTrue(table.isBoundary(text, 3));
+		assertFalse(table.isBoundary(text, 4));
+		assertTrue(table.isBoundary(text, 5));
+		assertTrue(table.isBoundary(text, 6));
+	}
+
+	@Test
+	void should_TransliterateEqualSequentialResult() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		String[] parts = { "a", "ä", "ß", "C", "̀", "😀", "x", " " };
+		Random random = new Random(42);
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < 20000; i++) {
+			sb.append(parts[random.nextInt(parts.length)]);
+		}
+		String text = sb.toString();
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			for (int chunkSize : new int[] { 1, 7, 100, 1000 }) {
+
+				// Act
+				String result = new ParallelTransliteration(table, chunkSize).transliterate(text, pool);
+
+				// Assert
+				assertEquals("chunkSize " + chunkSize, table.transliterate(text), result);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -27,9 +27,20 @@ package de.egladil.web.unicode_tools.internal;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import de.egladil.web.unicode_tools.transliteration.CharacterTransliterationProvider;
 import de.egladil.web.unicode_tools.transliteration.TransliterableUTF8CharacterSet;
 
 /**
@@ -45,5 +56,127 @@ public class TransliterableUTF8CharacterSetFactoryTest {
 		assertNotNull(result);
 
 		assertEquals(725, result.size());
+		assertEquals("HEIKE WINKELVOSS, MUEHLBACH, CARL", result.transliterate("Heike Winkelvoß, Mühlbach, C\u0300arl"));
+	}
+
+	@Test
+	void should_TransliterateBytesLikeStrings() {
+
+		// Arrange
+		TransliterableUTF8CharacterSet characterSet = new TransliterableUTF8CharacterSetFactory().createCharacterSet();
+		String text = "Heike Winkelvoß, Mühlbach, C\u0300arl, ÉCOLE Ĉ ‰ 中";
+		ByteBuffer in = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+		ByteBuffer out = ByteBuffer.allocate(256);
+
+		// Act
+		CoderResult result = characterSet.transliterate(in, out, true);
+
+		// Assert
+		assertEquals(CoderResult.UNDERFLOW, result);
+		assertEquals(characterSet.transliterate(text), new String(out.array(), 0, out.position(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void should_TransliterateParallelLikeSequential() {
+
+		// Arrange
+		TransliterableUTF8CharacterSet characterSet = new TransliterableUTF8CharacterSetFactory().createCharacterSet();
+		StringBuilder sb = new StringBuilder();
+
+		while (sb.length() < 3 * ParallelTransliteration.DEFAULT_CHUNK_SIZE) {
+			sb.append("Heike Winkelvoß, Mühlbach, C\u0300arl\n");
+		}
+		String text = sb.toString();
+
+		// Act + Assert
+		assertEquals(characterSet.transliterate(text), characterSet.transliterateParallel(text));
+	}
+
+	@Test
+	void should_TransliterateBatchesAndStreams() {
+
+		// Arrange
+		TransliterableUTF8CharacterSet characterSet = new TransliterableUTF8CharacterSetFactory().createCharacterSet();
+		List<String> names = Arrays.asList("Winkelvoß", "Mühlbach", "Winkelvoß");
+		List<String> expected = Arrays.asList("WINKELVOSS", "MUEHLBACH", "WINKELVOSS");
+
+		// Act + Assert
+		assertEquals(expected, characterSet.transliterateAll(names));
+		assertEquals(expected, characterSet.transliterateAllParallel(names));
+		assertEquals(expected, characterSet.transliterateAll(names.parallelStream()).collect(Collectors.toList()));
+		assertEquals("MUEHLBACH", characterSet.asUnaryOperator().apply("Mühlbach"));
+	}
+
+	@Test
+	void should_ComposeEqualChainedTransliteration() {
+
+		// Arrange
+		TransliterableUTF8CharacterSet characterSet = new TransliterableUTF8CharacterSetFactory().createCharacterSet();
+		CharacterTransliterationProvider leet = new CharacterTransliterationProvider() {
+
+			@Override
+			public String printableTransliteratedCharacter(String givenPrintableCharacter) {
+				return "E".equals(givenPrintableCharacter) ? "3" : null;
+			}
+
+			@Override
+			public Set<String> transliterableCharacters() {
+				return Collections.singleton("E");
+			}
+
+			@Override
+			public String name() {
+				return "leet";
+			}
+		};
+		String text = "Käse, Heike Winkelvoß, C\u0300arl";
+
+		// Act
+		TransliterableUTF8CharacterSet composed = TransliterableUTF8CharacterSet.compose("composed",
+				Arrays.asList(characterSet, leet));
+
+		// Assert
+		assertEquals("KA3S3, H3IK3 WINK3LVOSS, CARL", composed.transliterate(text));
+		assertEquals(leet.transliterate(characterSet.transliterate(text)), composed.transliterate(text));
+		assertEquals("composed", composed.name());
+		assertEquals(characterSet.transliterableCharacters(), composed.transliterableCharacters());
+	}
+
+	@Test
+	void should_ComposeThrowException_when_ProviderCanNotListCharacters() {
+
+		// Arrange
+		CharacterTransliterationProvider provider = new CharacterTransliterationProvider() {
+
+			@Override
+			public String printableTransliteratedCharacter(String givenPrintableCharacter) {
+				return null;
+			}
+
+			@Override
+			public String name() {
+				return "Horst";
+			}
+		};
+
+		// Act
+		try {
+			TransliterableUTF8CharacterSet.compose("composed", Collections.singletonList(provider));
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Horst can not list its transliterable characters", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_CompareAndHashTransliterated() {
+
+		// Arrange
+		TransliterableUTF8CharacterSet characterSet = new TransliterableUTF8CharacterSetFactory().createCharacterSet();
+
+		// Act + Assert
+		assertEquals(0, characterSet.transliteratedComparator().compare("Winkelvoß", "WINKELVOSS"));
+		assertEquals(true, characterSet.equalsTransliterated("Mühlbach", "muehlbach"));
+		assertEquals("MUEHLBACH".hashCode(), characterSet.hashTransliterated("Mühlbach"));
 	}
 }
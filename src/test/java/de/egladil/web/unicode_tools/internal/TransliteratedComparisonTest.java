@@ -0,0 +1,143 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * TransliteratedComparisonTest
+ */
+public class TransliteratedComparisonTest {
+
+	private TransliterationTable createTable() {
+
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("A", "A");
+		transliterations.put("a", "A");
+		transliterations.put("ä", "AE");
+		transliterations.put("ß", "SS");
+		transliterations.put("C̀", "C");
+		transliterations.put("𝐀", "A");
+		return new TransliterationTable(transliterations);
+	}
+
+	@Test
+	void should_CursorWalkThroughTransliteration() {
+
+		// Arrange
+		TransliterationCursor cursor = new TransliterationCursor(createTable()).reset("äC̀😀");
+		StringBuilder result = new StringBuilder();
+		int c;
+
+		// Act
+		while ((c = cursor.next()) != TransliterationCursor.END) {
+			result.append((char) c);
+		}
+
+		// Assert
+		assertEquals("AEC😀", result.toString());
+	}
+
+	@Test
+	void should_CompareWithOwnTable_when_ComparisonsShareThread() {
+
+		// Arrange
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("ä", "A");
+		TransliteratedComparison first = new TransliteratedComparison(createTable());
+		TransliteratedComparison second = new TransliteratedComparison(new TransliterationTable(transliterations));
+
+		// Act + Assert
+		assertEquals(0, first.compare("ä", "AE"));
+		assertEquals(0, second.compare("ä", "A"));
+		assertEquals(0, first.compare("ä", "AE"));
+		assertEquals("AE".hashCode(), first.hashCode("ä"));
+		assertEquals("A".hashCode(), second.hashCode("ä"));
+	}
+
+	@Test
+	void should_CompareLikeTransliteratedStrings() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		TransliteratedComparison comparison = new TransliteratedComparison(table);
+		String[] parts = { "a", "A", "ä", "AE", "ß", "S", "C", "̀", "𝐀", "😀", "" };
+		Random random = new Random(4711);
+
+		for (int i = 0; i < 2000; i++) {
+
+			String a = randomText(random, parts);
+			String b = randomText(random, parts);
+			String transliteratedA = table.transliterate(a);
+			String transliteratedB = table.transliterate(b);
+
+			// Act + Assert
+			assertEquals(a + " <> " + b, Integer.signum(transliteratedA.compareTo(transliteratedB)),
+					Integer.signum(comparison.compare(a, b)));
+			assertEquals(transliteratedA.equals(transliteratedB), comparison.equals(a, b));
+			assertEquals(transliteratedA.hashCode(), comparison.hashCode(a));
+		}
+	}
+
+	@Test
+	void should_CompareHandleNullAndPrefixes() {
+
+		// Arrange
+		TransliteratedComparison comparison = new TransliteratedComparison(createTable());
+		TreeMap<CharSequence, String> map = new TreeMap<>(comparison);
+		map.put("Mäder", "first");
+		map.put("MAEder", "second");
+
+		// Act + Assert
+		assertEquals(1, map.size());
+		assertEquals("second", map.get("Mäder"));
+		assertTrue(comparison.compare("A", "ä") < 0);
+		assertTrue(comparison.compare(null, "A") < 0);
+		assertTrue(comparison.equals(null, null));
+		assertFalse(comparison.equals(null, ""));
+		assertEquals(0, comparison.hashCode(null));
+	}
+
+	private static String randomText(Random random, String[] parts) {
+
+		StringBuilder sb = new StringBuilder();
+		int length = random.nextInt(5);
+
+		for (int i = 0; i < length; i++) {
+			sb.append(parts[random.nextInt(parts.length)]);
+		}
+		return sb.toString();
+	}
+}
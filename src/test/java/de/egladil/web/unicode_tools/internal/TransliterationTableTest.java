@@ -0,0 +1,339 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * TransliterationTableTest
+ */
+public class TransliterationTableTest {
+
+	private TransliterationTable createTable() {
+
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("A", "A");
+		transliterations.put("a", "A");
+		transliterations.put("ä", "AE");
+		transliterations.put("ẞ", "SS");
+		transliterations.put("ß", "SS");
+		transliterations.put("C̀", "C");
+		transliterations.put("😀", ":-)");
+		return new TransliterationTable(transliterations);
+	}
+
+	@Test
+	void should_ConstructorThrowException_when_ValueNull() {
+
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("A", null);
+
+		try {
+			new TransliterationTable(transliterations);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("transliterations must not contain empty keys or null values", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_GetFindSingleCharsAndSequences() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+
+		// Act + Assert
+		assertEquals("A", table.get("a"));
+		assertEquals("SS", table.get("ẞ"));
+		assertEquals("C", table.get("C̀"));
+		assertEquals(":-)", table.get("😀"));
+		assertNull(table.get("C"));
+		assertNull(table.get("b"));
+		assertNull(table.get(""));
+		assertEquals(7, table.size());
+		assertEquals(5, table.outputCount());
+		assertEquals(4, table.maxKeyLength());
+	}
+
+	@Test
+	void should_OutputsBeSharedInPool() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		int sharp = table.entry("ß");
+		int capitalSharp = table.entry("ẞ");
+
+		// Act + Assert
+		assertEquals(TransliterationTable.outputId(sharp), TransliterationTable.outputId(capitalSharp));
+		assertEquals(2, table.outputLength(TransliterationTable.outputId(sharp)));
+		assertEquals('S', table.outputChar(TransliterationTable.outputId(sharp), 1));
+		assertTrue(TransliterationTable.isUnchanged(table.entry("A")));
+		assertFalse(TransliterationTable.isUnchanged(table.entry("a")));
+	}
+
+	@Test
+	void should_MatchPreferSequences() {
+
+		// Arrange
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("C", "C");
+		transliterations.put("C̀", "(");
+		TransliterationTable table = new TransliterationTable(transliterations);
+
+		// Act
+		long match = table.match("XC̀", 1);
+
+		// Assert
+		assertEquals(2, CodePointTrie.matchLength(match));
+		assertEquals("(", table.output(TransliterationTable.outputId(CodePointTrie.matchValue(match))));
+		assertEquals(1, CodePointTrie.matchLength(table.match("XĆ", 1)));
+		assertEquals(CodePointTrie.NO_MATCH, table.match("XC", 0));
+	}
+
+	@Test
+	void should_TransliterateWholeText() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+
+		// Act + Assert
+		assertEquals("AAE-SS:-)C", table.transliterate("aä-ß😀C̀"));
+	}
+
+	@Test
+	void should_TransliterateBytes() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		ByteBuffer in = ByteBuffer.wrap("XaA-ä-ß😀C̀CD".getBytes(StandardCharsets.UTF_8));
+		ByteBuffer out = ByteBuffer.allocateDirect(64);
+
+		// Act
+		CoderResult result = table.transliterate(in, out, true);
+
+		// Assert
+		assertEquals(CoderResult.UNDERFLOW, result);
+		assertFalse(in.hasRemaining());
+		assertEquals("XAA-AE-SS:-)CCD", utf8(out));
+	}
+
+	@Test
+	void should_TransliterateLongOutputs() {
+
+		// Arrange
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 300; i++) {
+			sb.append("Ä");
+		}
+		String longOutput = sb.toString();
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("a", "A");
+		transliterations.put("ä", longOutput);
+		TransliterationTable table = new TransliterationTable(transliterations);
+		ByteBuffer in = ByteBuffer.wrap("aäa".getBytes(StandardCharsets.UTF_8));
+		ByteBuffer out = ByteBuffer.allocate(1024);
+
+		// Act
+		CoderResult result = table.transliterate(in, out, true);
+
+		// Assert
+		assertEquals(CoderResult.UNDERFLOW, result);
+		assertEquals(300, table.outputLength(TransliterationTable.outputId(table.entry("ä"))));
+		assertEquals("A" + longOutput + "A", table.transliterate("aäa"));
+		assertEquals("A" + longOutput + "A", utf8(out));
+	}
+
+	@Test
+	void should_TransliterateBytesResume_when_OutFull() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		ByteBuffer in = ByteBuffer.wrap("ABCDEFä😀C̀".getBytes(StandardCharsets.UTF_8));
+		ByteBuffer out = ByteBuffer.allocate(3);
+		StringBuilder result = new StringBuilder();
+
+		// Act
+		while (table.transliterate(in, out, true).isOverflow()) {
+			result.append(utf8(out));
+			out.clear();
+		}
+		result.append(utf8(out));
+
+		// Assert
+		assertEquals("ABCDEFAE:-)C", result.toString());
+	}
+
+	@Test
+	void should_TransliterateBytesKeepTail_when_NotEndOfInput() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		byte[] bytes = "aaaaC̀".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer in = ByteBuffer.wrap(bytes, 0, 5);
+		ByteBuffer out = ByteBuffer.allocate(64);
+
+		// Act
+		CoderResult first = table.transliterate(in, out, false);
+		int position = in.position();
+		ByteBuffer rest = ByteBuffer.wrap(bytes, position, bytes.length - position);
+		CoderResult second = table.transliterate(rest, out, true);
+
+		// Assert
+		assertEquals(CoderResult.UNDERFLOW, first);
+		assertEquals(CoderResult.UNDERFLOW, second);
+		assertTrue(position < 5);
+		assertEquals("AAAAC", utf8(out));
+	}
+
+	@Test
+	void should_TransliterateBytesStop_when_Malformed() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		ByteBuffer in = ByteBuffer.wrap(new byte[] { 'a', (byte) 0xC3, 'a' });
+		ByteBuffer out = ByteBuffer.allocate(64);
+
+		// Act
+		CoderResult result = table.transliterate(in, out, true);
+
+		// Assert
+		assertTrue(result.isMalformed());
+		assertEquals(1, result.length());
+		assertEquals(1, in.position());
+		assertEquals("A", utf8(out));
+	}
+
+	@Test
+	void should_TransliterateBytesMatchSequences_when_TheyContinueWithASCII() {
+
+		// Arrange
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("Ch", "K");
+		TransliterationTable table = new TransliterationTable(transliterations);
+		ByteBuffer in = ByteBuffer.wrap("ChCa".getBytes(StandardCharsets.UTF_8));
+		ByteBuffer out = ByteBuffer.allocate(64);
+
+		// Act
+		table.transliterate(in, out, true);
+
+		// Assert
+		assertEquals("KCa", utf8(out));
+	}
+
+	@Test
+	void should_WithOverridesReplaceAndAddTransliterations() {
+
+		// Arrange
+		TransliterationTable table = createTable();
+		Map<String, String> overrides = new HashMap<>();
+		overrides.put("ä", "a:");
+		overrides.put("C̀", "K");
+		overrides.put("x", "Y");
+		overrides.put("ab", "Q");
+
+		// Act
+		TransliterationTable overlay = table.withOverrides(overrides);
+
+		// Assert
+		assertEquals("a:KYQAASS", overlay.transliterate("äC̀xabaAß"));
+		assertEquals("AECxAbA", table.transliterate("äC̀xaba"));
+		assertEquals("a:", overlay.get("ä"));
+		assertEquals("SS", overlay.get("ẞ"));
+		assertEquals(7, table.size());
+		assertEquals(9, overlay.size());
+		assertTrue(table.isBoundary("ab", 1));
+		assertFalse(overlay.isBoundary("ab", 1));
+	}
+
+	@Test
+	void should_WithOverridesMergeOverrides_when_TableIsOverlay() {
+
+		// Arrange
+		Map<String, String> first = new HashMap<>();
+		first.put("ä", "a:");
+		first.put("x", "Y");
+		Map<String, String> second = new HashMap<>();
+		second.put("x", "Z");
+		TransliterationTable overlay = createTable().withOverrides(first);
+
+		// Act
+		TransliterationTable result = overlay.withOverrides(second);
+
+		// Assert
+		assertEquals("a:Za:Y", result.transliterate("äx") + overlay.transliterate("äx"));
+		assertEquals(8, result.size());
+	}
+
+	@Test
+	void should_WithOverridesTransliterateBytes() {
+
+		// Arrange
+		Map<String, String> overrides = new HashMap<>();
+		overrides.put("ä", "a:");
+		overrides.put("ab", "Q");
+		TransliterationTable overlay = createTable().withOverrides(overrides);
+		ByteBuffer in = ByteBuffer.wrap("xäabß".getBytes(StandardCharsets.UTF_8));
+		ByteBuffer out = ByteBuffer.allocate(32);
+
+		// Act
+		CoderResult result = overlay.transliterate(in, out, true);
+
+		// Assert
+		assertEquals(CoderResult.UNDERFLOW, result);
+		assertEquals("xa:QSS", utf8(out));
+	}
+
+	@Test
+	void should_WithOverridesThrowException_when_MapNull() {
+
+		try {
+			createTable().withOverrides(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("transliterations must not be null", e.getMessage());
+		}
+	}
+
+	private static String utf8(ByteBuffer out) {
+
+		out.flip();
+		byte[] bytes = new byte[out.remaining()];
+		out.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,70 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * UTF8DecoderTest
+ */
+public class UTF8DecoderTest {
+
+	@Test
+	void should_DecodeAllEncodingLengths() {
+
+		// Arrange
+		String text = "Aßẞ😀";
+		ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+		int limit = buffer.limit();
+
+		// Act + Assert
+		assertEquals('A', UTF8Decoder.decode(buffer, 0, limit));
+		assertEquals('ß', UTF8Decoder.decode(buffer, 1, limit));
+		assertEquals(0x1E9E, UTF8Decoder.decode(buffer, 3, limit));
+		assertEquals(0x1F600, UTF8Decoder.decode(buffer, 6, limit));
+		assertEquals(4, UTF8Decoder.encodedLength(0x1F600));
+		assertEquals(3, UTF8Decoder.encodedLength(0x1E9E));
+		assertEquals(2, UTF8Decoder.encodedLength('ß'));
+		assertEquals(1, UTF8Decoder.encodedLength('A'));
+	}
+
+	@Test
+	void should_DecodeReturnMalformed_when_BytesNotWellFormed() {
+
+		// overlong 'A', continuation byte first, encoded surrogate, truncated ß
+		byte[][] malformed = { { (byte) 0xC1, (byte) 0x81 }, { (byte) 0x81 },
+				{ (byte) 0xED, (byte) 0xA0, (byte) 0x80 }, { (byte) 0xC3 } };
+
+		for (byte[] bytes : malformed) {
+			assertEquals(UTF8Decoder.MALFORMED, UTF8Decoder.decode(ByteBuffer.wrap(bytes), 0, bytes.length));
+		}
+	}
+}
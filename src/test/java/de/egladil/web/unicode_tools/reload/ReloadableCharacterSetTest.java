@@ -0,0 +1,210 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.reload;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+import de.egladil.web.unicode_tools.transliteration.TransliterableUTF8CharacterSet;
+import de.egladil.web.unicode_tools.validation.ValidatableUTF8CharacterSet;
+
+/**
+ * ReloadableCharacterSetTest
+ */
+public class ReloadableCharacterSetTest {
+
+	private Path directory;
+
+	private Path file;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("unicode-tools-reload");
+		file = directory.resolve("whitelist.xml");
+		writeXml("0043");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+
+		if (!Files.exists(directory)) {
+			return;
+		}
+
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Test
+	void should_ConstructorThrowException_when_FileNotCompilable() throws IOException {
+
+		// Arrange
+		Files.write(file, "<characterSet>".getBytes(StandardCharsets.UTF_8));
+
+		try {
+			ReloadableCharacterSet.transliterable(file);
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			assertTrue(e.getMessage().startsWith("could not compile "));
+		}
+	}
+
+	@Test
+	void should_ReloadPublishNewSet() throws IOException {
+
+		// Arrange
+		ReloadableCharacterSet<TransliterableUTF8CharacterSet> characterSet = ReloadableCharacterSet
+				.transliterable(file);
+		TransliterableUTF8CharacterSet first = characterSet.get();
+		writeXml("0044");
+
+		// Act
+		boolean result = characterSet.reload();
+
+		// Assert
+		assertTrue(result);
+		assertEquals("AC", first.transliterate("AC̀"));
+		assertEquals("AD", characterSet.get().transliterate("AC̀"));
+		assertEquals(1, characterSet.reloadCount());
+		assertTrue(characterSet.lastCompileNanos() > 0);
+		assertTrue(characterSet.totalCompileNanos() >= characterSet.lastCompileNanos());
+	}
+
+	@Test
+	void should_ReloadKeepPreviousSet_when_FileNotCompilable() throws IOException {
+
+		// Arrange
+		ReloadableCharacterSet<ValidatableUTF8CharacterSet> characterSet = ReloadableCharacterSet.validatable(file);
+		ValidatableUTF8CharacterSet first = characterSet.get();
+		Files.write(file, "<characterSet><character>".getBytes(StandardCharsets.UTF_8));
+
+		// Act
+		boolean result = characterSet.reload();
+
+		// Assert
+		assertFalse(result);
+		assertSame(first, characterSet.get());
+		assertEquals(0, characterSet.reloadCount());
+		assertEquals(1, characterSet.failedReloadCount());
+	}
+
+	@Test
+	void should_ReloadKeepPreviousSet_when_CompilerThrowsRuntimeException() {
+
+		// Arrange
+		AtomicInteger compilations = new AtomicInteger();
+		ReloadableCharacterSet<ValidatableUTF8CharacterSet> characterSet = new ReloadableCharacterSet<>(file, in -> {
+
+			if (compilations.incrementAndGet() > 1) {
+				throw new IllegalStateException("compiler is broken");
+			}
+			return ValidatableUTF8CharacterSet.read(in);
+		});
+		ValidatableUTF8CharacterSet first = characterSet.get();
+
+		// Act
+		boolean result = characterSet.reload();
+
+		// Assert
+		assertFalse(result);
+		assertSame(first, characterSet.get());
+		assertEquals(0, characterSet.reloadCount());
+		assertEquals(1, characterSet.failedReloadCount());
+	}
+
+	@Test
+	void should_WatchReload_when_FileChanged() throws Exception {
+
+		// Arrange
+		try (ReloadableCharacterSet<TransliterableUTF8CharacterSet> characterSet = ReloadableCharacterSet
+				.transliterable(file)) {
+
+			characterSet.watch();
+
+			// Act
+			writeXml("0044");
+
+			// Assert
+			long deadline = System.currentTimeMillis() + 20000;
+
+			while (characterSet.reloadCount() == 0 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(20);
+			}
+			assertEquals("AD", characterSet.get().transliterate("AC̀"));
+		}
+	}
+
+	@Test
+	void should_WatchStop_when_DirectoryDeleted() throws Exception {
+
+		// Arrange
+		try (ReloadableCharacterSet<TransliterableUTF8CharacterSet> characterSet = ReloadableCharacterSet
+				.transliterable(file)) {
+
+			characterSet.watch();
+			TransliterableUTF8CharacterSet first = characterSet.get();
+
+			// Act
+			Files.delete(file);
+			Files.delete(directory);
+
+			// Assert
+			long deadline = System.currentTimeMillis() + 20000;
+
+			while (characterSet.isWatching() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(20);
+			}
+			assertFalse(characterSet.isWatching());
+			assertSame(first, characterSet.get());
+		}
+	}
+
+	private void writeXml(String mapping) throws IOException {
+
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><characterSet><name>RELOADED</name>"
+				+ "<character><codepoint>0041</codepoint><mapping>0041</mapping></character>"
+				+ "<character><codepoint>0043 0300</codepoint><mapping>" + mapping + "</mapping></character>"
+				+ "</characterSet>";
+		Files.write(file, xml.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,170 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CachingTransliterationProviderTest
+ */
+public class CachingTransliterationProviderTest {
+
+	private final AtomicInteger delegateCalls = new AtomicInteger();
+
+	private final CharacterTransliterationProvider delegate = new CharacterTransliterationProvider() {
+
+		@Override
+		public String printableTransliteratedCharacter(String givenPrintableCharacter) {
+			return "ß".equals(givenPrintableCharacter) ? "SS" : null;
+		}
+
+		@Override
+		public String transliterate(CharSequence text) {
+			delegateCalls.incrementAndGet();
+			return CharacterTransliterationProvider.super.transliterate(text);
+		}
+
+		@Override
+		public String name() {
+			return "Horst";
+		}
+	};
+
+	@Test
+	void should_ConstructorThrowException_when_MaximumSizeNotPositive() {
+
+		try {
+			new CachingTransliterationProvider(delegate, 0);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("maximumSize must be positive", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_ConstructorThrowException_when_MaxCachedLengthNegative() {
+
+		try {
+			new CachingTransliterationProvider(delegate, 10, -1);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("maxCachedLength must not be negative", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_TransliterateUseWholeMaximumSize_when_NotDivisibleBySegments() {
+
+		// Arrange
+		CachingTransliterationProvider provider = new CachingTransliterationProvider(delegate, 20);
+
+		// Act
+		for (int i = 0; i < 1000; i++) {
+			provider.transliterate("text " + i);
+		}
+
+		// Assert
+		assertEquals(20, provider.size());
+	}
+
+	@Test
+	void should_TransliterateSkipDelegate_when_TextCached() {
+
+		// Arrange
+		CachingTransliterationProvider provider = new CachingTransliterationProvider(delegate, 100);
+
+		// Act
+		String first = provider.transliterate("Straße");
+		String second = provider.transliterate(new StringBuilder("Straße"));
+
+		// Assert
+		assertEquals("StraSSe", first);
+		assertEquals("StraSSe", second);
+		assertEquals(1, delegateCalls.get());
+		assertEquals(1, provider.hitCount());
+		assertEquals(1, provider.missCount());
+		assertEquals(1, provider.size());
+		assertEquals("Horst", provider.name());
+		assertNull(provider.transliterate(null));
+	}
+
+	@Test
+	void should_TransliterateEvictLeastRecentlyUsed_when_Full() {
+
+		// Arrange
+		CachingTransliterationProvider provider = new CachingTransliterationProvider(delegate, 1);
+		provider.transliterate("a");
+		provider.transliterate("b");
+
+		// Act
+		provider.transliterate("b");
+		provider.transliterate("a");
+
+		// Assert
+		assertEquals(3, delegateCalls.get());
+		assertEquals(2, provider.evictionCount());
+		assertEquals(1, provider.size());
+	}
+
+	@Test
+	void should_TransliterateNotCache_when_TextTooLong() {
+
+		// Arrange
+		CachingTransliterationProvider provider = new CachingTransliterationProvider(delegate, 100, 3);
+
+		// Act
+		provider.transliterate("Straße");
+		provider.transliterate("Straße");
+
+		// Assert
+		assertEquals(2, delegateCalls.get());
+		assertEquals(0, provider.missCount());
+		assertEquals(0, provider.size());
+	}
+
+	@Test
+	void should_TransliterateConcurrently() {
+
+		// Arrange
+		CachingTransliterationProvider provider = new CachingTransliterationProvider(delegate, 64);
+
+		// Act
+		IntStream.range(0, 10000).parallel()
+				.forEach(i -> assertEquals("SS" + (i % 100), provider.transliterate("ß" + (i % 100))));
+
+		// Assert
+		assertEquals(10000, provider.hitCount() + provider.missCount());
+		assertTrue(provider.size() <= 64);
+	}
+}
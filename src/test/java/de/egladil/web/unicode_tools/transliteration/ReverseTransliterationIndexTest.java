@@ -0,0 +1,104 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.internal.TransliterableUTF8CharacterSetFactory;
+
+/**
+ * ReverseTransliterationIndexTest
+ */
+public class ReverseTransliterationIndexTest {
+
+	private static final TransliterableUTF8CharacterSet CHARACTER_SET = new TransliterableUTF8CharacterSetFactory()
+			.createCharacterSet();
+
+	private static final ReverseTransliterationIndex INDEX = new ReverseTransliterationIndex(CHARACTER_SET);
+
+	@Test
+	void should_ConstructorThrowException_when_ProviderNull() {
+
+		try {
+			new ReverseTransliterationIndex(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("provider must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_OriginalsContainAllCharactersTransliteratedToC() {
+
+		// Act
+		List<String> result = INDEX.originals("C");
+
+		// Assert
+		assertTrue(result.contains("c"));
+		assertTrue(result.contains("Ç"));
+		assertTrue(result.contains("C̀"));
+		assertFalse(result.contains("C"));
+		assertTrue(INDEX.originals("nothing").isEmpty());
+	}
+
+	@Test
+	void should_ToRegexMatchAllSpellings() {
+
+		// Act
+		Pattern pattern = Pattern.compile(INDEX.toRegex("MUELLER C."));
+
+		// Assert
+		assertTrue(pattern.matcher("MUELLER C.").matches());
+		assertTrue(pattern.matcher("Müller Ç.").matches());
+		assertTrue(pattern.matcher("mueller C̀.").matches());
+		assertFalse(pattern.matcher("Müller Çx").matches());
+		assertFalse(pattern.matcher("Miller C.").matches());
+
+		for (String variant : INDEX.variants("MUELLER C.", 50)) {
+			assertEquals(variant, "MUELLER C.", CHARACTER_SET.transliterate(variant));
+		}
+	}
+
+	@Test
+	void should_VariantsBeBoundedAndStartWithQuery() {
+
+		// Act
+		List<String> result = INDEX.variants("SS", 5);
+
+		// Assert
+		assertEquals(5, result.size());
+		assertEquals("SS", result.get(0));
+		assertTrue(INDEX.variants("SS", 1000).contains("ß"));
+	}
+}
@@ -0,0 +1,110 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.internal.TransliterableUTF8CharacterSetFactory;
+
+/**
+ * SearchKeyBuilderTest
+ */
+public class SearchKeyBuilderTest {
+
+	private static final TransliterableUTF8CharacterSet CHARACTER_SET = new TransliterableUTF8CharacterSetFactory()
+			.createCharacterSet();
+
+	@Test
+	void should_ConstructorThrowException_when_CharacterSetNull() {
+
+		try {
+			new SearchKeyBuilder(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("characterSet must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_SearchKeyTransliterateLowerCaseAndCollapseWhitespace() {
+
+		// Arrange
+		SearchKeyBuilder builder = new SearchKeyBuilder(CHARACTER_SET);
+
+		// Act + Assert
+		assertEquals("heike winkelvoss, muehlbach, carl",
+				builder.searchKey(" Heike \t Winkelvoß,\n Mühlbach,  C̀arl  "));
+		assertEquals("", builder.searchKey(" \t "));
+		assertNull(builder.searchKey(null));
+	}
+
+	@Test
+	void should_SearchKeyStripPunctuation_when_Configured() {
+
+		// Arrange
+		SearchKeyBuilder builder = new SearchKeyBuilder(CHARACTER_SET, true);
+
+		// Act + Assert
+		assertEquals("heike winkelvoss muellerluedenscheidt", builder.searchKey("Heike Winkelvoß, Müller-Lüdenscheidt!"));
+		assertEquals("oneil", builder.searchKey("'O'Neil'"));
+	}
+
+	@Test
+	void should_SearchKeyBytesBeASCII_when_AllCharactersTransliterated() {
+
+		// Arrange
+		SearchKeyBuilder builder = new SearchKeyBuilder(CHARACTER_SET, true);
+
+		// Act
+		byte[] result = builder.searchKeyBytes("Mühlbach, C̀arl");
+
+		// Assert
+		assertArrayEquals("muehlbach carl".getBytes(StandardCharsets.US_ASCII), result);
+		assertNull(builder.searchKeyBytes(null));
+	}
+
+	@Test
+	void should_SearchKeyBytesEncodeUTF8_when_CharactersNotTransliterated() {
+
+		// Arrange
+		SearchKeyBuilder builder = new SearchKeyBuilder(CHARACTER_SET);
+		String text = "Σ 中 😀";
+
+		// Act
+		byte[] result = builder.searchKeyBytes(text);
+
+		// Assert
+		assertEquals(builder.searchKey(text), new String(result, StandardCharsets.UTF_8));
+		assertEquals("σ 中 😀", builder.searchKey(text));
+	}
+}
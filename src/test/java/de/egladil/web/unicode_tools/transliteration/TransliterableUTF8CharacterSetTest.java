@@ -26,14 +26,19 @@
 package de.egladil.web.unicode_tools.transliteration;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
@@ -41,6 +46,7 @@ import javax.xml.bind.Unmarshaller;
 import org.junit.jupiter.api.Test;
 
 import de.egladil.web.unicode_tools.UTF8SubsetSetName;
+import de.egladil.web.unicode_tools.generated.DefaultTransliterableCharacterSetTable;
 import de.egladil.web.unicode_tools.validation.JAXBContextProvider;
 import de.egladil.web.unicode_tools.xml.DefaultCharacter;
 import de.egladil.web.unicode_tools.xml.DefaultCharacterSet;
@@ -252,6 +258,177 @@ public class TransliterableUTF8CharacterSetTest {
 		}
 	}
 
+	@Test
+	void should_TransliterateReplaceLongestCharacters() throws Exception {
+
+		// Arrange
+		TransliterableUTF8CharacterSet charSet = TransliterableUTF8CharacterSet
+				.from(createProviderFromXml("/charsetWitCustomMapping.xml"));
+
+		// Act + Assert
+		assertEquals("A(BC-C", charSet.transliterate("A\u030BC\u0300BC-C\u0304"));
+		assertEquals("CA", charSet.transliterate(new StringBuilder("C\u0304A")));
+		assertEquals("C\u0301", charSet.transliterate("C\u0301"));
+		assertNull(charSet.transliterate(null));
+	}
+
+	@Test
+	void should_TransliterateReturnSameInstance_when_NothingChanges() throws Exception {
+
+		// Arrange
+		TransliterableUTF8CharacterSet charSet = TransliterableUTF8CharacterSet
+				.from(createProviderFromXml("/veryShortCharset.xml"));
+		String text = "ABC-\uD83D\uDE00";
+
+		// Act + Assert
+		assertSame(text, charSet.transliterate(text));
+	}
+
+	@Test
+	void should_TransliterateAppendToAppendable() throws Exception {
+
+		// Arrange
+		TransliterableUTF8CharacterSet charSet = TransliterableUTF8CharacterSet
+				.from(createProviderFromXml("/veryShortCharset.xml"));
+		StringBuilder out = new StringBuilder(">");
+
+		// Act
+		charSet.transliterate("BC\u0300A\u030B", out);
+
+		// Assert
+		assertEquals(">BCA", out.toString());
+	}
+
+	@Test
+	void should_WithOverridesShareItemsAndReplaceTransliterations() throws Exception {
+
+		// Arrange
+		TransliterableUTF8CharacterSet charSet = TransliterableUTF8CharacterSet
+				.from(createProviderFromXml("/veryShortCharset.xml"));
+		Map<String, String> overrides = new HashMap<>();
+		overrides.put("C\u0300", "K");
+		overrides.put("\u00F6", "OE");
+
+		// Act
+		TransliterableUTF8CharacterSet result = charSet.withOverrides(overrides);
+
+		// Assert
+		assertEquals("BKAOE", result.transliterate("BC\u0300A\u030B\u00F6"));
+		assertEquals("BCA\u00F6", charSet.transliterate("BC\u0300A\u030B\u00F6"));
+		assertEquals(charSet.size() + 1, result.size());
+		assertTrue(result.transliterableCharacters().contains("\u00F6"));
+	}
+
+	@Test
+	void should_ReadCreateSameSetAsFactoryMethod() throws Exception {
+
+		// Arrange
+		TransliterableUTF8CharacterSet expected = TransliterableUTF8CharacterSet
+				.from(createProviderFromXml("/charsetWitCustomMapping.xml"));
+
+		try (InputStream in = getClass().getResourceAsStream("/charsetWitCustomMapping.xml")) {
+
+			// Act
+			TransliterableUTF8CharacterSet result = TransliterableUTF8CharacterSet.read(in);
+
+			// Assert
+			assertEquals(expected.size(), result.size());
+			assertEquals(expected.transliterableCharacters(), result.transliterableCharacters());
+			assertEquals("A(BC-C", result.transliterate("A\u030BC\u0300BC-C\u0304"));
+		}
+	}
+
+	@Test
+	void should_ComposeKeepSupplementaryCharacters() {
+
+		// Arrange
+		Map<String, String> transliterations = new HashMap<>();
+		transliterations.put("\uD83D\uDE00", ":-)");
+		transliterations.put("A", "\uD835\uDC00");
+		CharacterTransliterationProvider provider = new CharacterTransliterationProvider() {
+
+			@Override
+			public String printableTransliteratedCharacter(String givenPrintableCharacter) {
+				return transliterations.get(givenPrintableCharacter);
+			}
+
+			@Override
+			public Set<String> transliterableCharacters() {
+				return transliterations.keySet();
+			}
+
+			@Override
+			public String name() {
+				return "Horst";
+			}
+		};
+
+		// Act
+		TransliterableUTF8CharacterSet composed = TransliterableUTF8CharacterSet.compose("composed",
+				Collections.singletonList(provider));
+		TransliterableUTF8CharacterSet composedAgain = TransliterableUTF8CharacterSet.compose("again",
+				Collections.singletonList(composed));
+
+		// Assert
+		assertEquals(transliterations.keySet(), composed.transliterableCharacters());
+		assertEquals(transliterations.keySet(), composedAgain.transliterableCharacters());
+		assertEquals(":-)\uD835\uDC00", composedAgain.transliterate("\uD83D\uDE00A"));
+		assertEquals(Collections.singletonList("\uD83D\uDE00"),
+				new ReverseTransliterationIndex(composed).originals(":-)"));
+	}
+
+	@Test
+	void should_DefaultTransliterateUseSingleCharacters() {
+
+		// Arrange
+		CharacterTransliterationProvider provider = new CharacterTransliterationProvider() {
+
+			@Override
+			public String printableTransliteratedCharacter(String givenPrintableCharacter) {
+				return "ß".equals(givenPrintableCharacter) ? "SS" : null;
+			}
+
+			@Override
+			public String name() {
+				return "Horst";
+			}
+		};
+
+		// Act + Assert
+		assertEquals("STRASSE", provider.transliterate("STRAßE"));
+	}
+
+	@Test
+	void should_FromCompiledCreateSameSetAsFactoryMethod() throws Exception {
+
+		// Arrange
+		TransliterableUTF8CharacterSet expected = TransliterableUTF8CharacterSet
+				.from(createProviderFromXml("/defaultTransliterableCharacterSet.xml"));
+		String text = String.join("", expected.transliterableCharacters());
+
+		// Act
+		TransliterableUTF8CharacterSet result = TransliterableUTF8CharacterSet
+				.fromCompiled(DefaultTransliterableCharacterSetTable.INSTANCE);
+
+		// Assert
+		assertEquals(expected.name(), result.name());
+		assertEquals(expected.size(), result.size());
+		assertEquals(expected.transliterableCharacters(), result.transliterableCharacters());
+		assertEquals(expected.transliterate(text), result.transliterate(text));
+		assertEquals(expected.size() + 1, result.withOverrides(Collections.singletonMap("\u2603", "*")).size());
+	}
+
+	@Test
+	void should_FromCompiledThrowException_when_ArgumentNull() {
+
+		try {
+			TransliterableUTF8CharacterSet.fromCompiled(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("compiledSet must not be null", e.getMessage());
+		}
+	}
+
 	/**
 	 * @param classPathResource
 	 * @return
@@ -148,4 +148,34 @@ public class TransliterableUTF8CharacterTest {
 		assertEquals("C", result.transliterated());
 
 	}
+
+	@Test
+	void should_HandleSupplementaryCodePoints() {
+
+		// Arrange
+		MappableCharacter provider = new MappableCharacter() {
+
+			@Override
+			public char getSeparationChar() {
+				return ' ';
+			}
+
+			@Override
+			public String getMapping() {
+				return "1D400";
+			}
+
+			@Override
+			public String getCodePoint() {
+				return "1F600 0300";
+			}
+		};
+
+		// Act
+		TransliterableUTF8Character result = new TransliterableUTF8Character(provider);
+
+		// Assert
+		assertEquals("\uD83D\uDE00\u0300", result.asUtf8());
+		assertEquals("\uD835\uDC00", result.transliterated());
+	}
 }
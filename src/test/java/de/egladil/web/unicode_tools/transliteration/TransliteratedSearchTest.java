@@ -0,0 +1,114 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.internal.TransliterableUTF8CharacterSetFactory;
+
+/**
+ * TransliteratedSearchTest
+ */
+public class TransliteratedSearchTest {
+
+	private static final TransliterableUTF8CharacterSet CHARACTER_SET = new TransliterableUTF8CharacterSetFactory()
+			.createCharacterSet();
+
+	@Test
+	void should_CompileThrowException_when_NeedleNull() {
+
+		try {
+			CHARACTER_SET.compileSearch(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("needle must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_IndexOfReturnOriginalOffset() {
+
+		// Arrange
+		TransliteratedSearch search = CHARACTER_SET.compileSearch("muehl");
+
+		// Act + Assert
+		assertEquals("MUEHL", search.transliteratedNeedle());
+		assertEquals(5, search.indexOf("Hof, Mühlbach"));
+		assertEquals(0, search.indexOf("MUEHLE"));
+		assertEquals(-1, search.indexOf("Mühe"));
+	}
+
+	@Test
+	void should_IndexOfFindOccurrenceStartingInsideTransliteration() {
+
+		// Arrange
+		TransliteratedSearch search = CHARACTER_SET.compileSearch("SSE");
+
+		// Act + Assert
+		assertEquals(5, search.indexOf("Strasße"));
+		assertEquals(6, search.indexOf("Str C̀ßE"));
+		assertEquals(3, search.indexOf("Stßße"));
+	}
+
+	@Test
+	void should_IndexOfRestartWithFailureFunction() {
+
+		// Arrange
+		TransliteratedSearch search = CHARACTER_SET.compileSearch("ABAC");
+
+		// Act + Assert
+		assertEquals(2, search.indexOf("abàbac"));
+		assertTrue(search.contains("ABABAC"));
+		assertFalse(search.contains("ABABA"));
+		assertEquals(0, CHARACTER_SET.compileSearch("").indexOf("x"));
+	}
+
+	@Test
+	void should_ContainsEqualTransliteratedContains() {
+
+		// Arrange
+		String[] haystacks = { "Heike Winkelvoß", "Mühlbach", "C̀arl", "Straße", "STRASSE", "" };
+		String[] needles = { "SS", "ß", "ühl", "C̀A", "carl", "ssE", "x" };
+
+		for (String needle : needles) {
+
+			TransliteratedSearch search = CHARACTER_SET.compileSearch(needle);
+
+			for (String haystack : haystacks) {
+
+				// Act + Assert
+				assertEquals(needle + " in " + haystack,
+						CHARACTER_SET.transliterate(haystack).contains(CHARACTER_SET.transliterate(needle)),
+						search.contains(haystack));
+			}
+		}
+	}
+}
@@ -0,0 +1,82 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.internal.TransliterableUTF8CharacterSetFactory;
+
+/**
+ * TransliteratingChannelsTest
+ */
+public class TransliteratingChannelsTest {
+
+	private static final TransliterableUTF8CharacterSet CHARACTER_SET = new TransliterableUTF8CharacterSetFactory()
+			.createCharacterSet();
+
+	@Test
+	void should_TransliterateCopyChannel() throws IOException {
+
+		// Arrange
+		String text = TransliteratingReaderTest.createText();
+		String expected = CHARACTER_SET.transliterate(text);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// Act
+		long written = TransliteratingChannels.transliterate(
+				Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))),
+				Channels.newChannel(out), CHARACTER_SET);
+
+		// Assert
+		assertEquals(expected.length(), written);
+		assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void should_NewWriterWriteUTF8() throws IOException {
+
+		// Arrange
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// Act
+		try (TransliteratingWriter writer = TransliteratingChannels.newWriter(Channels.newChannel(out),
+				CHARACTER_SET)) {
+			writer.write("Winkelvoß C");
+			writer.write("̀arl");
+		}
+
+		// Assert
+		assertEquals("WINKELVOSS CARL", new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,144 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.internal.TransliterableUTF8CharacterSetFactory;
+
+/**
+ * TransliteratingReaderTest
+ */
+public class TransliteratingReaderTest {
+
+	private static final TransliterableUTF8CharacterSet CHARACTER_SET = new TransliterableUTF8CharacterSetFactory()
+			.createCharacterSet();
+
+	@Test
+	void should_ConstructorThrowException_when_InNull() {
+
+		try {
+			new TransliteratingReader(null, CHARACTER_SET);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("in must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_ConstructorThrowException_when_BufferTooSmall() {
+
+		try {
+			new TransliteratingReader(new StringReader(""), CHARACTER_SET, 11);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("bufferSize must be at least 12", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_ReadTransliterate_when_CombinedCodePointsSpanBuffers() throws IOException {
+
+		// Arrange
+		String text = createText();
+
+		for (int bufferSize = 12; bufferSize < 24; bufferSize++) {
+
+			StringBuilder result = new StringBuilder();
+
+			// Act
+			try (Reader reader = new TransliteratingReader(new StringReader(text), CHARACTER_SET, bufferSize)) {
+
+				char[] chars = new char[3];
+				int read;
+
+				while ((read = reader.read(chars)) >= 0) {
+					result.append(chars, 0, read);
+				}
+			}
+
+			// Assert
+			assertEquals("bufferSize " + bufferSize, CHARACTER_SET.transliterate(text), result.toString());
+		}
+	}
+
+	@Test
+	void should_ReadSingleCharsAndSkip() throws IOException {
+
+		// Arrange
+		StringBuilder result = new StringBuilder();
+
+		// Act
+		try (Reader reader = new TransliteratingReader(new StringReader("ßC̀arl Mühlbach"), CHARACTER_SET, 12)) {
+
+			assertEquals(5, reader.skip(5));
+			int c;
+
+			while ((c = reader.read()) >= 0) {
+				result.append((char) c);
+			}
+		}
+
+		// Assert
+		assertEquals("L MUEHLBACH", result.toString());
+	}
+
+	@Test
+	void should_MarkNotBeSupported() throws IOException {
+
+		// Arrange
+		try (Reader reader = new TransliteratingReader(new StringReader("A"), CHARACTER_SET)) {
+
+			// Act + Assert
+			assertFalse(reader.markSupported());
+
+			try {
+				reader.reset();
+				fail("no IOException");
+			} catch (IOException e) {
+				assertEquals("reset not supported", e.getMessage());
+			}
+		}
+	}
+
+	static String createText() {
+
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < 50; i++) {
+			sb.append("Heike Winkelvoß, Mühlbach, C̀arl ").append(i).append('\n');
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,111 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.internal.TransliterableUTF8CharacterSetFactory;
+
+/**
+ * TransliteratingWriterTest
+ */
+public class TransliteratingWriterTest {
+
+	private static final TransliterableUTF8CharacterSet CHARACTER_SET = new TransliterableUTF8CharacterSetFactory()
+			.createCharacterSet();
+
+	@Test
+	void should_ConstructorThrowException_when_OutNull() {
+
+		try {
+			new TransliteratingWriter(null, CHARACTER_SET);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("out must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_WriteTransliterate_when_CombinedCodePointsSpanWrites() throws IOException {
+
+		// Arrange
+		String text = TransliteratingReaderTest.createText();
+		StringWriter out = new StringWriter();
+
+		// Act
+		try (TransliteratingWriter writer = new TransliteratingWriter(out, CHARACTER_SET)) {
+
+			for (int i = 0; i < text.length(); i += 3) {
+				writer.write(text, i, Math.min(3, text.length() - i));
+			}
+		}
+
+		// Assert
+		assertEquals(CHARACTER_SET.transliterate(text), out.toString());
+	}
+
+	@Test
+	void should_FlushHoldBackPossibleCombinedCodePoint() throws IOException {
+
+		// Arrange
+		StringWriter out = new StringWriter();
+		TransliteratingWriter writer = new TransliteratingWriter(out, CHARACTER_SET);
+
+		// Act
+		writer.write("Mühlbach C");
+		writer.flush();
+		String flushed = out.toString();
+		writer.write('̀');
+		writer.finish();
+
+		// Assert
+		assertEquals("MUEHLB", flushed);
+		assertEquals("MUEHLBACH C", out.toString());
+		writer.close();
+	}
+
+	@Test
+	void should_WriteThrowException_when_Closed() throws IOException {
+
+		// Arrange
+		TransliteratingWriter writer = new TransliteratingWriter(new StringWriter(), CHARACTER_SET);
+		writer.close();
+
+		// Act
+		try {
+			writer.write("A");
+			fail("no IOException");
+		} catch (IOException e) {
+			assertEquals("Stream closed", e.getMessage());
+		}
+	}
+}
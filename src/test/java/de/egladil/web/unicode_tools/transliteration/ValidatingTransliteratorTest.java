@@ -0,0 +1,142 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.transliteration;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.internal.TransliterableUTF8CharacterSetFactory;
+import de.egladil.web.unicode_tools.validation.JAXBContextProvider;
+import de.egladil.web.unicode_tools.validation.ValidatableUTF8CharacterSet;
+import de.egladil.web.unicode_tools.xml.DefaultCharacterSet;
+
+/**
+ * ValidatingTransliteratorTest
+ */
+public class ValidatingTransliteratorTest {
+
+	private static final TransliterableUTF8CharacterSet CHARACTER_SET = new TransliterableUTF8CharacterSetFactory()
+			.createCharacterSet();
+
+	private static final String TEXT = "Mühlbach 中😀, C̀arl";
+
+	@Test
+	void should_ConstructorThrowException_when_ReplacementMissing() {
+
+		try {
+			new ValidatingTransliterator(CHARACTER_SET, UnknownCharacterPolicy.REPLACE);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("replacement must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_TransliterateValidText() {
+
+		// Act
+		TransliterationResult result = new ValidatingTransliterator(CHARACTER_SET, UnknownCharacterPolicy.REJECT)
+				.transliterate("Mühlbach, C̀arl");
+
+		// Assert
+		assertTrue(result.isValid());
+		assertEquals("MUEHLBACH, CARL", result.getTransliteration());
+	}
+
+	@Test
+	void should_TransliterateReject() {
+
+		// Act
+		TransliterationResult result = new ValidatingTransliterator(CHARACTER_SET, UnknownCharacterPolicy.REJECT)
+				.transliterate(TEXT);
+
+		// Assert
+		assertFalse(result.isValid());
+		assertNull(result.getTransliteration());
+		assertArrayEquals(new int[] { 9, 10 }, result.getViolationIndexes());
+	}
+
+	@Test
+	void should_TransliterateDropKeepAndReplace() {
+
+		// Act + Assert
+		assertEquals("MUEHLBACH , CARL",
+				new ValidatingTransliterator(CHARACTER_SET, UnknownCharacterPolicy.DROP).transliterate(TEXT)
+						.getTransliteration());
+		assertEquals("MUEHLBACH 中😀, CARL",
+				new ValidatingTransliterator(CHARACTER_SET, UnknownCharacterPolicy.KEEP).transliterate(TEXT)
+						.getTransliteration());
+
+		TransliterationResult replaced = new ValidatingTransliterator(CHARACTER_SET, UnknownCharacterPolicy.REPLACE,
+				"?").transliterate(TEXT);
+		assertEquals("MUEHLBACH ??, CARL", replaced.getTransliteration());
+		assertEquals(2, replaced.getViolationCount());
+	}
+
+	@Test
+	void should_TransliterateKeepValidCharacters_when_MappingMissingOrUnparseable() throws JAXBException {
+
+		// Arrange
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><characterSet><name>PARTIAL</name>"
+				+ "<character><codepoint>0041</codepoint><mapping>0041</mapping></character>"
+				+ "<character><codepoint>00E4</codepoint><mapping>0041 0045</mapping></character>"
+				+ "<character><codepoint>0042</codepoint></character>"
+				+ "<character><codepoint>0043</codepoint><mapping>XYZ</mapping></character>"
+				+ "</characterSet>";
+		Unmarshaller unmarshaller = JAXBContextProvider.getJACBContext().createUnmarshaller();
+		DefaultCharacterSet xmlSet = unmarshaller
+				.unmarshal(new StreamSource(new StringReader(xml)), DefaultCharacterSet.class).getValue();
+		TransliterableUTF8CharacterSet characterSet = TransliterableUTF8CharacterSet.from(xmlSet);
+		ValidatableUTF8CharacterSet validatableSet = ValidatableUTF8CharacterSet.from(xmlSet);
+
+		// Act
+		TransliterationResult withoutProvider = new ValidatingTransliterator(characterSet,
+				UnknownCharacterPolicy.REJECT).transliterate("AäBCD");
+		TransliterationResult withProvider = new ValidatingTransliterator(characterSet, validatableSet,
+				UnknownCharacterPolicy.REJECT, null).transliterate("AäBC");
+		TransliterationResult invalid = new ValidatingTransliterator(characterSet, validatableSet,
+				UnknownCharacterPolicy.REPLACE, "?").transliterate("AäBCD");
+
+		// Assert
+		assertArrayEquals(new int[] { 2, 3, 4 }, withoutProvider.getViolationIndexes());
+		assertTrue(withProvider.isValid());
+		assertEquals("AAEBC", withProvider.getTransliteration());
+		assertArrayEquals(new int[] { 4 }, invalid.getViolationIndexes());
+		assertEquals("AAEBC?", invalid.getTransliteration());
+	}
+}
@@ -26,7 +26,10 @@
 package de.egladil.web.unicode_tools.validation;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.lang.management.ManagementFactory;
 import java.util.Set;
 
 import javax.validation.ConstraintViolation;
@@ -95,4 +98,39 @@ public class AbstractUnicodeSubsetValidationTest {
 		assertEquals(testString, invalidValue);
 		assertEquals("enthält ungültige Zeichen: р,ή,ί,α,д,е,ε,ж,и,ι,л,н,ν,о,п", violation.getMessage());
 	}
+
+	@Test
+	void should_NotAllocate_when_ValueValid() {
+
+		// Arrange
+		java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+		assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+		allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+		TransliterableUnicodeStringValidator stringValidator = new TransliterableUnicodeStringValidator();
+		String testString = "Heike Winkelvoß, Am Mühlbach 12, 38100 Braunschweig C\u0300";
+		int iterations = 10000;
+		boolean valid = true;
+
+		for (int i = 0; i < iterations; i++) {
+			valid &= stringValidator.isValid(testString, null);
+		}
+
+		long threadId = Thread.currentThread().getId();
+
+		// Act
+		long before = allocationBean.getThreadAllocatedBytes(threadId);
+
+		for (int i = 0; i < iterations; i++) {
+			valid &= stringValidator.isValid(testString, null);
+		}
+
+		long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+		// Assert
+		assertTrue(valid);
+		assertTrue("allocated " + allocated + " bytes", allocated < iterations);
+	}
 }
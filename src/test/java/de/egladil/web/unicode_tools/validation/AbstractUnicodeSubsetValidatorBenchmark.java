@@ -0,0 +1,106 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.validation;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * AbstractUnicodeSubsetValidatorBenchmark measures the validation of a valid
+ * value. Run main to execute it with the GC profiler: it fails, if the
+ * validation of a valid value allocates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AbstractUnicodeSubsetValidatorBenchmark {
+
+	private static final double MAX_BYTES_PER_OPERATION = 1.0;
+
+	private TransliterableUnicodeStringValidator validator;
+
+	private String validValue;
+
+	@Setup
+	public void setUp() {
+		validator = new TransliterableUnicodeStringValidator();
+		validValue = "Heike Winkelvoß, Am Mühlbach 12, 38100 Braunschweig C\u0300";
+
+		if (!validator.isValid(validValue, null)) {
+			throw new IllegalStateException("validValue is not valid");
+		}
+	}
+
+	@Benchmark
+	public boolean isValidWithValidValue() {
+		return validator.isValid(validValue, null);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		Options options = new OptionsBuilder().include(AbstractUnicodeSubsetValidatorBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build();
+
+		Collection<RunResult> results = new Runner(options).run();
+
+		for (RunResult runResult : results) {
+
+			Result<?> allocation = runResult.getSecondaryResults().get("·gc.alloc.rate.norm");
+
+			// without the result of the GC profiler the gate would pass unchecked.
+			if (allocation == null) {
+				throw new IllegalStateException("no allocation rate measured for "
+						+ runResult.getParams().getBenchmark() + ", available are " + runResult.getSecondaryResults().keySet());
+			}
+
+			if (allocation.getScore() > MAX_BYTES_PER_OPERATION) {
+				throw new IllegalStateException(
+						"validation of a valid value allocates " + allocation.getScore() + " bytes per operation");
+			}
+		}
+	}
+}
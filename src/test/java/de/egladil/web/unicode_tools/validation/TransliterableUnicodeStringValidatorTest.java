@@ -119,4 +119,33 @@ public class TransliterableUnicodeStringValidatorTest {
 		assertEquals(testString, invalidValue);
 		assertEquals("enthält ungültige Zeichen: р,ρ,χ,э,ή,ί,д,е,ж,и,л,н,о,п", violation.getMessage());
 	}
+
+	@Test
+	void should_LetPassCombinedCodePoints_when_ContainedAsUnit() {
+
+		// Arrange
+		String testString = "Bernd C\u0300arl M\u0306ller";
+
+		// Act
+		Set<ConstraintViolation<TestStringProvider>> violations = validator
+				.validate(new TestStringProvider(testString));
+
+		// Assert
+		assertEquals(0, violations.size());
+	}
+
+	@Test
+	void should_NotSplitSurrogatePairs() {
+
+		// Arrange
+		String testString = "Smiley \uD83D\uDE00";
+
+		// Act
+		Set<ConstraintViolation<TestStringProvider>> violations = validator
+				.validate(new TestStringProvider(testString));
+
+		// Assert
+		assertEquals(1, violations.size());
+		assertEquals("enthält ungültige Zeichen: \uD83D\uDE00", violations.iterator().next().getMessage());
+	}
 }
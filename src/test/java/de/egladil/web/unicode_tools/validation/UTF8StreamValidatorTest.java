@@ -0,0 +1,164 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.xml.DefaultCharacterSet;
+
+/**
+ * UTF8StreamValidatorTest
+ */
+public class UTF8StreamValidatorTest {
+
+	private static ValidatableUTF8CharacterSet characterSet;
+
+	@BeforeAll
+	static void loadCharacterSet() throws Exception {
+
+		try (InputStream in = UTF8StreamValidatorTest.class.getResourceAsStream("/veryShortCharset.xml")) {
+
+			Unmarshaller unmarshaller = JAXBContextProvider.getJACBContext().createUnmarshaller();
+			characterSet = ValidatableUTF8CharacterSet
+					.from(unmarshaller.unmarshal(new StreamSource(in), DefaultCharacterSet.class).getValue());
+		}
+	}
+
+	@Test
+	void should_ConstructorThrowException_when_BufferTooSmall() {
+
+		try {
+			new UTF8StreamValidator(characterSet, 3);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("bufferSize must be at least 8", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_ValidateReportLinesAndColumns() throws Exception {
+
+		// Arrange
+		List<CharacterViolation> violations = new ArrayList<>();
+
+		// Act
+		long result = new UTF8StreamValidator(characterSet).validate(new StringReader("ABC\u0300D\nAB\nX\uD83D\uDE00"),
+				violations::add);
+
+		// Assert
+		assertEquals(5, result);
+		assertEquals(Arrays.asList(new CharacterViolation(1, 4, 'D'), new CharacterViolation(1, 5, '\n'),
+				new CharacterViolation(2, 3, '\n'), new CharacterViolation(3, 1, 'X'),
+				new CharacterViolation(3, 2, 0x1F600)), violations);
+	}
+
+	@Test
+	void should_ValidateCountLines_when_EndedByCarriageReturnOrSeparator() throws Exception {
+
+		// Arrange
+		List<CharacterViolation> violations = new ArrayList<>();
+
+		// Act
+		long result = new UTF8StreamValidator(characterSet)
+				.validate(new StringReader("A\rB\r\nA\u2028B\u2029X"), violations::add);
+
+		// Assert
+		assertEquals(6, result);
+		assertEquals(Arrays.asList(new CharacterViolation(1, 2, '\r'), new CharacterViolation(2, 2, '\r'),
+				new CharacterViolation(3, 1, '\n'), new CharacterViolation(3, 2, 0x2028),
+				new CharacterViolation(4, 2, 0x2029), new CharacterViolation(5, 1, 'X')), violations);
+	}
+
+	@Test
+	void should_ValidateMatchCombinedCodePoints_when_SpanningBufferBoundary() throws Exception {
+
+		// Arrange
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < 100; i++) {
+			sb.append("ABC\u0300C\u0304");
+		}
+		List<CharacterViolation> violations = new ArrayList<>();
+		UTF8StreamValidator validator = new UTF8StreamValidator(characterSet, 8);
+
+		// Act
+		long result = validator.validate(new StringReader(sb.toString()), violations::add);
+
+		// Assert
+		assertEquals(0, result);
+		assertEquals(0, violations.size());
+	}
+
+	@Test
+	void should_ValidateReportMalformedBytes() throws Exception {
+
+		// Arrange
+		byte[] bytes = new byte[] { 'A', (byte) 0xC3, 'B' };
+		List<CharacterViolation> fromStream = new ArrayList<>();
+		List<CharacterViolation> fromChannel = new ArrayList<>();
+		UTF8StreamValidator validator = new UTF8StreamValidator(characterSet);
+
+		// Act
+		validator.validate(new ByteArrayInputStream(bytes), fromStream::add);
+		validator.validate(Channels.newChannel(new ByteArrayInputStream(bytes)), fromChannel::add);
+
+		// Assert
+		assertEquals(Arrays.asList(new CharacterViolation(1, 2, 0xFFFD)), fromStream);
+		assertEquals(fromStream, fromChannel);
+		assertEquals("CharacterViolation [line=1, column=2, codePoint=FFFD]", fromStream.get(0).toString());
+	}
+
+	@Test
+	void should_ValidateStreamOfBytes() throws Exception {
+
+		// Arrange
+		List<CharacterViolation> violations = new ArrayList<>();
+
+		// Act
+		long result = new UTF8StreamValidator(characterSet)
+				.validate(new ByteArrayInputStream("ABÄ".getBytes(StandardCharsets.UTF_8)), violations::add);
+
+		// Assert
+		assertEquals(1, result);
+		assertEquals("Ä", violations.get(0).printableCharacter());
+	}
+}
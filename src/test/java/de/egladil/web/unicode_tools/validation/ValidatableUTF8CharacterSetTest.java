@@ -32,6 +32,8 @@ import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -42,6 +44,7 @@ import org.junit.jupiter.api.Test;
 
 import de.egladil.web.unicode_tools.UTF8Codepoint;
 import de.egladil.web.unicode_tools.UTF8SubsetSetName;
+import de.egladil.web.unicode_tools.generated.EuropeanWhitelistTable;
 import de.egladil.web.unicode_tools.xml.DefaultCharacterSet;
 import de.egladil.web.unicode_tools.xml.mapping.MappableCharacter;
 import de.egladil.web.unicode_tools.xml.mapping.MappableCharacterSet;
@@ -177,6 +180,60 @@ public class ValidatableUTF8CharacterSetTest {
 		// Assert
 		assertTrue(result.isPrintableCharacterValid("C̀"));
 		assertTrue(result.isUTF8CodepointValid(new UTF8Codepoint("0043 0300")));
+		assertTrue(result.isPrintableCharacterValid("A"));
+		assertTrue(result.isCodePointValid('A'));
+		assertFalse(result.isPrintableCharacterValid("D"));
+		assertFalse(result.isCodePointValid('D'));
+		assertFalse(result.isPrintableCharacterValid("B̀"));
+	}
+
+	@Test
+	void should_MatchLengthPreferCombinedCodePoints() throws Exception {
+
+		// Arrange
+		ValidatableUTF8CharacterSet charSet = ValidatableUTF8CharacterSet
+				.from(createProviderFromXml("/veryShortCharset.xml"));
+
+		// Act + Assert
+		assertEquals(2, charSet.matchLength("AC\u0300B", 1));
+		assertEquals(2, charSet.matchLength("A\u030B", 0));
+		assertEquals(1, charSet.matchLength("AC\u0301B", 1));
+		assertEquals(0, charSet.matchLength("AB\u0300", 2));
+		assertEquals(0, charSet.matchLength("\uD83D\uDE00", 0));
+	}
+
+	@Test
+	void should_IndexOfInvalidByteFindFirstInvalidCharacter() throws Exception {
+
+		// Arrange
+		ValidatableUTF8CharacterSet charSet = ValidatableUTF8CharacterSet
+				.from(createProviderFromXml("/veryShortCharset.xml"));
+		byte[] bytes = "ABC\u0300C\u0304AD".getBytes(StandardCharsets.UTF_8);
+
+		// Act + Assert
+		assertEquals(9, charSet.indexOfInvalidByte(bytes));
+		assertEquals(-1, charSet.indexOfInvalidByte(bytes, 0, 9));
+		assertEquals(-1, charSet.indexOfInvalidByte(new byte[0]));
+		assertEquals(1, charSet.indexOfInvalidByte(new byte[] { 'A', (byte) 0xC3, 'B' }));
+	}
+
+	@Test
+	void should_IndexOfInvalidByteRespectPositionAndLimit_when_DirectBuffer() throws Exception {
+
+		// Arrange
+		ValidatableUTF8CharacterSet charSet = ValidatableUTF8CharacterSet
+				.from(createProviderFromXml("/veryShortCharset.xml"));
+		byte[] bytes = "DAB\u0300A".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes);
+		buffer.position(1);
+
+		// Act + Assert
+		assertEquals(3, charSet.indexOfInvalidByte(buffer));
+		assertEquals(1, buffer.position());
+
+		buffer.limit(3);
+		assertEquals(-1, charSet.indexOfInvalidByte(buffer));
 	}
 
 	/**
@@ -205,6 +262,63 @@ public class ValidatableUTF8CharacterSetTest {
 		return provider;
 	}
 
+	@Test
+	void should_ReadCreateSameSetAsFactoryMethod() throws Exception {
+
+		// Arrange
+		ValidatableUTF8CharacterSet expected = ValidatableUTF8CharacterSet
+				.from(createProviderFromXml("/defaultTransliterableCharacterSet.xml"));
+
+		try (InputStream in = getClass().getResourceAsStream("/defaultTransliterableCharacterSet.xml")) {
+
+			// Act
+			ValidatableUTF8CharacterSet result = ValidatableUTF8CharacterSet.read(in);
+
+			// Assert
+			assertEquals(expected.name(), result.name());
+			assertEquals(expected.size(), result.size());
+			assertEquals(expected.maxItemLength(), result.maxItemLength());
+			assertTrue(result.isPrintableCharacterValid("\u00C4"));
+			assertTrue(result.isPrintableCharacterValid("C\u0300"));
+		}
+	}
+
+	@Test
+	void should_FromCompiledCreateSameSetAsFactoryMethod() throws Exception {
+
+		// Arrange
+		ValidatableUTF8CharacterSet expected;
+
+		try (InputStream in = getClass().getResourceAsStream("/europeanWhitelist.xml")) {
+			expected = ValidatableUTF8CharacterSet.read(in);
+		}
+
+		// Act
+		ValidatableUTF8CharacterSet result = ValidatableUTF8CharacterSet.fromCompiled(EuropeanWhitelistTable.INSTANCE);
+
+		// Assert
+		assertEquals(expected.name(), result.name());
+		assertEquals(expected.size(), result.size());
+		assertEquals(expected.maxItemLength(), result.maxItemLength());
+		assertEquals(expected.validCharacters(), result.validCharacters());
+		assertTrue(result.isPrintableCharacterValid("\u00C4"));
+		assertTrue(result.isPrintableCharacterValid("\u1EE4\u0308"));
+		assertFalse(result.isPrintableCharacterValid("\u2603"));
+		assertTrue(result.isUTF8CodepointValid(new UTF8Codepoint("1EE4 0308")));
+		assertFalse(result.isUTF8CodepointValid(new UTF8Codepoint("2603")));
+	}
+
+	@Test
+	void should_FromCompiledThrowException_when_ArgumentNull() {
+
+		try {
+			ValidatableUTF8CharacterSet.fromCompiled(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("compiledSet must not be null", e.getMessage());
+		}
+	}
+
 	@Test
 	void shouldIsPrintableCharacterValidReturnTrue_when_ParameterNull() {
 
@@ -0,0 +1,127 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.exceptions.UnicodeToolsException;
+
+/**
+ * ValidationProviderRegistryTest
+ */
+public class ValidationProviderRegistryTest {
+
+	@Test
+	void should_GetValidationProviderThrowException_when_LocationNull() {
+
+		try {
+			ValidationProviderRegistry.getValidationProvider(null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("whitelistLocation must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_GetValidationProviderThrowException_when_ResourceMissing() {
+
+		try {
+			ValidationProviderRegistry.getValidationProvider("/notExistingWhitelist.xml");
+			fail("no UnicodeToolsException");
+		} catch (UnicodeToolsException e) {
+			// ok
+		}
+	}
+
+	@Test
+	void should_GetValidationProviderReturnSameInstance_when_CalledTwice() {
+
+		// Act
+		ValidationProvider first = ValidationProviderRegistry.getValidationProvider("/veryShortCharset.xml");
+		ValidationProvider second = ValidationProviderRegistry.getValidationProvider("/veryShortCharset.xml");
+
+		// Assert
+		assertSame(first, second);
+		assertEquals("VERY_SHORT_CHARSET", first.name());
+		assertEquals(6, first.size());
+	}
+
+	@Test
+	void should_GetValidationProviderDistinguishLocations() {
+
+		// Act
+		ValidationProvider european = ValidationProviderRegistry.getValidationProvider("/europeanWhitelist.xml");
+		ValidationProvider latinBased = ValidationProviderRegistry.getValidationProvider("/latinBasedCharacterSet.xml");
+
+		// Assert
+		assertNotSame(european, latinBased);
+		assertEquals(725, european.size());
+	}
+
+	@Test
+	void should_GetValidationProviderDistinguishClassLoaders() throws Exception {
+
+		// Arrange
+		Path directory = Files.createTempDirectory("unicode-tools-registry");
+		Path whitelist = directory.resolve("europeanWhitelist.xml");
+
+		try (InputStream in = getClass().getResourceAsStream("/veryShortCharset.xml")) {
+			Files.copy(in, whitelist);
+		}
+
+		URL testClasses = getClass().getProtectionDomain().getCodeSource().getLocation();
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL(), testClasses },
+				null)) {
+
+			Class<?> resourceOwner = classLoader.loadClass(getClass().getName());
+
+			// Act
+			ValidationProvider bundled = ValidationProviderRegistry.getValidationProvider("/europeanWhitelist.xml");
+			ValidationProvider shipped = ValidationProviderRegistry.getValidationProvider("/europeanWhitelist.xml",
+					resourceOwner);
+
+			// Assert
+			assertEquals(725, bundled.size());
+			assertEquals("VERY_SHORT_CHARSET", shipped.name());
+			assertSame(shipped, ValidationProviderRegistry.getValidationProvider("/europeanWhitelist.xml", resourceOwner));
+		} finally {
+			Files.delete(whitelist);
+			Files.delete(directory);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.egladil.web.unicode_tools.UTF8Codepoint;
+
+/**
+ * ValidationProviderTest
+ */
+public class ValidationProviderTest {
+
+	/**
+	 * Implements the methods of ValidationProvider that have no default only.
+	 */
+	private static class LetterValidationProvider implements ValidationProvider {
+
+		@Override
+		public boolean isPrintableCharacterValid(String givenPrintableCharacter) {
+			return givenPrintableCharacter.codePoints().allMatch(Character::isLetter);
+		}
+
+		@Override
+		public boolean isUTF8CodepointValid(UTF8Codepoint codePoint) {
+			return isPrintableCharacterValid(codePoint.utf8());
+		}
+
+		@Override
+		public String name() {
+			return "LETTERS";
+		}
+
+		@Override
+		public int size() {
+			return 0;
+		}
+	}
+
+	@Test
+	void should_DefaultIsCodePointValidCheckPrintableCharacter() {
+
+		// Arrange
+		ValidationProvider provider = new LetterValidationProvider();
+
+		// Act + Assert
+		assertTrue(provider.isCodePointValid('A'));
+		assertTrue(provider.isCodePointValid(0x1D400));
+		assertFalse(provider.isCodePointValid('-'));
+	}
+
+	@Test
+	void should_DefaultMatchLengthCheckSingleCodePoint() {
+
+		// Arrange
+		ValidationProvider provider = new LetterValidationProvider();
+		String text = "A\uD835\uDC00-";
+
+		// Act + Assert
+		assertEquals(1, provider.matchLength(text, 0));
+		assertEquals(2, provider.matchLength(text, 1));
+		assertEquals(0, provider.matchLength(text, 3));
+		assertEquals(3, provider.indexOfInvalidCharacter(text, 0));
+	}
+}
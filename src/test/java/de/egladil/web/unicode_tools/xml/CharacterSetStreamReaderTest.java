@@ -0,0 +1,134 @@
+//=====================================================
+// Projekt: unicode-tools
+// MIT License
+//
+// Copyright (c) 2020 Heike Winkelvoß
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//=====================================================
+
+package de.egladil.web.unicode_tools.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CharacterSetStreamReaderTest
+ */
+public class CharacterSetStreamReaderTest {
+
+	@Test
+	void should_ReadThrowException_when_InNull() {
+
+		try {
+			CharacterSetStreamReader.read(null, character -> {
+			});
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException | XMLStreamException e) {
+			assertEquals("in must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_ReadThrowException_when_ConsumerNull() {
+
+		try {
+			CharacterSetStreamReader.read(createStream("<characterSet/>"), null);
+			fail("no IllegalArgumentException");
+		} catch (IllegalArgumentException | XMLStreamException e) {
+			assertEquals("consumer must not be null", e.getMessage());
+		}
+	}
+
+	@Test
+	void should_ReadPassCharactersInDocumentOrder() throws Exception {
+
+		// Arrange
+		List<String> characters = new ArrayList<>();
+
+		try (InputStream in = getClass().getResourceAsStream("/veryShortCharset.xml")) {
+
+			// Act
+			String name = CharacterSetStreamReader.read(in,
+					character -> characters.add(character.getCodePoint() + ">" + character.getMapping()));
+
+			// Assert
+			assertEquals("VERY_SHORT_CHARSET", name);
+			assertEquals(6, characters.size());
+			assertEquals("0041>0041", characters.get(0));
+			assertEquals("0041 030B>0041", characters.get(1));
+			assertEquals("0043 0304>0043", characters.get(5));
+		}
+	}
+
+	@Test
+	void should_ReadAcceptAnyRootElement() throws Exception {
+
+		// Arrange
+		List<String> characters = new ArrayList<>();
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><whitelist><character><codepoint>00E4</codepoint>"
+				+ "</character><name>WHITELIST</name><character><mapping>0041</mapping><codepoint>00C4</codepoint>"
+				+ "<comment><codepoint>0000</codepoint></comment></character></whitelist>";
+
+		// Act
+		String name = CharacterSetStreamReader.read(createStream(xml),
+				character -> characters.add(character.getCodePoint() + ">" + character.getMapping()));
+
+		// Assert
+		assertEquals("WHITELIST", name);
+		assertEquals(2, characters.size());
+		assertEquals("00E4>null", characters.get(0));
+		assertEquals("00C4>0041", characters.get(1));
+	}
+
+	@Test
+	void should_ReadReturnNull_when_NameMissing() throws Exception {
+
+		// Act + Assert
+		assertNull(CharacterSetStreamReader.read(createStream("<characterSet></characterSet>"), character -> {
+		}));
+	}
+
+	@Test
+	void should_ReadThrowException_when_NotWellFormed() {
+
+		try {
+			CharacterSetStreamReader.read(createStream("<characterSet><character></characterSet>"), character -> {
+			});
+			fail("no XMLStreamException");
+		} catch (XMLStreamException e) {
+			// expected
+		}
+	}
+
+	private InputStream createStream(String xml) {
+		return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+	}
+}